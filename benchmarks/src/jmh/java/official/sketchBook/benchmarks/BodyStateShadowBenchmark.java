@@ -0,0 +1,113 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import official.sketchBook.engine.components_related.physics.BodyStateShadow;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static official.sketchBook.game.util_related.constants.GameConfigConstants.FIXED_TIMESTEP;
+
+/**
+ * Escritas por tick que os componentes de física fazem em cada corpo (rotação travada,
+ * escala de gravidade e limite de velocidade), direto no Box2D contra pela BodyStateShadow.
+ * Os corpos ficam pousados no chão, o caso comum de um mapa cheio de entidades paradas
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BodyStateShadowBenchmark {
+
+    /// Limite de velocidade usado no clamp, em metros por segundo
+    private static final float MAX_SPEED = 3f;
+
+    @Param({"100", "500"})
+    public int bodyCount;
+
+    @Param({"false", "true"})
+    public boolean shadowed;
+
+    private World world;
+    private Body[] bodies;
+    private BodyStateShadow[] shadows;
+    private final Vector2 velocity = new Vector2();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessEnvironment.init();
+
+        world = new World(new Vector2(0, -15f), true);
+
+        BodyDef groundDef = new BodyDef();
+        groundDef.type = BodyDef.BodyType.StaticBody;
+        Body ground = world.createBody(groundDef);
+
+        PolygonShape groundShape = new PolygonShape();
+        groundShape.setAsBox(bodyCount, 0.5f, new Vector2(bodyCount, -0.5f), 0);
+        ground.createFixture(groundShape, 0);
+        groundShape.dispose();
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(0.25f, 0.25f);
+
+        bodies = new Body[bodyCount];
+        shadows = new BodyStateShadow[bodyCount];
+
+        for (int i = 0; i < bodyCount; i++) {
+            BodyDef def = new BodyDef();
+            def.type = BodyDef.BodyType.DynamicBody;
+            def.position.set(i * 2f + 1f, 0.25f);
+
+            bodies[i] = world.createBody(def);
+            bodies[i].createFixture(shape, 1f);
+            shadows[i] = new BodyStateShadow();
+        }
+
+        shape.dispose();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public World tick() {
+        for (int i = 0; i < bodyCount; i++) {
+            if (shadowed) {
+                writeShadowed(bodies[i], shadows[i]);
+            } else {
+                writeDirect(bodies[i]);
+            }
+        }
+
+        world.step(FIXED_TIMESTEP, 8, 3);
+        BodyStateShadow.onWorldStepped();
+
+        return world;
+    }
+
+    private void writeDirect(Body body) {
+        body.setAngularVelocity(0);
+        body.setFixedRotation(true);
+
+        if (body.getGravityScale() != 1f) body.setGravityScale(1f);
+
+        velocity.set(body.getLinearVelocity());
+        body.setLinearVelocity(clamp(velocity.x), clamp(velocity.y));
+    }
+
+    private void writeShadowed(Body body, BodyStateShadow shadow) {
+        shadow.setAngularVelocity(body, 0);
+        shadow.setFixedRotation(body, true);
+        shadow.setGravityScale(body, 1f);
+
+        shadow.readLinearVelocity(body, velocity);
+        shadow.setLinearVelocity(body, clamp(velocity.x), clamp(velocity.y));
+    }
+
+    private static float clamp(float value) {
+        return Math.max(-MAX_SPEED, Math.min(MAX_SPEED, value));
+    }
+}
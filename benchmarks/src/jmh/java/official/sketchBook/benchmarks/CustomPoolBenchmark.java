@@ -0,0 +1,88 @@
+package official.sketchBook.benchmarks;
+
+import official.sketchBook.engine.util_related.pools.CustomPool;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// obtain/free do CustomPool com muitos objetos ativos, liberando fora de ordem
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomPoolBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int activeCount;
+
+    private BenchPool pool;
+
+    /// Espelho dos ativos, para escolher quem liberar sem depender da ordem interna do pool
+    private final List<BenchPoolable> active = new ArrayList<>();
+
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = new BenchPool(activeCount);
+        active.clear();
+
+        for (int i = 0; i < activeCount; i++) {
+            active.add(pool.obtain());
+        }
+    }
+
+    /// Libera um objeto do meio da lista de ativos e obtém outro no lugar
+    @Benchmark
+    public BenchPoolable freeAndObtain() {
+        //Passo primo, percorre os ativos em ordem "aleatória" e determinística
+        cursor = (cursor + 7919) % active.size();
+
+        pool.free(active.get(cursor));
+
+        BenchPoolable obtained = pool.obtain();
+        active.set(cursor, obtained);
+        return obtained;
+    }
+
+    static final class BenchPool extends CustomPool<BenchPoolable> {
+        BenchPool(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        @Override
+        protected BenchPoolable newObject() {
+            return new BenchPoolable();
+        }
+    }
+
+    static final class BenchPoolable implements CustomPool.Poolable {
+        private boolean reset = true;
+        private int poolSlot = CustomPool.NO_SLOT;
+
+        @Override
+        public void reset() {
+            reset = true;
+        }
+
+        @Override
+        public void destroy() {
+        }
+
+        @Override
+        public boolean isReset() {
+            return reset;
+        }
+
+        @Override
+        public int getPoolSlot() {
+            return poolSlot;
+        }
+
+        @Override
+        public void setPoolSlot(int slot) {
+            poolSlot = slot;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package official.sketchBook.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Tick completo do GameObjectDataManager (update, World.step e postUpdate) com N jogadores e M balas
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameObjectDataManagerBenchmark {
+
+    @Param({"1", "16", "64"})
+    public int playerCount;
+
+    @Param({"0", "256", "1024"})
+    public int bulletCount;
+
+    private GameWorldFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fixture = new GameWorldFixture(playerCount, bulletCount);
+        fixture.settle(30);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.dispose();
+    }
+
+    @Benchmark
+    public int tick() {
+        //Balas expiram durante a medição, repomos para manter a carga constante
+        fixture.topUpBullets();
+        fixture.tick();
+        return fixture.activeBullets();
+    }
+}
@@ -0,0 +1,124 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import official.sketchBook.engine.camera_related.OrthographicCameraManager;
+import official.sketchBook.engine.game_object_related.projectile_related.models.BaseProjectile;
+import official.sketchBook.game.dataManager_related.GameObjectDataManager;
+import official.sketchBook.game.gameObject_related.Player;
+import official.sketchBook.game.projectile_related.model.Bullet;
+import official.sketchBook.game.util_related.pools.ProjectilePool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static official.sketchBook.game.util_related.constants.GameConfigConstants.FIXED_TIMESTEP;
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.POSITION_ITERATIONS;
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.VELOCITY_ITERATIONS;
+import static official.sketchBook.game.util_related.constants.RenderingConstants.VIRTUAL_HEIGHT_PX;
+import static official.sketchBook.game.util_related.constants.RenderingConstants.VIRTUAL_WIDTH_PX;
+import static official.sketchBook.game.util_related.constants.WorldConstants.PlayerConstants.HEIGHT;
+import static official.sketchBook.game.util_related.constants.WorldConstants.PlayerConstants.WIDTH;
+
+/**
+ * Mundo de jogo montado da mesma forma que o PlayScreen: GameObjectDataManager
+ * com a sala inicial, líquido e submarino, mais N jogadores e até M balas ativas.
+ */
+public class GameWorldFixture {
+
+    /// Faixa horizontal da sala inicial onde os jogadores são distribuídos, dentro da água
+    private static final float
+        PLAYER_MIN_X = 250,
+        PLAYER_MAX_X = 1750,
+        PLAYER_Y = 60;
+
+    public final GameObjectDataManager manager;
+    public final List<Player> players = new ArrayList<>();
+
+    private final int targetBullets;
+    private int spawnCursor = 0;
+
+    public GameWorldFixture(int playerCount, int targetBullets) {
+        HeadlessEnvironment.init();
+
+        this.targetBullets = targetBullets;
+
+        this.manager = new GameObjectDataManager(
+            new World(new Vector2(0, -15f), true),
+            VELOCITY_ITERATIONS,
+            POSITION_ITERATIONS
+        );
+
+        OrthographicCameraManager camera = new OrthographicCameraManager(VIRTUAL_WIDTH_PX, VIRTUAL_HEIGHT_PX);
+        manager.setGameCamera(camera);
+        camera.updateRoomLimits(
+            manager.getCurrentRoom().roomWidthPx,
+            manager.getCurrentRoom().roomHeightPx
+        );
+
+        for (int i = 0; i < playerCount; i++) {
+            float t = playerCount == 1 ? 0f : i / (float) (playerCount - 1);
+
+            players.add(
+                new Player(
+                    manager,
+                    manager.getCurrentRoom(),
+                    PLAYER_MIN_X + (PLAYER_MAX_X - PLAYER_MIN_X) * t,
+                    PLAYER_Y,
+                    0,
+                    0,
+                    WIDTH,
+                    HEIGHT,
+                    1f,
+                    1f,
+                    false,
+                    false
+                )
+            );
+        }
+
+        manager.mainPlayer = players.isEmpty() ? null : players.get(0);
+    }
+
+    /// Repõe as balas que expiraram até chegar na quantidade alvo
+    public void topUpBullets() {
+        if (targetBullets <= 0 || players.isEmpty()) return;
+
+        for (int i = activeBullets(); i < targetBullets; i++) {
+            BaseProjectile bullet = manager.getGlobalProjectilePool().returnProjectileRequested(Bullet.class);
+            if (bullet == null) return;
+
+            Player shooter = players.get(spawnCursor++ % players.size());
+
+            bullet.activate(
+                shooter.getTransformC().getCenterX(),
+                shooter.getTransformC().getCenterY() + HEIGHT,
+                (spawnCursor * 37) % 360
+            );
+            bullet.launch();
+        }
+    }
+
+    public int activeBullets() {
+        ProjectilePool<?> pool = manager.getGlobalProjectilePool().getPoolOf(Bullet.class);
+        return pool == null ? 0 : pool.getActiveProjectiles().size;
+    }
+
+    /// Um passo fixo completo, igual ao executado pelo SingleThreadUpdateSystem
+    public void tick() {
+        manager.update(FIXED_TIMESTEP);
+        manager.postUpdate();
+    }
+
+    /// Avança a simulação para os objetos entrarem em contato com o chão e a água
+    public void settle(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            topUpBullets();
+            tick();
+        }
+    }
+
+    public void dispose() {
+        manager.destroyManager();
+    }
+}
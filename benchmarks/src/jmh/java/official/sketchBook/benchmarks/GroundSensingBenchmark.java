@@ -0,0 +1,125 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import official.sketchBook.engine.components_related.physics.GroundSensingService;
+import official.sketchBook.engine.components_related.ray_cast.RayCastFilter;
+import official.sketchBook.engine.components_related.ray_cast.RayCastService;
+import official.sketchBook.engine.util_related.enumerators.ObjectType;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper;
+import official.sketchBook.engine.world_gen.PlayableRoomManager;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
+import official.sketchBook.game.util_related.constants.PhysicsConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static official.sketchBook.game.util_related.constants.WorldConstants.TILE_SIZE_PX;
+
+/**
+ * Detecção de chão de um tick para várias entidades numa sala de plataformas,
+ * metade pousada no chão e metade no ar: só raios contra grid primeiro
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GroundSensingBenchmark {
+
+    private static final int GRID_SIZE = 128;
+
+    @Param({"100", "1000"})
+    public int entityCount;
+
+    @Param({"false", "true"})
+    public boolean gridSensing;
+
+    private World world;
+    private RayCastService rayCastService;
+    private GroundSensingService service;
+    private PlayableRoom room;
+    private RayCastFilter filter;
+
+    private float[] centerX;
+    private float[] bottomY;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessEnvironment.init();
+        PhysicsConstants.GROUND_GRID_SENSING = gridSensing;
+
+        //Sala só com as bordas, o chão é a linha de baixo da grid
+        int[][] ids = new int[GRID_SIZE][GRID_SIZE];
+        for (int y = 0; y < GRID_SIZE; y++) {
+            for (int x = 0; x < GRID_SIZE; x++) {
+                boolean border = x == 0 || y == 0 || x == GRID_SIZE - 1 || y == GRID_SIZE - 1;
+                ids[y][x] = border ? 1 : 0;
+            }
+        }
+
+        room = new PlayableRoom(1, 0, 0, null);
+        PlayableRoomManager manager = new PlayableRoomManager();
+        manager.addNewTileModel(room, 1, 1);
+        manager.initRoomGrid(room, ids);
+
+        world = new World(new Vector2(0, -15f), true);
+        RoomBodyFactoryHelper.buildWorldTileBodies(
+            RoomBodyFactoryHelper.convertToBodyTypeMap(ids),
+            world
+        );
+
+        rayCastService = new RayCastService(world, entityCount * 3, entityCount * 3);
+        service = new GroundSensingService(world, rayCastService);
+        filter = new RayCastFilter(
+            RayCastFilter.ALL_BITS,
+            RayCastFilter.ALL_BITS,
+            false,
+            ObjectType.ENVIRONMENT,
+            ObjectType.VEHICLE
+        );
+
+        //O corpo da linha 0 vai de -meia tile a +meia tile no eixo y
+        float floorTop = TILE_SIZE_PX / 2f;
+        float roomWidth = GRID_SIZE * TILE_SIZE_PX;
+
+        Random random = new Random(42);
+        centerX = new float[entityCount];
+        bottomY = new float[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            centerX[i] = TILE_SIZE_PX * 2 + random.nextFloat() * (roomWidth - TILE_SIZE_PX * 4);
+            bottomY[i] = i % 2 == 0 ? floorTop : floorTop + TILE_SIZE_PX * 10;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        PhysicsConstants.GROUND_GRID_SENSING = true;
+        service.dispose();
+        rayCastService.dispose();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int senseTick() {
+        rayCastService.clear();
+        service.clear();
+
+        int grounded = 0;
+        for (int i = 0; i < entityCount; i++) {
+            boolean onGround = service.sense(
+                room,
+                null,
+                centerX[i],
+                bottomY[i],
+                6f,
+                1f,
+                4f,
+                1f,
+                filter
+            );
+            if (onGround) grounded++;
+        }
+
+        return grounded;
+    }
+}
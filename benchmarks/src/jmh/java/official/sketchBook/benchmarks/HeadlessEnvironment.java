@@ -0,0 +1,73 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * Sobe o backend headless do LibGDX uma única vez por fork do JMH.
+ * <p>
+ * O GL do backend headless não faz nada e reporta todo shader como não compilado,
+ * o que quebra ShapeRenderer e Box2DDebugRenderer (criados pelos managers). Aqui
+ * trocamos por um GL que também não faz nada, mas reporta sucesso em compilação
+ * e link, então os managers podem ser criados exatamente como no jogo.
+ */
+public final class HeadlessEnvironment {
+
+    private static boolean initialized = false;
+
+    private HeadlessEnvironment() {
+    }
+
+    public static synchronized void init() {
+        if (initialized) return;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        //Sem loop de render, os benchmarks chamam tudo direto da thread do JMH
+        config.updatesPerSecond = -1;
+
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, config);
+
+        GL20 gl = createNoOpGL();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+
+        initialized = true;
+    }
+
+    /// GL20 que ignora todas as chamadas, respondendo apenas status de compilação e link com sucesso
+    private static GL20 createNoOpGL() {
+        return (GL20) Proxy.newProxyInstance(
+            GL20.class.getClassLoader(),
+            new Class<?>[]{GL20.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+
+                if ((name.equals("glGetShaderiv") || name.equals("glGetProgramiv"))
+                    && args != null
+                    && args.length == 3
+                    && args[2] instanceof IntBuffer) {
+                    int pname = (Integer) args[1];
+                    if (pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS) {
+                        IntBuffer params = (IntBuffer) args[2];
+                        params.put(params.position(), 1);
+                    }
+                    return null;
+                }
+
+                Class<?> type = method.getReturnType();
+                if (type == int.class) return 0;
+                if (type == boolean.class) return false;
+                if (type == float.class) return 0f;
+                if (type == String.class) return "";
+                return null;
+            }
+        );
+    }
+}
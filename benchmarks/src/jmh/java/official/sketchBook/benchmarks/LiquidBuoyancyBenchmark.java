@@ -0,0 +1,59 @@
+package official.sketchBook.benchmarks;
+
+import official.sketchBook.engine.components_related.physics.BuoyancyBatchSolver;
+import official.sketchBook.game.gameObject_related.Player;
+import official.sketchBook.game.util_related.constants.PhysicsConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static official.sketchBook.game.util_related.constants.GameConfigConstants.FIXED_TIMESTEP;
+
+/**
+ * Update do PhysicalLiquidInteractionComponent (empuxo e arrasto) de jogadores submersos.
+ * Com batched o passo inclui o solve do BuoyancyBatchSolver, como acontece antes do step
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LiquidBuoyancyBenchmark {
+
+    @Param({"1", "16", "64", "256"})
+    public int playerCount;
+
+    @Param({"false", "true"})
+    public boolean batched;
+
+    private GameWorldFixture fixture;
+    private Player[] players;
+    private BuoyancyBatchSolver solver;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        //O manager decide o modo ao ser criado
+        PhysicsConstants.BATCHED_BUOYANCY = batched;
+        fixture = new GameWorldFixture(playerCount, 0);
+
+        //Jogadores nascem dentro da água, alguns ticks para os sensores registrarem a região
+        fixture.settle(30);
+
+        players = fixture.players.toArray(new Player[0]);
+        solver = fixture.manager.getBuoyancySolver();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.dispose();
+    }
+
+    @Benchmark
+    public int buoyancyStep() {
+        for (int i = 0; i < players.length; i++) {
+            players[i].getLiquidInteractionC().update(FIXED_TIMESTEP);
+        }
+
+        if (solver != null) solver.solve();
+
+        return players.length;
+    }
+}
@@ -0,0 +1,58 @@
+package official.sketchBook.benchmarks;
+
+import official.sketchBook.engine.liquid_related.util.LiquidRegion;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static official.sketchBook.game.util_related.constants.GameConfigConstants.FIXED_TIMESTEP;
+
+/**
+ * Passo das ondas de superfície de muitas regiões de líquido.
+ * Metade das regiões fica fora da tela e uma parcela delas recebe perturbações a cada passo
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LiquidSurfaceBenchmark {
+
+    private static final float
+        REGION_WIDTH = 1024,
+        REGION_HEIGHT = 128;
+
+    @Param({"16", "128", "1024"})
+    public int regionCount;
+
+    /// A cada quantas regiões uma recebe perturbação no passo
+    @Param({"1", "8"})
+    public int disturbEvery;
+
+    private LiquidRegion[] regions;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        regions = new LiquidRegion[regionCount];
+
+        for (int i = 0; i < regionCount; i++) {
+            regions[i] = new LiquidRegion(i * REGION_WIDTH, 0, REGION_WIDTH, REGION_HEIGHT);
+
+            //Regiões ímpares fora da tela, o update delas não deve custar nada
+            regions[i].setInScreen(i % 2 == 0);
+        }
+    }
+
+    @Benchmark
+    public int surfaceStep() {
+        for (int i = cursor % disturbEvery; i < regions.length; i += disturbEvery) {
+            regions[i].disturbSurface(i * REGION_WIDTH + (cursor * 37) % REGION_WIDTH, -120f);
+        }
+        cursor++;
+
+        for (int i = 0; i < regions.length; i++) {
+            regions[i].updateSurface(FIXED_TIMESTEP);
+        }
+
+        return regions.length;
+    }
+}
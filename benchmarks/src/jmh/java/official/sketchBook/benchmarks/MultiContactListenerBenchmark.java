@@ -0,0 +1,100 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.utils.Array;
+import official.sketchBook.engine.util_related.contact_listener.ContactInfoCache;
+import official.sketchBook.engine.util_related.contact_listener.MultiContactListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Despacho do MultiContactListener com os listeners reais do jogo.
+ * Os contatos são capturados de um mundo já assentado (jogadores no chão e na
+ * água) e reenviados em pares begin/end, sem novos steps, então continuam válidos.
+ * <p>
+ * Os contadores auxiliares mostram as chamadas nativas de contato (isTouching e
+ * getWorldManifold) por operação e quantas consultas foram atendidas pelo cache
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiContactListenerBenchmark {
+
+    @Param({"16", "64"})
+    public int playerCount;
+
+    private GameWorldFixture fixture;
+    private MultiContactListener listener;
+    private Contact[] contacts;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fixture = new GameWorldFixture(playerCount, 0);
+        fixture.settle(60);
+
+        listener = fixture.manager.getContactListeners();
+
+        Array<Contact> contactList = fixture.manager.getPhysicsWorld().getContactList();
+        contacts = new Contact[contactList.size];
+        for (int i = 0; i < contactList.size; i++) {
+            contacts[i] = contactList.get(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.dispose();
+    }
+
+    /// Um begin e um end por contato ativo
+    @Benchmark
+    public int dispatchBeginEnd(ContactJniCounters counters) {
+        counters.start();
+        for (int i = 0; i < contacts.length; i++) {
+            listener.beginContact(contacts[i]);
+            listener.endContact(contacts[i]);
+        }
+        counters.stop();
+        return contacts.length;
+    }
+
+    /// Um preSolve por contato ativo, o callback chamado para todo contato tocando a cada step
+    @Benchmark
+    public int dispatchPreSolve(ContactJniCounters counters) {
+        counters.start();
+        for (int i = 0; i < contacts.length; i++) {
+            listener.preSolve(contacts[i], null);
+        }
+        counters.stop();
+        return contacts.length;
+    }
+
+    /// Chamadas nativas e acertos do ContactInfoCache, somados por iteração
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ContactJniCounters {
+        public long contactNativeCalls;
+        public long contactCacheHits;
+
+        private long
+            nativeCallsAtStart,
+            cacheHitsAtStart;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            contactNativeCalls = 0;
+            contactCacheHits = 0;
+        }
+
+        void start() {
+            nativeCallsAtStart = ContactInfoCache.getNativeCalls();
+            cacheHitsAtStart = ContactInfoCache.getCacheHits();
+        }
+
+        void stop() {
+            contactNativeCalls += ContactInfoCache.getNativeCalls() - nativeCallsAtStart;
+            contactCacheHits += ContactInfoCache.getCacheHits() - cacheHitsAtStart;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import official.sketchBook.engine.components_related.physics.BodyStateShadow;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Um casco acelerando com o piso kinematic lotado de passageiros: corrigindo piso e
+ * passageiros com setTransform a cada tick, como antes, contra carregar tudo só pela
+ * velocidade (PASSENGER_KINEMATIC_CARRY)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PassengerCarryBenchmark {
+
+    private static final float STEP = 1f / 60f;
+    /// Aceleração do casco, em metros por segundo ao quadrado
+    private static final float HULL_ACCEL = 2f;
+
+    @Param({"10", "40"})
+    public int passengerCount;
+
+    @Param({"false", "true"})
+    public boolean kinematicCarry;
+
+    private World world;
+    private Body floor;
+    private BodyStateShadow floorState;
+    private Body[] passengers;
+    private BodyStateShadow[] passengerStates;
+
+    /// Casco simulado fora do Box2D, para os dois modos seguirem a mesma trajetória
+    private float
+        hullX,
+        hullVelX,
+        lastHullVelX;
+
+    private final Vector2 tmpVel = new Vector2();
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        HeadlessEnvironment.init();
+
+        world = new World(new Vector2(0, -15f), true);
+
+        BodyDef floorDef = new BodyDef();
+        floorDef.type = BodyDef.BodyType.KinematicBody;
+        floor = world.createBody(floorDef);
+
+        PolygonShape floorShape = new PolygonShape();
+        floorShape.setAsBox(passengerCount, 0.5f, new Vector2(0, -0.5f), 0);
+        floor.createFixture(floorShape, 0).setFriction(0.8f);
+        floorShape.dispose();
+
+        PolygonShape passengerShape = new PolygonShape();
+        passengerShape.setAsBox(0.2f, 0.4f);
+
+        passengers = new Body[passengerCount];
+        passengerStates = new BodyStateShadow[passengerCount];
+
+        for (int i = 0; i < passengerCount; i++) {
+            BodyDef def = new BodyDef();
+            def.type = BodyDef.BodyType.DynamicBody;
+            def.fixedRotation = true;
+            def.position.set(-passengerCount + 1f + i * 2f, 0.4f);
+
+            passengers[i] = world.createBody(def);
+            passengers[i].createFixture(passengerShape, 1f).setFriction(0.8f);
+            passengerStates[i] = new BodyStateShadow();
+        }
+
+        passengerShape.dispose();
+
+        floorState = new BodyStateShadow();
+        hullX = 0f;
+        hullVelX = 0f;
+        lastHullVelX = 0f;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public World tick() {
+        hullVelX += HULL_ACCEL * STEP;
+        hullX += hullVelX * STEP;
+
+        float deltaVelX = hullVelX - lastHullVelX;
+        lastHullVelX = hullVelX;
+
+        if (kinematicCarry) {
+            //Piso levado pela velocidade com o erro de posição, passageiros só recebem a variação do casco
+            float errorX = hullX - floor.getPosition().x;
+            floorState.setKinematicVelocity(floor, hullVelX + errorX / STEP, 0f, 0f);
+
+            for (int i = 0; i < passengerCount; i++) {
+                passengerStates[i].readLinearVelocity(passengers[i], tmpVel);
+                passengerStates[i].setLinearVelocity(passengers[i], tmpVel.x + deltaVelX, tmpVel.y);
+            }
+        } else {
+            floorState.setKinematicState(floor, hullX, 0f, 0f, hullVelX, 0f);
+
+            for (int i = 0; i < passengerCount; i++) {
+                Body passenger = passengers[i];
+                passengerStates[i].readLinearVelocity(passenger, tmpVel);
+                passengerStates[i].setLinearVelocity(passenger, tmpVel.x + deltaVelX, tmpVel.y);
+
+                Vector2 pos = passenger.getPosition();
+                passengerStates[i].setTransform(passenger, pos.x + deltaVelX * STEP, pos.y, 0f);
+            }
+        }
+
+        world.step(STEP, 8, 3);
+        BodyStateShadow.onWorldStepped();
+
+        return world;
+    }
+}
@@ -0,0 +1,93 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import official.sketchBook.engine.components_related.ray_cast.RayCastFilter;
+import official.sketchBook.engine.components_related.ray_cast.RayCastService;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.PPM;
+import static official.sketchBook.game.util_related.constants.WorldConstants.TILE_SIZE_PX;
+
+/**
+ * Um tick de raycasts (sondas de chão, linhas de visão, tiros) sobre uma sala de tiles,
+ * em lote pelo RayCastService, em cada modo de consulta
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RayCastServiceBenchmark {
+
+    private static final int GRID_SIZE = 128;
+
+    @Param({"64", "512"})
+    public int raysPerTick;
+
+    @Param({"CLOSEST", "ANY", "ALL"})
+    public RayCastService.Mode mode;
+
+    private World world;
+    private RayCastService service;
+    private float[] rays;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessEnvironment.init();
+
+        world = new World(new Vector2(0, -15f), true);
+
+        int[][] ids = new int[GRID_SIZE][GRID_SIZE];
+        Random random = new Random(42);
+        for (int y = 0; y < GRID_SIZE; y++) {
+            for (int x = 0; x < GRID_SIZE; x++) {
+                boolean border = x == 0 || y == 0 || x == GRID_SIZE - 1 || y == GRID_SIZE - 1;
+                ids[y][x] = border || random.nextFloat() < 0.1f ? 1 : 0;
+            }
+        }
+
+        RoomBodyFactoryHelper.buildWorldTileBodies(
+            RoomBodyFactoryHelper.convertToBodyTypeMap(ids),
+            world
+        );
+
+        service = new RayCastService(world, raysPerTick, raysPerTick * 4);
+
+        //Raios aleatórios dentro da sala, em metros
+        float roomSize = GRID_SIZE * TILE_SIZE_PX / PPM;
+        rays = new float[raysPerTick * 4];
+        for (int i = 0; i < rays.length; i++) {
+            rays[i] = random.nextFloat() * roomSize;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.dispose();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int castBatch() {
+        service.clear();
+
+        for (int i = 0; i < raysPerTick; i++) {
+            int base = i * 4;
+            service.submit(
+                rays[base],
+                rays[base + 1],
+                rays[base + 2],
+                rays[base + 3],
+                mode,
+                RayCastFilter.SOLID
+            );
+        }
+
+        service.execute();
+
+        return service.getHitCount();
+    }
+}
@@ -0,0 +1,220 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.OptmizedRenderableObjectII;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.RenderableObjectII;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.data_manager_related.util.RenderableObjectManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static official.sketchBook.game.util_related.constants.RenderingConstants.VIRTUAL_HEIGHT_PX;
+import static official.sketchBook.game.util_related.constants.RenderingConstants.VIRTUAL_WIDTH_PX;
+
+/**
+ * Add/remove e culling do RenderableObjectManager com muitos objetos, a maioria estática.
+ * O culling relê o AABB de todos os dinâmicos, então o custo cresce com a fração dinâmica.
+ * Ao fim de cada iteração o resultado do culling é conferido contra um teste de força bruta
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderableObjectManagerBenchmark {
+
+    /// Espaço médio entre objetos, em pixels
+    private static final float SPACING = 48f;
+
+    /// Quantidade de índices de renderização distintos
+    private static final int RENDER_LAYERS = 4;
+
+    @Param({"1000", "10000", "50000"})
+    public int objectCount;
+
+    /// Fração de objetos estáticos (decoração, líquidos)
+    @Param({"0.9", "0.5"})
+    public float staticRatio;
+
+    private RenderableObjectManager manager;
+    private final List<BenchRenderable> allObjects = new ArrayList<>();
+    private final List<BenchRenderable> dynamicObjects = new ArrayList<>();
+
+    private float worldSize;
+    private float cameraX, cameraY;
+    private int cursor = 0;
+    private int visited;
+
+    private final Consumer<RenderableObjectII> visitor = obj -> visited++;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        manager = new RenderableObjectManager();
+        allObjects.clear();
+        dynamicObjects.clear();
+
+        worldSize = (float) Math.sqrt(objectCount) * SPACING;
+
+        Random random = new Random(42);
+        for (int i = 0; i < objectCount; i++) {
+            boolean isStatic = random.nextFloat() < staticRatio;
+
+            BenchRenderable obj = new BenchRenderable(
+                random.nextFloat() * worldSize,
+                random.nextFloat() * worldSize,
+                i % RENDER_LAYERS,
+                isStatic
+            );
+
+            manager.add(obj);
+            allObjects.add(obj);
+            if (!isStatic) dynamicObjects.add(obj);
+        }
+
+        cameraX = worldSize * 0.5f;
+        cameraY = worldSize * 0.5f;
+    }
+
+    /// Culling com a camera parada
+    @Benchmark
+    public int cullStaticCamera() {
+        visited = 0;
+        manager.forEachObject(visitor, cameraX, cameraY, VIRTUAL_WIDTH_PX, VIRTUAL_HEIGHT_PX);
+        return visited;
+    }
+
+    /// Culling com a camera percorrendo o mundo e os objetos dinâmicos se movendo
+    @Benchmark
+    public int cullMovingWorld() {
+        for (int i = 0; i < dynamicObjects.size(); i++) {
+            TransformComponent t = dynamicObjects.get(i).transformC;
+            t.x = (t.x + 1f) % worldSize;
+        }
+
+        cursor++;
+        float x = (cursor * 7f) % worldSize;
+
+        visited = 0;
+        manager.forEachObject(visitor, x, cameraY, VIRTUAL_WIDTH_PX, VIRTUAL_HEIGHT_PX);
+        return visited;
+    }
+
+    /// Render logo após o culling, reaproveitando o resultado
+    @Benchmark
+    public int cullThenRender() {
+        visited = 0;
+        manager.forEachObject(visitor, cameraX, cameraY, VIRTUAL_WIDTH_PX, VIRTUAL_HEIGHT_PX);
+        manager.forEachCulledObject(visitor);
+        return visited;
+    }
+
+    /// Remoção e reinserção de um objeto dinâmico (ex: projétil saindo e voltando do pool)
+    @Benchmark
+    public void removeAndAdd(Blackhole blackhole) {
+        if (dynamicObjects.isEmpty()) return;
+
+        BenchRenderable obj = dynamicObjects.get(cursor++ % dynamicObjects.size());
+        manager.remove(obj);
+        manager.add(obj);
+
+        blackhole.consume(obj);
+    }
+
+    /// Confere o culling na posição atual da camera contra o teste de todos os objetos, um a um
+    @TearDown(Level.Iteration)
+    public void verifyCull() {
+        float x = (cursor * 7f) % worldSize;
+
+        Set<RenderableObjectII> culled = Collections.newSetFromMap(new IdentityHashMap<>());
+        manager.forEachObject(culled::add, x, cameraY, VIRTUAL_WIDTH_PX, VIRTUAL_HEIGHT_PX);
+
+        float minX = x - VIRTUAL_WIDTH_PX * 0.5f;
+        float maxX = x + VIRTUAL_WIDTH_PX * 0.5f;
+        float minY = cameraY - VIRTUAL_HEIGHT_PX * 0.5f;
+        float maxY = cameraY + VIRTUAL_HEIGHT_PX * 0.5f;
+
+        int expected = 0;
+        for (int i = 0; i < allObjects.size(); i++) {
+            BenchRenderable obj = allObjects.get(i);
+            TransformComponent t = obj.transformC;
+
+            boolean inView = t.getCenterX() + t.getRotatedHalfWidth() >= minX
+                && t.getCenterX() - t.getRotatedHalfWidth() <= maxX
+                && t.getCenterY() + t.getRotatedHalfHeight() >= minY
+                && t.getCenterY() - t.getRotatedHalfHeight() <= maxY;
+
+            if (inView) expected++;
+
+            if (inView != culled.contains(obj) || inView != obj.isInScreen()) {
+                throw new IllegalStateException("Culling divergiu do teste de força bruta no objeto " + i);
+            }
+        }
+
+        if (expected != culled.size()) {
+            throw new IllegalStateException("Culling coletou " + culled.size() + " objetos, esperado " + expected);
+        }
+    }
+
+    /// Renderizável mínimo, só com transform e flag de tela
+    static final class BenchRenderable implements OptmizedRenderableObjectII {
+        final TransformComponent transformC;
+        private final int renderIndex;
+        private final boolean isStatic;
+        private boolean inScreen;
+
+        BenchRenderable(float x, float y, int renderIndex, boolean isStatic) {
+            this.transformC = new TransformComponent(x, y, renderIndex, 0, 16, 16, 1, 1, false, false);
+            this.renderIndex = renderIndex;
+            this.isStatic = isStatic;
+        }
+
+        @Override
+        public int getRenderIndex() {
+            return renderIndex;
+        }
+
+        @Override
+        public void updateVisuals(float delta) {
+        }
+
+        @Override
+        public void render(SpriteBatch batch) {
+        }
+
+        @Override
+        public boolean canRender() {
+            return true;
+        }
+
+        @Override
+        public void disposeGraphics() {
+        }
+
+        @Override
+        public boolean isInScreen() {
+            return inScreen;
+        }
+
+        @Override
+        public void setInScreen(boolean inScreen) {
+            this.inScreen = inScreen;
+        }
+
+        @Override
+        public TransformComponent getTransformC() {
+            return transformC;
+        }
+
+        @Override
+        public boolean isStaticRender() {
+            return isStatic;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper;
+import official.sketchBook.game.util_related.enumerators.TileBodyType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/// Criação das bodies de tiles de uma sala em grids grandes
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoomBodyFactoryBenchmark {
+
+    @Param({"64", "256", "512"})
+    public int gridSize;
+
+    /// Fração de tiles sólidas no interior da sala, além das bordas
+    @Param({"0.3"})
+    public float fillRatio;
+
+    /// Lado dos chunks na fusão por chunks, como feita na thread de construção do streaming
+    @Param({"32"})
+    public int chunkSize;
+
+    private TileBodyType[][] tiles;
+    private World world;
+
+    @Setup(Level.Trial)
+    public void setupTiles() {
+        HeadlessEnvironment.init();
+
+        int[][] ids = new int[gridSize][gridSize];
+        Random random = new Random(42);
+
+        for (int y = 0; y < gridSize; y++) {
+            for (int x = 0; x < gridSize; x++) {
+                boolean border = x == 0 || y == 0 || x == gridSize - 1 || y == gridSize - 1;
+                ids[y][x] = border || random.nextFloat() < fillRatio ? 1 : 0;
+            }
+        }
+
+        tiles = RoomBodyFactoryHelper.convertToBodyTypeMap(ids);
+    }
+
+    /// Mundo novo a cada chamada, a criação das bodies é o que medimos
+    @Setup(Level.Invocation)
+    public void setupWorld() {
+        world = new World(new Vector2(0, -15f), true);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownWorld() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public List<Body> buildWorldTileBodies() {
+        return RoomBodyFactoryHelper.buildWorldTileBodies(tiles, world);
+    }
+
+    /// Apenas a fusão em retângulos, chunk por chunk, sem mundo físico
+    @Benchmark
+    public int mergeChunkRects() {
+        List<RoomBodyFactoryHelper.TileRect> rects = new ArrayList<>();
+
+        for (int y = 0; y < gridSize; y += chunkSize) {
+            for (int x = 0; x < gridSize; x += chunkSize) {
+                RoomBodyFactoryHelper.mergeTileRects(
+                    tiles,
+                    x,
+                    y,
+                    Math.min(gridSize, x + chunkSize),
+                    Math.min(gridSize, y + chunkSize),
+                    rects
+                );
+            }
+        }
+
+        return rects.size();
+    }
+}
@@ -0,0 +1,117 @@
+package official.sketchBook.benchmarks;
+
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper.TileRect;
+import official.sketchBook.engine.world_gen.PlayableRoomManager;
+import official.sketchBook.engine.world_gen.io.RoomFileData;
+import official.sketchBook.engine.world_gen.io.RoomFileReader;
+import official.sketchBook.engine.world_gen.io.RoomFileWriter;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
+import official.sketchBook.game.util_related.enumerators.TileBodyType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga de uma sala grande até os retângulos de colisão estarem prontos, sem mundo físico:
+ * montando a partir dos arrays em memória contra lendo o arquivo binário mapeado
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoomFileBenchmark {
+
+    @Param({"256", "1024", "4096"})
+    public int gridSize;
+
+    /// Fração de tiles sólidas no interior da sala, além das bordas
+    @Param({"0.3"})
+    public float fillRatio;
+
+    @Param({"32"})
+    public int chunkSize;
+
+    private int[][] ids;
+    private Path roomFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        ids = new int[gridSize][gridSize];
+        Random random = new Random(42);
+
+        for (int y = 0; y < gridSize; y++) {
+            for (int x = 0; x < gridSize; x++) {
+                boolean border = x == 0 || y == 0 || x == gridSize - 1 || y == gridSize - 1;
+                ids[y][x] = border || random.nextFloat() < fillRatio ? 1 : 0;
+            }
+        }
+
+        roomFile = Files.createTempFile("room-benchmark", ".room");
+        RoomFileWriter.write(
+            createArrayRoom(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            chunkSize,
+            roomFile
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(roomFile);
+    }
+
+    private PlayableRoom createArrayRoom() {
+        PlayableRoom room = new PlayableRoom(1, 0, 0, null);
+        PlayableRoomManager manager = new PlayableRoomManager();
+
+        manager.addNewTileModel(room, 1, 1);
+        manager.initRoomGrid(room, ids);
+
+        return room;
+    }
+
+    /// Caminho atual: grid em arrays, conversão de tipos e fusão chunk por chunk
+    @Benchmark
+    public int buildFromArrays() {
+        PlayableRoom room = createArrayRoom();
+
+        TileBodyType[][] bodyTypes = RoomBodyFactoryHelper.convertToBodyTypeMap(
+            PlayableRoomManager.prepareBodyIdGrid(room)
+        );
+
+        List<TileRect> rects = new ArrayList<>();
+        for (int y = 0; y < gridSize; y += chunkSize) {
+            for (int x = 0; x < gridSize; x += chunkSize) {
+                RoomBodyFactoryHelper.mergeTileRects(
+                    bodyTypes,
+                    x,
+                    y,
+                    Math.min(gridSize, x + chunkSize),
+                    Math.min(gridSize, y + chunkSize),
+                    rects
+                );
+            }
+        }
+
+        return rects.size();
+    }
+
+    /// Arquivo mapeado: a grid fica no arquivo e os retângulos já vêm fundidos
+    @Benchmark
+    public int loadMapped() throws IOException {
+        RoomFileData data = RoomFileReader.read(roomFile, null);
+
+        List<TileRect> rects = new ArrayList<>(data.room.premergedRects.getRectCount());
+        data.room.premergedRects.collectAll(rects);
+
+        return rects.size();
+    }
+}
@@ -0,0 +1,182 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import official.sketchBook.engine.animation_rendering_related.ObjectAnimationPlayer;
+import official.sketchBook.engine.animation_rendering_related.Sprite;
+import official.sketchBook.engine.animation_rendering_related.SpriteRegionCache;
+import official.sketchBook.engine.animation_rendering_related.SpriteSheetDataHandler;
+import official.sketchBook.engine.components_related.objects.AnimationRenderingComponent;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Um quadro de animação de muitos objetos: updateVisuals seguido do draw de cada camada,
+ * alternando o espelhamento para passar pelas quatro variações de região.
+ * <p>
+ * Rodar com -prof gc: o gc.alloc.rate.norm deve ser o mesmo para qualquer objectCount,
+ * o que sobra é só o boxing do GL falso no begin e no end do batch.
+ * Ao fim de cada iteração o update e o draw são medidos sozinhos pelo contador de
+ * alocação da thread, e a iteração falha caso algum byte tenha sido alocado
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpriteAnimationBenchmark {
+
+    private static final float DELTA = 1f / 60f;
+
+    /// Sheet de 8x8 quadros de 32 pixels
+    private static final int
+        FRAME_SIZE = 32,
+        SHEET_FRAMES = 8;
+
+    /// Quadros conferidos pelo contador de alocação ao fim de cada iteração
+    private static final int VERIFIED_FRAMES = 600;
+
+    /// Cabe num único batch, assim nenhum flush acontece entre o begin e o end
+    @Param({"500", "5000"})
+    public int objectCount;
+
+    private Texture sheet;
+    private SpriteBatch batch;
+
+    private final List<AnimationRenderingComponent> renderers = new ArrayList<>();
+    private final List<TransformComponent> transforms = new ArrayList<>();
+
+    private int frame = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessEnvironment.init();
+
+        Pixmap pixmap = new Pixmap(FRAME_SIZE * SHEET_FRAMES, FRAME_SIZE * SHEET_FRAMES, Pixmap.Format.RGBA8888);
+        sheet = new Texture(pixmap);
+        pixmap.dispose();
+
+        batch = new SpriteBatch(objectCount);
+
+        //Cada linha da sheet vira uma animação, com durações diferentes para os quadros trocarem em ticks distintos
+        List<List<Sprite>> animations = new ArrayList<>();
+        for (int row = 0; row < SHEET_FRAMES; row++) {
+            List<Sprite> animation = new ArrayList<>();
+            for (int column = 0; column < SHEET_FRAMES; column++) {
+                animation.add(new Sprite(column, row, 0.03f + row * 0.01f));
+            }
+            animations.add(animation);
+        }
+
+        for (int i = 0; i < objectCount; i++) {
+            TransformComponent transformC = new TransformComponent(
+                (i % 100) * FRAME_SIZE,
+                (i / 100) * FRAME_SIZE,
+                0,
+                0,
+                FRAME_SIZE,
+                FRAME_SIZE,
+                1,
+                1,
+                false,
+                false
+            );
+
+            SpriteSheetDataHandler sheetHandler = new SpriteSheetDataHandler(
+                transformC.x,
+                transformC.y,
+                0,
+                0,
+                SHEET_FRAMES,
+                SHEET_FRAMES,
+                1,
+                1,
+                false,
+                false,
+                true,
+                true,
+                sheet
+            );
+
+            ObjectAnimationPlayer aniPlayer = new ObjectAnimationPlayer();
+            aniPlayer.addAnimation("row", animations.get(i % SHEET_FRAMES));
+            aniPlayer.playAnimation("row");
+
+            AnimationRenderingComponent renderer = new AnimationRenderingComponent();
+            renderer.addNewLayer(sheetHandler, aniPlayer, transformC);
+
+            renderers.add(renderer);
+            transforms.add(transformC);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int i = 0; i < renderers.size(); i++) {
+            renderers.get(i).dispose();
+        }
+        renderers.clear();
+        transforms.clear();
+
+        SpriteRegionCache.evict(sheet);
+        sheet.dispose();
+        batch.dispose();
+    }
+
+    @Benchmark
+    public int animationFrame() {
+        batch.begin();
+        drawFrame();
+        batch.end();
+
+        return batch.renderCalls;
+    }
+
+    private void drawFrame() {
+        frame++;
+
+        for (int i = 0; i < renderers.size(); i++) {
+            //Metade troca de lado a cada quadro, a outra metade fica de cabeça para baixo a cada dois
+            TransformComponent transformC = transforms.get(i);
+            transformC.mirrorX = ((frame + i) & 1) != 0;
+            transformC.mirrorY = ((frame + i) & 2) != 0;
+
+            AnimationRenderingComponent renderer = renderers.get(i);
+            renderer.updateVisuals(DELTA);
+            renderer.render(batch);
+        }
+    }
+
+    /// Mede só o update e o draw, o begin e o end chamam o GL falso, que aloca ao encaixotar os argumentos
+    @TearDown(Level.Iteration)
+    public void verifyAllocationFree() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        //A própria leitura do contador pode alocar, esse custo é descontado de cada medição
+        long readCost = -threads.getThreadAllocatedBytes(threadId);
+        readCost += threads.getThreadAllocatedBytes(threadId);
+
+        long allocated = 0;
+        for (int i = 0; i < VERIFIED_FRAMES; i++) {
+            batch.begin();
+
+            long before = threads.getThreadAllocatedBytes(threadId);
+            drawFrame();
+            allocated += threads.getThreadAllocatedBytes(threadId) - before - readCost;
+
+            batch.end();
+        }
+
+        if (allocated > 0) {
+            throw new IllegalStateException(
+                "Update e draw das animações alocaram " + allocated + " bytes em " + VERIFIED_FRAMES + " quadros"
+            );
+        }
+    }
+}
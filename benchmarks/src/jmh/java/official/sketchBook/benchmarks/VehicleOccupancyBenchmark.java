@@ -0,0 +1,129 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static official.sketchBook.game.util_related.constants.GameConfigConstants.FIXED_TIMESTEP;
+
+/**
+ * Decisão de saída de um passageiro ao fim de um contato com a área interna de um veículo,
+ * num mundo com milhares de contatos ativos: varrendo a lista de contatos do mundo,
+ * como o VehicleContactListener fazia, contra a contagem mantida no begin e no end
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VehicleOccupancyBenchmark {
+
+    /// Caixas empilhadas em colunas, cada uma encosta na de baixo e nas vizinhas
+    @Param({"500", "3000"})
+    public int crateCount;
+
+    private World world;
+    private Body passengerBody;
+    private Body sectionBody;
+
+    /// Contagem por veículo, como no VehiclePassengerPhysicsComponent
+    private final ObjectIntMap<Object> internalAreaContacts = new ObjectIntMap<>(2);
+    private final Object vehicle = new Object();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessEnvironment.init();
+
+        world = new World(new Vector2(0, -15f), true);
+
+        int columns = (int) Math.ceil(Math.sqrt(crateCount));
+
+        BodyDef groundDef = new BodyDef();
+        groundDef.type = BodyDef.BodyType.StaticBody;
+        Body ground = world.createBody(groundDef);
+
+        PolygonShape groundShape = new PolygonShape();
+        groundShape.setAsBox(columns, 0.5f, new Vector2(columns / 2f, -0.5f), 0);
+        ground.createFixture(groundShape, 0);
+        groundShape.dispose();
+
+        PolygonShape crateShape = new PolygonShape();
+        crateShape.setAsBox(0.25f, 0.25f);
+
+        for (int i = 0; i < crateCount; i++) {
+            BodyDef def = new BodyDef();
+            def.type = BodyDef.BodyType.DynamicBody;
+            def.position.set((i % columns) * 0.5f + 0.25f, (i / columns) * 0.5f + 0.25f);
+
+            world.createBody(def).createFixture(crateShape, 1f);
+        }
+
+        crateShape.dispose();
+
+        //Seção com sensor de área interna e o passageiro dentro dela, longe das caixas
+        BodyDef sectionDef = new BodyDef();
+        sectionDef.type = BodyDef.BodyType.KinematicBody;
+        sectionDef.position.set(-20f, 5f);
+        sectionBody = world.createBody(sectionDef);
+
+        PolygonShape areaShape = new PolygonShape();
+        areaShape.setAsBox(3f, 2f);
+        FixtureDef areaDef = new FixtureDef();
+        areaDef.shape = areaShape;
+        areaDef.isSensor = true;
+        sectionBody.createFixture(areaDef);
+        areaShape.dispose();
+
+        BodyDef passengerDef = new BodyDef();
+        passengerDef.type = BodyDef.BodyType.DynamicBody;
+        passengerDef.gravityScale = 0f;
+        passengerDef.position.set(-20f, 5f);
+        passengerBody = world.createBody(passengerDef);
+
+        PolygonShape passengerShape = new PolygonShape();
+        passengerShape.setAsBox(0.2f, 0.4f);
+        passengerBody.createFixture(passengerShape, 1f);
+        passengerShape.dispose();
+
+        //Assenta as caixas para os contatos ficarem ativos
+        for (int i = 0; i < 60; i++) {
+            world.step(FIXED_TIMESTEP, 8, 3);
+        }
+
+        internalAreaContacts.put(vehicle, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    /// Caminho antigo: lista todos os contatos do mundo pelo JNI e filtra os do passageiro
+    @Benchmark
+    public boolean scanWorldContacts() {
+        Array<Contact> allContacts = world.getContactList();
+
+        for (int i = 0; i < allContacts.size; i++) {
+            Contact contact = allContacts.get(i);
+            if (!contact.isTouching()) continue;
+
+            Body bodyA = contact.getFixtureA().getBody();
+            Body bodyB = contact.getFixtureB().getBody();
+
+            if (bodyA != passengerBody && bodyB != passengerBody) continue;
+            if (bodyA == sectionBody || bodyB == sectionBody) return true;
+        }
+
+        return false;
+    }
+
+    /// Caminho novo: o endContact tira um da contagem e o beginContact seguinte devolve
+    @Benchmark
+    public boolean countedOccupancy() {
+        int count = internalAreaContacts.get(vehicle, 0) - 1;
+        internalAreaContacts.put(vehicle, count + 1);
+        return count >= 0;
+    }
+}
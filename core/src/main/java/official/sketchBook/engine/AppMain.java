@@ -2,6 +2,7 @@ package official.sketchBook.engine;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import official.sketchBook.engine.util_related.texture.SpriteSheetAtlas;
 import official.sketchBook.game.screen_related.MenuScreen;
 import official.sketchBook.game.screen_related.PlayScreen;
 
@@ -40,6 +41,9 @@ public class AppMain extends Game {
         if (screen != null) {
             screen.dispose();
         }
+
+        //Páginas do atlas são compartilhadas por todas as telas, liberamos por último
+        SpriteSheetAtlas.dispose();
     }
 
     public MenuScreen getMenuScreen() {
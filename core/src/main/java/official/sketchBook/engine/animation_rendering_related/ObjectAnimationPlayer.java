@@ -43,6 +43,9 @@ public class ObjectAnimationPlayer {
     /// Rastreia quais eventos já foram disparados nesta sessão para evitar repetições indevidas
     private final BitSet triggeredFrames;
 
+    /// Handler da sheet usada por esse tocador, recebe os quadros registrados para pré-calcular as regiões
+    private SpriteSheetDataHandler boundSheetHandler;
+
     @FunctionalInterface
     public interface AnimationEventCallback {
         void onEvent(String animationKey, int frameIndex);
@@ -72,6 +75,24 @@ public class ObjectAnimationPlayer {
         }
         animations.put(animationTitle, animation);
         frameEvents.putIfAbsent(animationTitle, new ArrayList<>());
+
+        if (boundSheetHandler != null) {
+            boundSheetHandler.prepareRegions(animation);
+        }
+    }
+
+    /**
+     * Liga o tocador à sheet que irá desenhar seus quadros.
+     * Todas as animações já registradas, e as que forem registradas depois, têm suas regiões pré-calculadas
+     */
+    public void bindSheetHandler(SpriteSheetDataHandler sheetHandler) {
+        this.boundSheetHandler = sheetHandler;
+
+        if (sheetHandler == null) return;
+
+        for (List<Sprite> animation : animations.values()) {
+            sheetHandler.prepareRegions(animation);
+        }
     }
 
     /**
@@ -126,7 +147,9 @@ public class ObjectAnimationPlayer {
 
         List<AnimationFrameEvent> events = frameEvents.get(currentAnimationKey);
 
-        for (AnimationFrameEvent event : events) {
+        //Laço por índice, a troca de quadro não cria iterator
+        for (int i = 0; i < events.size(); i++) {
+            AnimationFrameEvent event = events.get(i);
             if (event.frameIndex == aniTick && !triggeredFrames.get(aniTick)) {
                 event.callback.onEvent(currentAnimationKey, aniTick);
                 triggeredFrames.set(aniTick);
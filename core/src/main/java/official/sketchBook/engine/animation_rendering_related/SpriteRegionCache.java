@@ -0,0 +1,183 @@
+package official.sketchBook.engine.animation_rendering_related;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache global de TextureRegion por (sheet, indexX, indexY, flipX, flipY).
+ * <p>
+ * Cada combinação de sheet (região dentro da textura, já que várias sheets
+ * podem dividir a mesma página de atlas) e tamanho de quadro gera uma única
+ * SheetRegions, compartilhada entre todos os SpriteSheetDataHandler que usam
+ * aquela sheet.
+ * As regiões são criadas ao registrar animações (via prepare), então a
+ * renderização só faz uma leitura de array, sem alocar nada.
+ * <p>
+ * Não é thread-safe: criação e descarte acontecem na thread do GL, junto
+ * com o carregamento das texturas.
+ */
+public final class SpriteRegionCache {
+
+    /// Variações de espelhamento por quadro (nenhum, X, Y, XY)
+    private static final int FLIP_VARIANTS = 4;
+
+    /// Regiões por textura, podendo existir mais de um tamanho de quadro por textura
+    private static final Map<Texture, List<SheetRegions>> cache = new IdentityHashMap<>();
+
+    private SpriteRegionCache() {
+    }
+
+    /**
+     * Obtém (ou cria) o conjunto de regiões de uma sheet
+     *
+     * @param sheet       região da sprite sheet (a textura inteira ou uma região de atlas)
+     * @param frameWidth  largura de cada quadro em pixels
+     * @param frameHeight altura de cada quadro em pixels
+     */
+    public static SheetRegions obtain(
+        TextureRegion sheet,
+        int frameWidth,
+        int frameHeight
+    ) {
+        if (sheet == null || sheet.getTexture() == null) {
+            throw new IllegalArgumentException("Região da sheet não pode ser null");
+        }
+        if (frameWidth <= 0 || frameHeight <= 0) {
+            throw new IllegalArgumentException("Dimensões do quadro devem ser maiores que 0");
+        }
+
+        Texture texture = sheet.getTexture();
+
+        List<SheetRegions> sheetEntries = cache.get(texture);
+        if (sheetEntries == null) {
+            sheetEntries = new ArrayList<>(1);
+            cache.put(texture, sheetEntries);
+        }
+
+        for (int i = 0; i < sheetEntries.size(); i++) {
+            SheetRegions entry = sheetEntries.get(i);
+            if (entry.matches(sheet, frameWidth, frameHeight)) return entry;
+        }
+
+        SheetRegions entry = new SheetRegions(sheet, frameWidth, frameHeight);
+        sheetEntries.add(entry);
+        return entry;
+    }
+
+    /// Descarta as regiões de uma textura, deve ser chamado junto do dispose dela
+    public static void evict(Texture sheet) {
+        cache.remove(sheet);
+    }
+
+    /// Descarta todas as regiões em cache
+    public static void clear() {
+        cache.clear();
+    }
+
+    /// Regiões pré-calculadas de uma única sheet com um único tamanho de quadro
+    public static final class SheetRegions {
+        private final Texture texture;
+
+        /// Canto superior esquerdo da sheet dentro da textura
+        private final int
+            originX,
+            originY;
+
+        private final int
+            frameWidth,
+            frameHeight,
+            columns,
+            rows;
+
+        /// [variante de espelhamento][indexY * columns + indexX]
+        private final TextureRegion[][] regions;
+
+        private SheetRegions(
+            TextureRegion sheet,
+            int frameWidth,
+            int frameHeight
+        ) {
+            this.texture = sheet.getTexture();
+            this.originX = sheet.getRegionX();
+            this.originY = sheet.getRegionY();
+            this.frameWidth = frameWidth;
+            this.frameHeight = frameHeight;
+            this.columns = Math.max(1, sheet.getRegionWidth() / frameWidth);
+            this.rows = Math.max(1, sheet.getRegionHeight() / frameHeight);
+
+            this.regions = new TextureRegion[FLIP_VARIANTS][columns * rows];
+        }
+
+        private boolean matches(TextureRegion sheet, int frameWidth, int frameHeight) {
+            return originX == sheet.getRegionX()
+                && originY == sheet.getRegionY()
+                && this.frameWidth == frameWidth
+                && this.frameHeight == frameHeight;
+        }
+
+        /// Cria antecipadamente as quatro variações de espelhamento de cada quadro da animação
+        public void prepare(List<Sprite> frames) {
+            for (int i = 0; i < frames.size(); i++) {
+                Sprite sprite = frames.get(i);
+
+                for (int variant = 0; variant < FLIP_VARIANTS; variant++) {
+                    obtainRegion(
+                        sprite.getIndexX(),
+                        sprite.getIndexY(),
+                        variant
+                    );
+                }
+            }
+        }
+
+        /**
+         * Retorna a região do quadro já espelhada.
+         * Só aloca caso o quadro não tenha passado por prepare
+         */
+        public TextureRegion get(
+            Sprite sprite,
+            boolean flipX,
+            boolean flipY
+        ) {
+            return obtainRegion(
+                sprite.getIndexX(),
+                sprite.getIndexY(),
+                (flipX ? 1 : 0) | (flipY ? 2 : 0)
+            );
+        }
+
+        private TextureRegion obtainRegion(int indexX, int indexY, int variant) {
+            if (indexX < 0 || indexY < 0 || indexX >= columns || indexY >= rows) {
+                throw new IllegalArgumentException(
+                    "Sprite (" + indexX + ", " + indexY + ") fora da sheet " + columns + "x" + rows
+                );
+            }
+
+            int slot = indexY * columns + indexX;
+
+            TextureRegion region = regions[variant][slot];
+            if (region != null) return region;
+
+            region = new TextureRegion(
+                texture,
+                originX + indexX * frameWidth,
+                originY + indexY * frameHeight,
+                frameWidth,
+                frameHeight
+            );
+
+            region.flip(
+                (variant & 1) != 0,
+                (variant & 2) != 0
+            );
+
+            regions[variant][slot] = region;
+            return region;
+        }
+    }
+}
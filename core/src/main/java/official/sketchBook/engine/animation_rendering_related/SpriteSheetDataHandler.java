@@ -2,8 +2,9 @@ package official.sketchBook.engine.animation_rendering_related;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import static official.sketchBook.engine.util_related.texture.TextureUtils.obtainCurrentSpriteImage;
+import java.util.List;
 
 /**
  * Gerencia dados e operações relacionados a uma sprite sheet,
@@ -63,8 +64,11 @@ public class SpriteSheetDataHandler {
         autoUpdateDrawOffsetScale,
         autoUpdateRotationOffsetScale;
 
-    /// Textura contendo a sprite sheet (não owned, gerenciada pelo AssetManager)
-    private final Texture spriteSheet;
+    /// Região contendo a sprite sheet, a textura inteira ou uma região de atlas (não owned)
+    private final TextureRegion spriteSheet;
+
+    /// Regiões pré-calculadas da sheet, compartilhadas com todos os handlers da mesma textura
+    private final SpriteRegionCache.SheetRegions regions;
 
     /// Rotação atual do sprite em graus
     public float rotation = 0f;
@@ -83,6 +87,38 @@ public class SpriteSheetDataHandler {
         boolean autoUpdateDrawOffsetScale,
         boolean autoUpdateRotationOffsetScale,
         Texture spriteSheet
+    ) {
+        this(
+            xPos,
+            yPos,
+            drawOffSetX,
+            drawOffSetY,
+            spriteQuantityX,
+            spriteQuantityY,
+            scaleX,
+            scaleY,
+            mirrorX,
+            mirrorY,
+            autoUpdateDrawOffsetScale,
+            autoUpdateRotationOffsetScale,
+            wrapTexture(spriteSheet)
+        );
+    }
+
+    public SpriteSheetDataHandler(
+        float xPos,
+        float yPos,
+        float drawOffSetX,
+        float drawOffSetY,
+        int spriteQuantityX,
+        int spriteQuantityY,
+        float scaleX,
+        float scaleY,
+        boolean mirrorX,
+        boolean mirrorY,
+        boolean autoUpdateDrawOffsetScale,
+        boolean autoUpdateRotationOffsetScale,
+        TextureRegion spriteSheet
     ) {
         if (spriteSheet == null) {
             throw new IllegalArgumentException("Texture não pode ser null");
@@ -100,8 +136,14 @@ public class SpriteSheetDataHandler {
         this.mirrorY = mirrorY;
 
         this.spriteSheet = spriteSheet;
-        this.canvasWidth = spriteSheet.getWidth() / spriteQuantityX;
-        this.canvasHeight = spriteSheet.getHeight() / spriteQuantityY;
+        this.canvasWidth = spriteSheet.getRegionWidth() / spriteQuantityX;
+        this.canvasHeight = spriteSheet.getRegionHeight() / spriteQuantityY;
+
+        this.regions = SpriteRegionCache.obtain(
+            spriteSheet,
+            canvasWidth,
+            canvasHeight
+        );
 
         this.autoUpdateDrawOffsetScale = autoUpdateDrawOffsetScale;
         this.autoUpdateRotationOffsetScale = autoUpdateRotationOffsetScale;
@@ -113,6 +155,18 @@ public class SpriteSheetDataHandler {
         );
     }
 
+    private static TextureRegion wrapTexture(Texture texture) {
+        if (texture == null) {
+            throw new IllegalArgumentException("Texture não pode ser null");
+        }
+        return new TextureRegion(texture);
+    }
+
+    /// Textura (ou página de atlas) onde a sheet está, usada para agrupar draws da mesma textura
+    public Texture getTexture() {
+        return spriteSheet.getTexture();
+    }
+
     /// Atualiza a offset da origem de rotação caso alteremos a escala,
     private void updateRotationOriginAccordingToScale() {
         this.originOffSetX *= scaleX;
@@ -178,6 +232,11 @@ public class SpriteSheetDataHandler {
             updateDrawOffsetAccordingToScale();
     }
 
+    /// Cria antecipadamente as regiões dos quadros passados, para a renderização não alocar
+    public void prepareRegions(List<Sprite> frames) {
+        regions.prepare(frames);
+    }
+
     /// Define a rotação atual da imagem em graus
     public void setRotation(float rotation) {
         this.rotation = rotation;
@@ -192,11 +251,8 @@ public class SpriteSheetDataHandler {
      */
     public void renderSprite(SpriteBatch batch, Sprite currentSprite) {
         batch.draw(
-            obtainCurrentSpriteImage(
+            regions.get(
                 currentSprite,
-                canvasWidth,
-                canvasHeight,
-                spriteSheet,
                 mirrorX,
                 mirrorY
             ),
@@ -0,0 +1,30 @@
+package official.sketchBook.engine.components_related.intefaces.base_interfaces;
+
+/**
+ * Componente de lógica pura, que pode ser atualizado em paralelo com componentes de outros objetos.
+ * <p>
+ * A atualização é dividida em duas fases:
+ * <ul>
+ *     <li>parallelUpdate: roda em qualquer thread do pool. Só pode ler estado do próprio objeto
+ *     (ou estado que ninguém escreve durante a fase) e escrever em campos do próprio componente.
+ *     Nada de Box2D, input do Gdx ou listas compartilhadas</li>
+ *     <li>mergeParallelResult: roda na thread da simulação, serialmente e na ordem da lista de
+ *     objetos, aplicando o resultado calculado. É aqui que efeitos colaterais podem acontecer</li>
+ * </ul>
+ * Sem a fase paralela ativa, update executa as duas fases em sequência, então o componente
+ * se comporta igual a um Component comum.
+ */
+public interface ParallelComponent extends Component {
+
+    /// Calcula o resultado da atualização sem efeitos colaterais fora do componente
+    void parallelUpdate(float delta);
+
+    /// Aplica o resultado calculado em parallelUpdate, sempre na thread da simulação
+    void mergeParallelResult();
+
+    @Override
+    default void update(float delta) {
+        parallelUpdate(delta);
+        mergeParallelResult();
+    }
+}
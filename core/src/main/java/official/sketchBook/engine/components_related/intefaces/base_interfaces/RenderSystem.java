@@ -5,4 +5,7 @@ public interface RenderSystem {
 
     void updateVisuals(float delta);
 
+    /// Recebe o alpha de interpolação do sistema de update antes de desenhar o frame
+    void setInterpolationAlpha(float alpha);
+
 }
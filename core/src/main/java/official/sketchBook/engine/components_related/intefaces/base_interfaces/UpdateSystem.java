@@ -4,6 +4,13 @@ public interface UpdateSystem {
     /// Atualização geral do manager e screen
     void update(float delta);
 
+    /**
+     * Fração do passo fixo que sobrou no accumulator após o último update [0, 1].
+     * Usado pela renderização para interpolar entre o estado anterior e o atual.
+     * Sistemas sem passo fixo devem retornar 1 (estado atual, sem interpolação)
+     */
+    float getInterpolationAlpha();
+
     int getUpdatesMetric();
     void resetUpdateMetric();
 
@@ -1,6 +1,7 @@
 package official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.liquid;
 
 import official.sketchBook.engine.components_related.physics.LiquidInteractionComponent;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
 
 public interface LIOBase {
     void onLiquidExit();
@@ -9,4 +10,7 @@ public interface LIOBase {
     void inLiquidUpdate();
 
     LiquidInteractionComponent getLiquidInteractionC();
+
+    /// Sala onde o objeto está, dona do índice de regiões de líquido consultado pelo componente
+    PlayableRoom getOwnerRoom();
 }
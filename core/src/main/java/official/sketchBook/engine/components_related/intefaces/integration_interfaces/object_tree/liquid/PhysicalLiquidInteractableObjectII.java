@@ -2,10 +2,14 @@ package official.sketchBook.engine.components_related.intefaces.integration_inte
 
 import official.sketchBook.engine.components_related.movement.MovementComponent;
 import official.sketchBook.engine.components_related.physics.PhysicsComponent;
+import official.sketchBook.engine.data_manager_related.PhysicalGameObjectDataManager;
 
 public interface PhysicalLiquidInteractableObjectII extends LIOBase{
 
     PhysicsComponent getPhysicsC();
     MovementComponent getMoveC();
 
+    /// Manager do mundo físico do objeto, null enquanto ele ainda não pertence a um
+    PhysicalGameObjectDataManager getPhysicalManager();
+
 }
@@ -3,6 +3,7 @@ package official.sketchBook.engine.components_related.intefaces.integration_inte
 import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.Manifold;
+import official.sketchBook.engine.util_related.contact_listener.DeferredContactBuffer;
 import official.sketchBook.engine.util_related.helper.GameObjectTag;
 
 public interface SelfListenedPhysicalObjectII {
@@ -13,4 +14,18 @@ public interface SelfListenedPhysicalObjectII {
     void preSolve(Contact contact, Manifold oldManifold, GameObjectTag tagA, GameObjectTag tagB);
 
     void postSolve(Contact contact, ContactImpulse impulse, GameObjectTag tagA, GameObjectTag tagB);
+
+    /*
+     * Versões adiadas, chamadas depois do step quando o MultiContactListener está no modo adiado.
+     * selfTag é sempre a tag do próprio objeto, o evento mantém a ordem A/B do Box2D
+     */
+
+    default void deferredBeginContact(DeferredContactBuffer.ContactEvent event, GameObjectTag selfTag, GameObjectTag otherTag) {
+    }
+
+    default void deferredEndContact(DeferredContactBuffer.ContactEvent event, GameObjectTag selfTag, GameObjectTag otherTag) {
+    }
+
+    default void deferredPostSolve(DeferredContactBuffer.ContactEvent event, GameObjectTag selfTag, GameObjectTag otherTag) {
+    }
 }
@@ -9,4 +9,9 @@ public interface OptmizedRenderableObjectII extends RenderableObjectII{
     void setInScreen(boolean inScreen);
 
     TransformComponent getTransformC();
+
+    /// Objetos que nunca se movem são indexados no grid de culling uma única vez, ao serem adicionados
+    default boolean isStaticRender() {
+        return false;
+    }
 }
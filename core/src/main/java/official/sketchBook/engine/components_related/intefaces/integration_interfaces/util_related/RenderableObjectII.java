@@ -1,5 +1,6 @@
 package official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import official.sketchBook.engine.components_related.objects.TransformComponent;
 
@@ -16,7 +17,10 @@ public interface RenderableObjectII {
     /// Determinado pela lógica interna do objeto, se pode ser renderizado ou não
     boolean canRender();
 
-
+    /// Textura principal usada no render, objetos com a mesma textura são desenhados em sequência para evitar flush
+    default Texture getRenderTexture() {
+        return null;
+    }
 
     void disposeGraphics();
 }
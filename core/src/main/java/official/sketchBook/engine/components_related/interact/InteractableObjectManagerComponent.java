@@ -6,6 +6,7 @@ import official.sketchBook.engine.components_related.intefaces.base_interfaces.C
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.interaction.InteractableObjectII;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.interaction.InteractionTriggerer;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.physics.SelfListenedPhysicalObjectII;
+import official.sketchBook.engine.util_related.contact_listener.DeferredContactBuffer;
 import official.sketchBook.engine.util_related.enumerators.ObjectType;
 import official.sketchBook.engine.util_related.helper.GameObjectTag;
 
@@ -86,37 +87,57 @@ public class InteractableObjectManagerComponent implements Component, SelfListen
 
     @Override
     public void beginContact(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
-        GameObjectTag fixTagA = getFromFixtureTag(contact.getFixtureA());
-        GameObjectTag fixTagB = getFromFixtureTag(contact.getFixtureB());
-
-        InteractableObjectII interactable = extractInteractable(fixTagA, fixTagB);
-        if (interactable == null) return;
-
-        // triggerer vem do body, não da fixture
-        GameObjectTag bodyTagA = getFromBodyTag(contact.getFixtureA());
-        GameObjectTag bodyTagB = getFromBodyTag(contact.getFixtureB());
+        handleTrigger(contact, true);
+    }
 
-        InteractionTriggerer triggerer = extractTriggerer(bodyTagA, bodyTagB);
-        if (triggerer == null) return;
+    @Override
+    public void endContact(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
+        handleTrigger(contact, false);
+    }
 
-        triggerer.getTriggerC().addInteractable(interactable);
+    @Override
+    public void deferredBeginContact(DeferredContactBuffer.ContactEvent event, GameObjectTag selfTag, GameObjectTag otherTag) {
+        handleTrigger(event.getFixtureTagA(), event.getFixtureTagB(), event.getTagA(), event.getTagB(), true);
     }
 
     @Override
-    public void endContact(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
-        GameObjectTag fixTagA = getFromFixtureTag(contact.getFixtureA());
-        GameObjectTag fixTagB = getFromFixtureTag(contact.getFixtureB());
+    public void deferredEndContact(DeferredContactBuffer.ContactEvent event, GameObjectTag selfTag, GameObjectTag otherTag) {
+        handleTrigger(event.getFixtureTagA(), event.getFixtureTagB(), event.getTagA(), event.getTagB(), false);
+    }
+
+    private void handleTrigger(Contact contact, boolean entering) {
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+
+        handleTrigger(
+            getFromFixtureTag(fixtureA),
+            getFromFixtureTag(fixtureB),
+            getFromBodyTag(fixtureA),
+            getFromBodyTag(fixtureB),
+            entering
+        );
+    }
 
+    /// Registra ou remove o interativo tocado no objeto que disparou a interação
+    private void handleTrigger(
+        GameObjectTag fixTagA,
+        GameObjectTag fixTagB,
+        GameObjectTag bodyTagA,
+        GameObjectTag bodyTagB,
+        boolean entering
+    ) {
         InteractableObjectII interactable = extractInteractable(fixTagA, fixTagB);
         if (interactable == null) return;
 
-        GameObjectTag bodyTagA = getFromBodyTag(contact.getFixtureA());
-        GameObjectTag bodyTagB = getFromBodyTag(contact.getFixtureB());
-
+        // triggerer vem do body, não da fixture
         InteractionTriggerer triggerer = extractTriggerer(bodyTagA, bodyTagB);
         if (triggerer == null) return;
 
-        triggerer.getTriggerC().removeInteractable(interactable);
+        if (entering) {
+            triggerer.getTriggerC().addInteractable(interactable);
+        } else {
+            triggerer.getTriggerC().removeInteractable(interactable);
+        }
     }
 
     private InteractableObjectII extractInteractable(GameObjectTag tagA, GameObjectTag tagB) {
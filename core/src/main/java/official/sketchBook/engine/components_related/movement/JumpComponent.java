@@ -1,6 +1,5 @@
 package official.sketchBook.engine.components_related.movement;
 
-import com.badlogic.gdx.physics.box2d.Body;
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.physics.JumpCapableObjectII;
 import official.sketchBook.engine.components_related.objects.AxisData;
@@ -41,8 +40,6 @@ public class JumpComponent implements Component {
     private MovementComponent moveC;
     /// Componente de física
     private PhysicsComponent physicsC;
-    /// Corpo físico necessário para o componente de pulo
-    private Body body;
 
     /// Buffer para dizer se estávamos no chão no último frame
     private boolean prevOnGround;
@@ -87,7 +84,6 @@ public class JumpComponent implements Component {
         boolean superJump
     ) {
         this.object = object;
-        this.body = object.getBody();
         this.moveC = object.getMoveC();
         this.physicsC = object.getPhysicsC();
 
@@ -156,13 +152,11 @@ public class JumpComponent implements Component {
         if (!enhancedGravity) return;
 
         if (jumpedFromGround && falling) {
-            if (body.getGravityScale() == defGravityScale) {
-                body.setGravityScale(enhancedGravityScale);
+            if (physicsC.getGravityScale() == defGravityScale) {
+                physicsC.setGravityScale(enhancedGravityScale);
             }
         } else if (object.isOnGround()) {
-            if (body.getGravityScale() != defGravityScale) {
-                body.setGravityScale(defGravityScale);
-            }
+            physicsC.setGravityScale(defGravityScale);
         }
     }
 
@@ -271,7 +265,7 @@ public class JumpComponent implements Component {
                 if (yAxis.velocity< 0 ||
                     yAxis.velocity> 0 && !superJump
                 ) {
-                    body.setLinearVelocity(
+                    physicsC.setVelocity(
                         physicsC.getTmpVel().x,
                         0
                     );
@@ -292,7 +286,7 @@ public class JumpComponent implements Component {
             }
         } else {
             if (jumping && toMeters(yAxis.velocity)> fallSpeedAfterJCancel) {
-                body.setLinearVelocity(
+                physicsC.setVelocity(
                     physicsC.getTmpVel().x,
                     fallSpeedAfterJCancel
                 );
@@ -309,7 +303,6 @@ public class JumpComponent implements Component {
 
     public void nullifyReferences() {
         object = null;
-        body = null;
 
         moveC = null;
         physicsC = null;
@@ -1,5 +1,6 @@
 package official.sketchBook.engine.components_related.objects;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import official.sketchBook.engine.animation_rendering_related.ObjectAnimationPlayer;
 
@@ -7,6 +8,7 @@ import official.sketchBook.engine.animation_rendering_related.Sprite;
 import official.sketchBook.engine.animation_rendering_related.SpriteSheetDataHandler;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class AnimationRenderingComponent {
@@ -37,15 +39,15 @@ public class AnimationRenderingComponent {
             currentRenderingAniPlayer = currentLayer.aniPlayer;
             currentTransformC = currentLayer.transformC;
 
-            //Atualizamos a posição da sprite usando o componente de transform
+            //Atualizamos a posição da sprite usando o estado interpolado do componente de transform
             currentRenderingSheetHandler.updatePosition(
-                currentTransformC.x,
-                currentTransformC.y
+                currentTransformC.getRenderX(),
+                currentTransformC.getRenderY()
             );
 
             //Atualizamos a rotação da imagem
             currentRenderingSheetHandler.setRotation(
-                currentTransformC.getRotation()
+                currentTransformC.getRenderRotation()
             );
 
             //Determinamos se podemos inverter a imagem em algum eixo
@@ -64,6 +66,11 @@ public class AnimationRenderingComponent {
                 currentRenderingAniPlayer.update(delta);
             }
 
+            //Congela a sprite do frame, a renderização só lê esse snapshot e nunca o tocador diretamente
+            currentLayer.renderedSprite = currentRenderingAniPlayer != null ?
+                currentRenderingAniPlayer.getCurrentSprite() :
+                currentLayer.defaultSprite;
+
         }
     }
 
@@ -78,14 +85,14 @@ public class AnimationRenderingComponent {
             currentLayer = layers.get(i);
 
             currentRenderingSheetHandler = currentLayer.sheetHandler;
-            currentRenderingAniPlayer = currentLayer.aniPlayer;
+
+            //Camadas que ainda não passaram por updateVisuals não tem o que desenhar
+            if (currentLayer.renderedSprite == null) continue;
 
             //Obtemos o nosso handler e chamamos para renderizar
             currentRenderingSheetHandler.renderSprite(
                 batch,
-                currentRenderingAniPlayer != null ?
-                    currentRenderingAniPlayer.getCurrentSprite() :
-                    currentLayer.defaultSprite
+                currentLayer.renderedSprite
             );
 
         }
@@ -102,6 +109,11 @@ public class AnimationRenderingComponent {
         ObjectAnimationPlayer aniPlayer,
         TransformComponent transformC
     ) {
+        //Os quadros de todas as animações passam a ter suas regiões pré-calculadas
+        if (aniPlayer != null) {
+            aniPlayer.bindSheetHandler(spriteDataHandler);
+        }
+
         layers.add(
             new AnimationLayer(
                 spriteDataHandler,
@@ -123,6 +135,12 @@ public class AnimationRenderingComponent {
         Sprite defaultSprite,
         TransformComponent transformC
     ) {
+        if (defaultSprite != null) {
+            spriteDataHandler.prepareRegions(
+                Collections.singletonList(defaultSprite)
+            );
+        }
+
         layers.add(
             new AnimationLayer(
                 spriteDataHandler,
@@ -145,6 +163,12 @@ public class AnimationRenderingComponent {
         disposed = true;
     }
 
+    /// Textura da primeira camada, usada para agrupar objetos por textura na renderização
+    public Texture getPrimaryTexture() {
+        if (layers.isEmpty()) return null;
+        return layers.get(0).sheetHandler.getTexture();
+    }
+
     public List<AnimationLayer> getLayers() {
         return layers;
     }
@@ -162,6 +186,9 @@ public class AnimationRenderingComponent {
         /// Sprite a ser renderizada caso não passemos um gerenciador de animações
         public Sprite defaultSprite;
 
+        /// Sprite capturada no último updateVisuals, é a única lida durante a renderização
+        public Sprite renderedSprite;
+
 
         AnimationLayer(
             SpriteSheetDataHandler sheetHandler,
@@ -30,6 +30,22 @@ public class TransformComponent {
 
     private boolean rotationDirty = true;
 
+    /// Estado do passo de simulação anterior, usado para interpolar a renderização
+    private float
+        prevX,
+        prevY,
+        prevRotation;
+
+    /// Só interpolamos transforms que registram o estado anterior a cada passo (ex: sincronizados pela física)
+    private boolean interpolated = false;
+
+    /**
+     * Fração do passo fixo decorrida desde o último update [0, 1],
+     * publicada pelo RenderSystem antes de cada frame. Compartilhada por
+     * todos os transforms, já que todos avançam no mesmo passo.
+     */
+    private static float interpolationAlpha = 1f;
+
     public TransformComponent() {
         this(
             0,
@@ -70,6 +86,8 @@ public class TransformComponent {
             scaleX,
             scaleY
         );
+
+        snapPreviousState();
     }
 
     public void setScale(
@@ -114,6 +132,56 @@ public class TransformComponent {
         rotationDirty = false;
     }
 
+    /**
+     * Guarda o estado atual como estado anterior.
+     * Deve ser chamado uma vez por passo, antes de escrever a nova posição
+     */
+    public void storePreviousState() {
+        prevX = x;
+        prevY = y;
+        prevRotation = rotation;
+
+        interpolated = true;
+    }
+
+    /**
+     * Descarta a interpolação, fazendo o estado anterior ser igual ao atual.
+     * Usado em teleportes/ativações, onde interpolar geraria um rastro visual
+     */
+    public void snapPreviousState() {
+        prevX = x;
+        prevY = y;
+        prevRotation = rotation;
+    }
+
+    /// Posição X a ser desenhada, interpolada entre o passo anterior e o atual
+    public float getRenderX() {
+        if (!interpolated) return x;
+        return prevX + (x - prevX) * interpolationAlpha;
+    }
+
+    /// Posição Y a ser desenhada, interpolada entre o passo anterior e o atual
+    public float getRenderY() {
+        if (!interpolated) return y;
+        return prevY + (y - prevY) * interpolationAlpha;
+    }
+
+    /// Rotação a ser desenhada, interpolada pelo menor arco entre o passo anterior e o atual
+    public float getRenderRotation() {
+        if (!interpolated) return rotation;
+        return wrapDegrees(
+            prevRotation + wrapDegrees(rotation - prevRotation) * interpolationAlpha
+        );
+    }
+
+    public static void setInterpolationAlpha(float alpha) {
+        interpolationAlpha = Math.max(0f, Math.min(alpha, 1f));
+    }
+
+    public static float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
     public float getRotation() {
         return rotation;
     }
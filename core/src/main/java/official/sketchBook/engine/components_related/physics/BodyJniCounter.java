@@ -0,0 +1,58 @@
+package official.sketchBook.engine.components_related.physics;
+
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.BODY_JNI_COUNTER;
+
+/**
+ * Contagem das chamadas ao Box2D feitas pelo BodyStateShadow, por tick.
+ * <p>
+ * Conta as chamadas que atravessaram o JNI e as que foram evitadas pelo cache,
+ * para medir a economia com muitos corpos. Só conta com PhysicsConstants.BODY_JNI_COUNTER
+ * ligado, e deve ser usado apenas pela thread de simulação.
+ */
+public final class BodyJniCounter {
+
+    /// Contagem do tick em andamento
+    private static int
+        calls = 0,
+        skipped = 0;
+
+    /// Contagem do último tick completo
+    private static int
+        lastTickCalls = 0,
+        lastTickSkipped = 0;
+
+    private BodyJniCounter() {
+    }
+
+    static void countCall() {
+        if (BODY_JNI_COUNTER) calls++;
+    }
+
+    static void countSkip() {
+        if (BODY_JNI_COUNTER) skipped++;
+    }
+
+    /// Fecha a contagem do tick anterior e começa uma nova, chamado pelo manager no início do update
+    public static void beginTick() {
+        lastTickCalls = calls;
+        lastTickSkipped = skipped;
+
+        calls = 0;
+        skipped = 0;
+    }
+
+    /// Chamadas que atravessaram o JNI no último tick
+    public static int getLastTickCalls() {
+        return lastTickCalls;
+    }
+
+    /// Chamadas evitadas pelo cache no último tick
+    public static int getLastTickSkipped() {
+        return lastTickSkipped;
+    }
+
+    public static void reset() {
+        calls = skipped = 0;
+        lastTickCalls = lastTickSkipped = 0;
+    }
+}
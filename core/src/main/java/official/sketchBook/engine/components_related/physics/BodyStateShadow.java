@@ -0,0 +1,221 @@
+package official.sketchBook.engine.components_related.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * Cópia do último estado escrito ou lido de um corpo do Box2D, para só atravessar
+ * o JNI quando o valor realmente muda.
+ * <p>
+ * Rotação fixa e escala de gravidade só mudam pelas nossas escritas, então o
+ * cache delas vale enquanto tudo passar por aqui. A velocidade linear muda no
+ * step, então o valor conhecido só vale até o próximo step do mundo
+ * (onWorldStepped). Depois dele a primeira leitura volta a atravessar o JNI.
+ * <p>
+ * Escritas diretas no corpo, sem passar pela shadow, precisam chamar invalidate.
+ * Deve ser usado apenas pela thread de simulação.
+ */
+public class BodyStateShadow {
+
+    /// Incrementado a cada step de qualquer mundo, velocidades conhecidas de steps anteriores deixam de valer
+    private static int worldStepStamp = 0;
+
+    private boolean fixedRotationKnown = false;
+    private boolean fixedRotation;
+
+    private boolean gravityScaleKnown = false;
+    private float gravityScale;
+
+    /// Step em que a velocidade foi lida ou escrita, -1 quando desconhecida
+    private int velocityStamp = -1;
+    private float
+        velX,
+        velY;
+
+    /// Estado escrito em um corpo kinematic, que só se move pela própria velocidade
+    private boolean
+        kinematicPoseKnown = false,
+        kinematicVelocityKnown = false,
+        kinematicOmegaKnown = false;
+    private float
+        kinematicX,
+        kinematicY,
+        kinematicAngle,
+        kinematicVelX,
+        kinematicVelY,
+        kinematicOmega;
+
+    /// Chamado pelo manager logo depois do step do mundo
+    public static void onWorldStepped() {
+        worldStepStamp++;
+    }
+
+    /// Esquece tudo, para quando o corpo foi alterado sem passar pela shadow
+    public void invalidate() {
+        fixedRotationKnown = false;
+        gravityScaleKnown = false;
+        velocityStamp = -1;
+        kinematicPoseKnown = false;
+        kinematicVelocityKnown = false;
+        kinematicOmegaKnown = false;
+    }
+
+    public void setFixedRotation(Body body, boolean fixed) {
+        if (fixedRotationKnown && fixedRotation == fixed) {
+            BodyJniCounter.countSkip();
+            return;
+        }
+
+        body.setFixedRotation(fixed);
+        BodyJniCounter.countCall();
+
+        fixedRotation = fixed;
+        fixedRotationKnown = true;
+    }
+
+    /// Com a rotação fixa o Box2D zera e mantém zerada a velocidade angular, zerar de novo não muda nada
+    public void setAngularVelocity(Body body, float velocity) {
+        if (velocity == 0f && fixedRotationKnown && fixedRotation) {
+            BodyJniCounter.countSkip();
+            return;
+        }
+
+        body.setAngularVelocity(velocity);
+        BodyJniCounter.countCall();
+    }
+
+    public void setGravityScale(Body body, float scale) {
+        if (gravityScaleKnown && gravityScale == scale) {
+            BodyJniCounter.countSkip();
+            return;
+        }
+
+        body.setGravityScale(scale);
+        BodyJniCounter.countCall();
+
+        gravityScale = scale;
+        gravityScaleKnown = true;
+    }
+
+    public float getGravityScale(Body body) {
+        if (!gravityScaleKnown) {
+            gravityScale = body.getGravityScale();
+            gravityScaleKnown = true;
+            BodyJniCounter.countCall();
+        }
+
+        return gravityScale;
+    }
+
+    /// Velocidade linear em metros por segundo, lida no máximo uma vez por step
+    public void readLinearVelocity(Body body, Vector2 out) {
+        if (velocityStamp != worldStepStamp) {
+            Vector2 velocity = body.getLinearVelocity();
+            velX = velocity.x;
+            velY = velocity.y;
+            velocityStamp = worldStepStamp;
+            BodyJniCounter.countCall();
+        }
+
+        out.set(velX, velY);
+    }
+
+    public void setLinearVelocity(Body body, float vx, float vy) {
+        if (velocityStamp == worldStepStamp && velX == vx && velY == vy) {
+            BodyJniCounter.countSkip();
+            return;
+        }
+
+        body.setLinearVelocity(vx, vy);
+        BodyJniCounter.countCall();
+
+        velX = vx;
+        velY = vy;
+        velocityStamp = worldStepStamp;
+    }
+
+    /// O impulso muda a velocidade por dentro do Box2D, a próxima leitura atravessa o JNI
+    public void applyLinearImpulse(Body body, Vector2 impulse, Vector2 point, boolean wake) {
+        body.applyLinearImpulse(impulse, point, wake);
+        BodyJniCounter.countCall();
+
+        velocityStamp = -1;
+    }
+
+    public void setTransform(Body body, float x, float y, float angle) {
+        body.setTransform(x, y, angle);
+        BodyJniCounter.countCall();
+
+        kinematicPoseKnown = false;
+    }
+
+    /**
+     * Posiciona um corpo kinematic e define a velocidade dele.
+     * Parado e na mesma posição do último envio, o corpo não se moveu e nada é escrito,
+     * o que poupa também a sincronização das fixtures com o broadphase feita pelo setTransform
+     */
+    public void setKinematicState(
+        Body body,
+        float x,
+        float y,
+        float angle,
+        float vx,
+        float vy
+    ) {
+        boolean unchanged = kinematicPoseKnown && kinematicVelocityKnown
+            && kinematicVelX == 0f && kinematicVelY == 0f
+            && kinematicX == x && kinematicY == y && kinematicAngle == angle;
+
+        if (unchanged) {
+            BodyJniCounter.countSkip();
+        } else {
+            body.setTransform(x, y, angle);
+            BodyJniCounter.countCall();
+        }
+
+        writeKinematicVelocity(body, vx, vy);
+
+        kinematicX = x;
+        kinematicY = y;
+        kinematicAngle = angle;
+        kinematicPoseKnown = true;
+    }
+
+    /**
+     * Move um corpo kinematic só pela velocidade, sem setTransform.
+     * O step integra a posição a partir daqui, então a pose conhecida deixa de valer
+     */
+    public void setKinematicVelocity(
+        Body body,
+        float vx,
+        float vy,
+        float omega
+    ) {
+        writeKinematicVelocity(body, vx, vy);
+
+        if (kinematicOmegaKnown && kinematicOmega == omega) {
+            BodyJniCounter.countSkip();
+        } else {
+            body.setAngularVelocity(omega);
+            BodyJniCounter.countCall();
+        }
+
+        kinematicOmega = omega;
+        kinematicOmegaKnown = true;
+        kinematicPoseKnown = false;
+    }
+
+    /// A velocidade de um corpo kinematic só muda pelas nossas escritas
+    private void writeKinematicVelocity(Body body, float vx, float vy) {
+        if (kinematicVelocityKnown && kinematicVelX == vx && kinematicVelY == vy) {
+            BodyJniCounter.countSkip();
+        } else {
+            body.setLinearVelocity(vx, vy);
+            BodyJniCounter.countCall();
+        }
+
+        kinematicVelX = vx;
+        kinematicVelY = vy;
+        kinematicVelocityKnown = true;
+    }
+}
@@ -0,0 +1,588 @@
+package official.sketchBook.engine.components_related.physics;
+
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Resolve o empuxo de todos os corpos submersos de uma vez, antes do step do mundo.
+ * <p>
+ * Durante o update cada PhysicalLiquidInteractionComponent copia a transformação
+ * do corpo e a geometria local das fixtures para arrays planos (uma coluna por
+ * dado). No solve as transformações, o recorte na superfície, a área submersa
+ * e o centroide são calculados em laços curtos sobre esses arrays, sem tocar o
+ * Box2D, e podem ser divididos entre threads. Só a aplicação das forças volta
+ * para a thread de simulação, na ordem em que os corpos foram enviados.
+ * <p>
+ * O seno e o cosseno do ângulo são calculados uma vez por corpo, e não uma vez
+ * por fixture como no cálculo individual.
+ * <p>
+ * Cada PhysicalGameObjectDataManager cria e descarta o próprio solver, os componentes
+ * chegam nele pelo manager do objeto dono.
+ */
+public class BuoyancyBatchSolver implements Disposable {
+
+    private static final float MIN_FRACTION_TO_APPLY_FORCE = 0.001f;
+
+    /// Pool dedicado para o cálculo, null quando o solve roda só na thread de simulação
+    private final ForkJoinPool pool;
+
+    /// Quantidade de corpos por tarefa, abaixo disso não vale a pena dividir
+    private final int batchSize;
+
+    /// Colunas por corpo
+    private PhysicalLiquidInteractionComponent[] owners;
+    private float[]
+        bodyX,
+        bodyY,
+        bodyCos,
+        bodySin,
+        centerLocalX,           //Centro de massa local, usado quando a fixture está totalmente submersa
+        centerLocalY,
+        surfaceY,
+        liquidDensity,
+        gravity;
+    private boolean[] canRotate;
+    private int[]
+        bodyShapeStart,
+        bodyShapeEnd,
+        bodyVertexStart,
+        bodyVertexEnd;
+
+    /// Resultados por corpo: soma das magnitudes e soma dos pontos ponderados pela magnitude
+    private float[]
+        totalMagnitude,
+        weightedX,
+        weightedY;
+
+    /// Colunas por fixture, círculos usam um único vértice (o centro) e o raio
+    private int[]
+        shapeVertexStart,
+        shapeVertexCount;
+    private float[]
+        shapeArea,
+        shapeRadius;
+    private boolean[] shapeCircle;
+
+    /// Colunas por vértice, locais e já transformados para o mundo
+    private float[]
+        localX,
+        localY,
+        worldX,
+        worldY;
+
+    private int
+        bodyCount = 0,
+        shapeCount = 0,
+        vertexCount = 0;
+
+    /// Corpo sendo montado entre beginBody e endBody, -1 quando nenhum
+    private int openBody = -1;
+
+    /// Acumulador do recorte usado quando o solve roda na própria thread
+    private final ClipAccumulator serialAccumulator = new ClipAccumulator();
+
+    private boolean disposed = false;
+
+    /**
+     * @param parallelism quantidade de threads do cálculo, 1 para calcular só na thread de simulação
+     * @param batchSize   quantidade de corpos por tarefa
+     */
+    public BuoyancyBatchSolver(int parallelism, int batchSize) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que 0");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Tamanho de lote deve ser maior que 0");
+        }
+
+        //Com uma thread só não existe ganho em agendar tarefas
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        this.batchSize = batchSize;
+
+        allocateBodies(64);
+        allocateShapes(128);
+        allocateVertices(512);
+    }
+
+    // ============================================================
+    // COLETA
+    // ============================================================
+
+    /**
+     * Começa a coleta de um corpo submerso, as fixtures dele devem vir em seguida
+     *
+     * @param owner         componente que recebe o resultado
+     * @param x             posição do corpo em metros
+     * @param y             posição do corpo em metros
+     * @param angle         ângulo do corpo em radianos
+     * @param centerX       centro de massa local em metros
+     * @param centerY       centro de massa local em metros
+     * @param surface       altura da superfície do líquido em metros
+     * @param density       densidade do líquido
+     * @param gravityY      módulo da gravidade do mundo
+     * @param rotates       se o corpo pode girar, sem rotação o ponto de aplicação não é calculado
+     */
+    public void beginBody(
+        PhysicalLiquidInteractionComponent owner,
+        float x,
+        float y,
+        float angle,
+        float centerX,
+        float centerY,
+        float surface,
+        float density,
+        float gravityY,
+        boolean rotates
+    ) {
+        if (openBody != -1) {
+            throw new IllegalStateException("O corpo anterior não foi finalizado com endBody");
+        }
+
+        if (bodyCount == owners.length) growBodies();
+
+        int b = bodyCount;
+        owners[b] = owner;
+        bodyX[b] = x;
+        bodyY[b] = y;
+        bodyCos[b] = (float) Math.cos(angle);
+        bodySin[b] = (float) Math.sin(angle);
+        centerLocalX[b] = centerX;
+        centerLocalY[b] = centerY;
+        surfaceY[b] = surface;
+        liquidDensity[b] = density;
+        gravity[b] = gravityY;
+        canRotate[b] = rotates;
+        bodyShapeStart[b] = shapeCount;
+        bodyVertexStart[b] = vertexCount;
+
+        openBody = b;
+    }
+
+    /// Adiciona uma fixture poligonal do corpo aberto, com os vértices em coordenadas locais
+    public void addPolygon(float[] xs, float[] ys, int count, float area) {
+        int s = reserveShape(count, area);
+        shapeCircle[s] = false;
+        shapeRadius[s] = 0f;
+
+        System.arraycopy(xs, 0, localX, shapeVertexStart[s], count);
+        System.arraycopy(ys, 0, localY, shapeVertexStart[s], count);
+    }
+
+    /// Adiciona uma fixture circular do corpo aberto, com o centro em coordenadas locais
+    public void addCircle(float centerX, float centerY, float radius) {
+        int s = reserveShape(1, (float) Math.PI * radius * radius);
+        shapeCircle[s] = true;
+        shapeRadius[s] = radius;
+
+        localX[shapeVertexStart[s]] = centerX;
+        localY[shapeVertexStart[s]] = centerY;
+    }
+
+    /// Finaliza o corpo aberto, corpos sem nenhuma fixture são descartados
+    public void endBody() {
+        if (openBody == -1) {
+            throw new IllegalStateException("Nenhum corpo aberto com beginBody");
+        }
+
+        int b = openBody;
+        openBody = -1;
+
+        if (shapeCount == bodyShapeStart[b]) {
+            owners[b] = null;
+            return;
+        }
+
+        bodyShapeEnd[b] = shapeCount;
+        bodyVertexEnd[b] = vertexCount;
+        bodyCount++;
+    }
+
+    private int reserveShape(int vertices, float area) {
+        if (openBody == -1) {
+            throw new IllegalStateException("Fixture adicionada sem um corpo aberto com beginBody");
+        }
+
+        if (shapeCount == shapeArea.length) growShapes();
+        while (vertexCount + vertices > localX.length) growVertices();
+
+        int s = shapeCount++;
+        shapeVertexStart[s] = vertexCount;
+        shapeVertexCount[s] = vertices;
+        shapeArea[s] = area;
+
+        vertexCount += vertices;
+        return s;
+    }
+
+    // ============================================================
+    // SOLVE
+    // ============================================================
+
+    /// Calcula o empuxo de todos os corpos coletados e aplica as forças, esvaziando o lote
+    public void solve() {
+        if (disposed || bodyCount == 0) return;
+
+        if (openBody != -1) {
+            throw new IllegalStateException("Solve chamado com um corpo ainda aberto");
+        }
+
+        if (pool == null || bodyCount <= batchSize) {
+            computeRange(0, bodyCount, serialAccumulator);
+        } else {
+            pool.invoke(new BodyRangeTask(this, 0, bodyCount));
+        }
+
+        //Aplicação serial, na ordem de envio, o Box2D não é thread-safe
+        for (int b = 0; b < bodyCount; b++) {
+            owners[b].applyBatchedBuoyancy(
+                totalMagnitude[b],
+                weightedX[b],
+                weightedY[b],
+                canRotate[b]
+            );
+        }
+
+        clear();
+    }
+
+    private void computeRange(int start, int end, ClipAccumulator accumulator) {
+        for (int b = start; b < end; b++) {
+            transformVertices(b);
+            computeBody(b, accumulator);
+        }
+    }
+
+    /// Leva todos os vértices do corpo para o mundo, sem dependência entre iterações
+    private void transformVertices(int b) {
+        float x = bodyX[b];
+        float y = bodyY[b];
+        float cos = bodyCos[b];
+        float sin = bodySin[b];
+
+        int end = bodyVertexEnd[b];
+        for (int v = bodyVertexStart[b]; v < end; v++) {
+            float lx = localX[v];
+            float ly = localY[v];
+
+            worldX[v] = x + (cos * lx - sin * ly);
+            worldY[v] = y + (sin * lx + cos * ly);
+        }
+    }
+
+    private void computeBody(int b, ClipAccumulator accumulator) {
+        float surface = surfaceY[b];
+        float forceScale = liquidDensity[b] * gravity[b];
+        boolean rotates = canRotate[b];
+
+        float total = 0f;
+        float sumX = 0f;
+        float sumY = 0f;
+
+        int end = bodyShapeEnd[b];
+        for (int s = bodyShapeStart[b]; s < end; s++) {
+            int start = shapeVertexStart[s];
+            float area = shapeArea[s];
+            if (area <= 0f) continue;
+
+            float submergedArea;
+            float pointX;
+            float pointY;
+
+            if (shapeCircle[s]) {
+                float r = shapeRadius[s];
+                float depth = surface - worldY[start];
+
+                submergedArea = BuoyancyGeometry.circleSubmergedArea(r, depth);
+                pointX = worldX[start];
+                pointY = worldY[start] + BuoyancyGeometry.circleSubmergedCentroidOffset(r, depth, submergedArea);
+            } else {
+                float minY = Float.MAX_VALUE;
+                float maxY = -Float.MAX_VALUE;
+
+                int shapeEnd = start + shapeVertexCount[s];
+                for (int v = start; v < shapeEnd; v++) {
+                    float wy = worldY[v];
+                    if (wy < minY) minY = wy;
+                    if (wy > maxY) maxY = wy;
+                }
+
+                if (minY >= surface) continue;
+
+                if (maxY <= surface) {
+                    //Totalmente submersa: área inteira, aplicada no centro de massa
+                    float cx = centerLocalX[b];
+                    float cy = centerLocalY[b];
+
+                    submergedArea = area;
+                    pointX = bodyX[b] + (bodyCos[b] * cx - bodySin[b] * cy);
+                    pointY = bodyY[b] + (bodySin[b] * cx + bodyCos[b] * cy);
+                } else {
+                    if (!clipSubmerged(start, shapeVertexCount[s], surface, accumulator)) continue;
+
+                    submergedArea = accumulator.area;
+                    pointX = accumulator.centroidX;
+                    pointY = accumulator.centroidY;
+                }
+            }
+
+            if (submergedArea < area * MIN_FRACTION_TO_APPLY_FORCE) continue;
+
+            float magnitude = forceScale * submergedArea;
+            total += magnitude;
+
+            if (!rotates) continue;
+
+            sumX += pointX * magnitude;
+            sumY += pointY * magnitude;
+        }
+
+        totalMagnitude[b] = total;
+        weightedX[b] = sumX;
+        weightedY[b] = sumY;
+    }
+
+    /**
+     * Recorta o polígono na superfície e calcula a área e o centroide da parte
+     * submersa sem guardar o polígono recortado: cada vértice emitido já entra na soma
+     *
+     * @return false quando a parte submersa é degenerada
+     */
+    private boolean clipSubmerged(int start, int count, float surface, ClipAccumulator acc) {
+        acc.reset();
+
+        int last = start + count - 1;
+        float prevX = worldX[last];
+        float prevY = worldY[last];
+        float prevDepth = surface - prevY;
+
+        int end = start + count;
+        for (int v = start; v < end; v++) {
+            float currX = worldX[v];
+            float currY = worldY[v];
+            float currDepth = surface - currY;
+
+            if ((prevDepth >= 0f) != (currDepth >= 0f)) {
+                float t = prevDepth / (prevDepth - currDepth);
+                acc.emit(
+                    prevX + (currX - prevX) * t,
+                    prevY + (currY - prevY) * t
+                );
+            }
+
+            if (currDepth >= 0f) acc.emit(currX, currY);
+
+            prevX = currX;
+            prevY = currY;
+            prevDepth = currDepth;
+        }
+
+        return acc.finish();
+    }
+
+    // ============================================================
+    // ARMAZENAMENTO
+    // ============================================================
+
+    private void allocateBodies(int capacity) {
+        owners = new PhysicalLiquidInteractionComponent[capacity];
+        bodyX = new float[capacity];
+        bodyY = new float[capacity];
+        bodyCos = new float[capacity];
+        bodySin = new float[capacity];
+        centerLocalX = new float[capacity];
+        centerLocalY = new float[capacity];
+        surfaceY = new float[capacity];
+        liquidDensity = new float[capacity];
+        gravity = new float[capacity];
+        canRotate = new boolean[capacity];
+        bodyShapeStart = new int[capacity];
+        bodyShapeEnd = new int[capacity];
+        bodyVertexStart = new int[capacity];
+        bodyVertexEnd = new int[capacity];
+        totalMagnitude = new float[capacity];
+        weightedX = new float[capacity];
+        weightedY = new float[capacity];
+    }
+
+    private void growBodies() {
+        int capacity = owners.length * 2;
+
+        owners = Arrays.copyOf(owners, capacity);
+        bodyX = Arrays.copyOf(bodyX, capacity);
+        bodyY = Arrays.copyOf(bodyY, capacity);
+        bodyCos = Arrays.copyOf(bodyCos, capacity);
+        bodySin = Arrays.copyOf(bodySin, capacity);
+        centerLocalX = Arrays.copyOf(centerLocalX, capacity);
+        centerLocalY = Arrays.copyOf(centerLocalY, capacity);
+        surfaceY = Arrays.copyOf(surfaceY, capacity);
+        liquidDensity = Arrays.copyOf(liquidDensity, capacity);
+        gravity = Arrays.copyOf(gravity, capacity);
+        canRotate = Arrays.copyOf(canRotate, capacity);
+        bodyShapeStart = Arrays.copyOf(bodyShapeStart, capacity);
+        bodyShapeEnd = Arrays.copyOf(bodyShapeEnd, capacity);
+        bodyVertexStart = Arrays.copyOf(bodyVertexStart, capacity);
+        bodyVertexEnd = Arrays.copyOf(bodyVertexEnd, capacity);
+
+        //Resultados são escritos no solve, não precisam ser copiados
+        totalMagnitude = new float[capacity];
+        weightedX = new float[capacity];
+        weightedY = new float[capacity];
+    }
+
+    private void allocateShapes(int capacity) {
+        shapeVertexStart = new int[capacity];
+        shapeVertexCount = new int[capacity];
+        shapeArea = new float[capacity];
+        shapeRadius = new float[capacity];
+        shapeCircle = new boolean[capacity];
+    }
+
+    private void growShapes() {
+        int capacity = shapeArea.length * 2;
+
+        shapeVertexStart = Arrays.copyOf(shapeVertexStart, capacity);
+        shapeVertexCount = Arrays.copyOf(shapeVertexCount, capacity);
+        shapeArea = Arrays.copyOf(shapeArea, capacity);
+        shapeRadius = Arrays.copyOf(shapeRadius, capacity);
+        shapeCircle = Arrays.copyOf(shapeCircle, capacity);
+    }
+
+    private void allocateVertices(int capacity) {
+        localX = new float[capacity];
+        localY = new float[capacity];
+        worldX = new float[capacity];
+        worldY = new float[capacity];
+    }
+
+    private void growVertices() {
+        int capacity = localX.length * 2;
+
+        localX = Arrays.copyOf(localX, capacity);
+        localY = Arrays.copyOf(localY, capacity);
+
+        //Vértices do mundo são escritos no solve
+        worldX = new float[capacity];
+        worldY = new float[capacity];
+    }
+
+    /// Descarta o lote atual sem aplicar nada
+    public void clear() {
+        //Solta as referências dos componentes, os arrays continuam alocados
+        Arrays.fill(owners, 0, Math.max(bodyCount, openBody + 1), null);
+
+        bodyCount = 0;
+        shapeCount = 0;
+        vertexCount = 0;
+        openBody = -1;
+    }
+
+    /// Corpos aguardando o próximo solve
+    public int getBodyCount() {
+        return bodyCount;
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+
+        clear();
+        if (pool != null) pool.shutdown();
+
+        disposed = true;
+    }
+
+    /// Divide os corpos ao meio até chegar no tamanho de lote, cada corpo só escreve nas próprias posições
+    private static class BodyRangeTask extends RecursiveAction {
+        private final BuoyancyBatchSolver solver;
+        private final int
+            start,
+            end;
+
+        BodyRangeTask(BuoyancyBatchSolver solver, int start, int end) {
+            this.solver = solver;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= solver.batchSize) {
+                solver.computeRange(start, end, new ClipAccumulator());
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            invokeAll(
+                new BodyRangeTask(solver, start, middle),
+                new BodyRangeTask(solver, middle, end)
+            );
+        }
+    }
+
+    /// Soma das arestas do polígono recortado, alimentada vértice a vértice
+    private static final class ClipAccumulator {
+        private float
+            firstX,
+            firstY,
+            lastX,
+            lastY,
+            crossSum,
+            cxSum,
+            cySum,
+            area,
+            centroidX,
+            centroidY;
+        private int emitted;
+
+        void reset() {
+            crossSum = 0f;
+            cxSum = 0f;
+            cySum = 0f;
+            emitted = 0;
+        }
+
+        void emit(float x, float y) {
+            if (emitted == 0) {
+                firstX = x;
+                firstY = y;
+            } else {
+                addEdge(lastX, lastY, x, y);
+            }
+
+            lastX = x;
+            lastY = y;
+            emitted++;
+        }
+
+        /// Fecha o polígono e calcula área e centroide, false quando ele é degenerado
+        boolean finish() {
+            if (emitted < 3) return false;
+
+            addEdge(lastX, lastY, firstX, firstY);
+
+            float signedArea = crossSum * 0.5f;
+            if (Math.abs(signedArea) < 1e-6f) return false;
+
+            area = Math.abs(signedArea);
+
+            float factor = 1f / (6f * signedArea);
+            centroidX = cxSum * factor;
+            centroidY = cySum * factor;
+            return true;
+        }
+
+        private void addEdge(float ax, float ay, float bx, float by) {
+            float cross = (ax * by) - (bx * ay);
+            crossSum += cross;
+            cxSum += (ax + bx) * cross;
+            cySum += (ay + by) * cross;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package official.sketchBook.engine.components_related.physics;
+
+/**
+ * Geometria da parte submersa de um círculo cortado por uma superfície horizontal.
+ * Compartilhada entre o cálculo individual e o solver em lote do empuxo.
+ */
+final class BuoyancyGeometry {
+
+    private BuoyancyGeometry() {
+    }
+
+    /**
+     * Área do segmento circular abaixo da superfície
+     *
+     * @param radius raio do círculo
+     * @param depth  altura da superfície em relação ao centro (positivo acima do centro)
+     */
+    static float circleSubmergedArea(float radius, float depth) {
+        if (depth <= -radius) return 0f;
+        if (depth >= radius) return (float) Math.PI * radius * radius;
+
+        float halfChord = (float) Math.sqrt(radius * radius - depth * depth);
+        return radius * radius * (float) Math.acos(-depth / radius) + depth * halfChord;
+    }
+
+    /**
+     * Deslocamento vertical do centroide do segmento submerso em relação ao centro
+     *
+     * @param radius raio do círculo
+     * @param depth  altura da superfície em relação ao centro (positivo acima do centro)
+     * @param area   área submersa, já calculada por circleSubmergedArea
+     */
+    static float circleSubmergedCentroidOffset(float radius, float depth, float area) {
+        if (area <= 0f || depth >= radius) return 0f;
+
+        float chordTerm = radius * radius - depth * depth;
+        return -(2f / 3f) * chordTerm * (float) Math.sqrt(chordTerm) / area;
+    }
+}
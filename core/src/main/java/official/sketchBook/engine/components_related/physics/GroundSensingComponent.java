@@ -0,0 +1,100 @@
+package official.sketchBook.engine.components_related.physics;
+
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.physics.PhysicalObjectII;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.physics.RoomGroundInteractableObject;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.components_related.ray_cast.RayCastFilter;
+import official.sketchBook.engine.util_related.enumerators.ObjectType;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
+
+/**
+ * Detecção de chão pelo GroundSensingService: a grid da sala responde quando o objeto
+ * está sobre tiles e os raios só são lançados com outros corpos por perto.
+ * Objetos que não vivem em uma sala usam sempre os raios
+ */
+public class GroundSensingComponent implements Component {
+
+    private PhysicalObjectII object;
+    /// Mesmo objeto, quando ele pertence a uma sala
+    private RoomGroundInteractableObject roomObject;
+    private GroundSensingService groundSensingService;
+    /// Aceita apenas fixtures sólidas dos tipos de chão válidos
+    private final RayCastFilter groundFilter;
+
+    public float footOffsetY = 1f;
+    public float rayLength = 4f;
+    public float footMargin = 1f;
+
+    private boolean
+        disposed = false,
+        onGround = false;
+
+    public GroundSensingComponent(
+        PhysicalObjectII object,
+        GroundSensingService groundSensingService,
+        ObjectType... validGroundTypes
+    ) {
+        this.object = object;
+        this.roomObject = object instanceof RoomGroundInteractableObject
+            ? (RoomGroundInteractableObject) object
+            : null;
+        this.groundSensingService = groundSensingService;
+        this.groundFilter = new RayCastFilter(
+            RayCastFilter.ALL_BITS,
+            RayCastFilter.ALL_BITS,
+            false,
+            validGroundTypes
+        );
+    }
+
+    @Override
+    public void update(float delta) {
+
+    }
+
+    @Override
+    public void postUpdate() {
+        detectGround();
+    }
+
+    @Override
+    public void initObject() {
+
+    }
+
+    private void detectGround() {
+        TransformComponent transformC = object.getTransformC();
+        PlayableRoom room = roomObject != null ? roomObject.getOwnerRoom() : null;
+
+        onGround = groundSensingService.sense(
+            room,
+            object.getBody(),
+            transformC.getCenterX(),
+            transformC.getCenterY() - transformC.getHalfHeight(),
+            transformC.getHalfWidth(),
+            footOffsetY,
+            rayLength,
+            footMargin,
+            groundFilter
+        );
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+        nullifyReferences();
+        disposed = true;
+    }
+
+
+    public void nullifyReferences() {
+        groundSensingService = null;
+        roomObject = null;
+        object = null;
+    }
+
+    public boolean isOnGround() {
+        return onGround;
+    }
+}
@@ -0,0 +1,254 @@
+package official.sketchBook.engine.components_related.physics;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+import official.sketchBook.engine.components_related.ray_cast.RayCastFilter;
+import official.sketchBook.engine.components_related.ray_cast.RayCastService;
+import official.sketchBook.engine.util_related.enumerators.ObjectType;
+import official.sketchBook.engine.util_related.helper.GameObjectTag;
+import official.sketchBook.engine.util_related.helper.body.BodyTagHelper;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
+import official.sketchBook.engine.world_gen.model.TileModel;
+import official.sketchBook.game.util_related.enumerators.TileBodyType;
+
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.GROUND_GRID_SENSING;
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.PPM;
+import static official.sketchBook.game.util_related.constants.WorldConstants.TILE_SIZE_PX;
+
+/**
+ * Detecção de chão de um mundo físico, respondida pela grid da sala sempre que possível.
+ * <p>
+ * A área do pé é primeiro conferida direto na grid de tiles: tile sólida embaixo
+ * já é chão, sem atravessar o JNI. Sem tile sólida, uma consulta AABB no broadphase
+ * procura corpos que não são tiles (veículos, caixas, plataformas) na mesma área.
+ * Só quando algum aparece, ou quando a área sai da grid, os raios são lançados pelo
+ * RayCastService. Sem nada além de tiles por perto a grid já respondeu que não há chão.
+ * <p>
+ * As tiles são reconhecidas pela tag do corpo, que tem o TileBodyType como dono.
+ * Deve ser usado apenas pela thread de simulação.
+ */
+public class GroundSensingService implements QueryCallback, Disposable {
+
+    /// Respostas da grid
+    private static final int
+        GRID_EMPTY = 0,
+        GRID_SOLID = 1,
+        GRID_UNKNOWN = 2;
+
+    private World world;
+    private RayCastService rayCastService;
+
+    /// Estado da consulta AABB em andamento, lido pelo callback
+    private RayCastFilter queryFilter;
+    private Body queryIgnoredBody;
+    private boolean bodyNearby;
+
+    /// Contagem do tick, por caminho que respondeu
+    private int
+        gridAnswers = 0,
+        queryAnswers = 0,
+        rayFallbacks = 0;
+
+    private boolean disposed = false;
+
+    public GroundSensingService(
+        World world,
+        RayCastService rayCastService
+    ) {
+        if (world == null || rayCastService == null) {
+            throw new IllegalArgumentException("A detecção de chão precisa de um mundo físico e de um serviço de raycast");
+        }
+
+        this.world = world;
+        this.rayCastService = rayCastService;
+    }
+
+    /**
+     * Checa se existe chão logo abaixo do pé de um objeto. Coordenadas em pixels
+     *
+     * @param room        sala do objeto, null para ir direto aos raios
+     * @param ignoredBody corpo do próprio objeto, nunca conta como chão
+     * @param centerX     centro do objeto no eixo x
+     * @param bottomY     base do objeto
+     * @param halfWidth   metade da largura do objeto
+     * @param footOffsetY quanto acima da base a sonda começa
+     * @param probeLength comprimento da sonda para baixo
+     * @param footMargin  recuo das bordas do pé
+     * @param filter      o que conta como chão
+     */
+    public boolean sense(
+        PlayableRoom room,
+        Body ignoredBody,
+        float centerX,
+        float bottomY,
+        float halfWidth,
+        float footOffsetY,
+        float probeLength,
+        float footMargin,
+        RayCastFilter filter
+    ) {
+        if (disposed) {
+            throw new IllegalStateException("Serviço de detecção de chão já foi descartado");
+        }
+
+        float left = centerX - halfWidth + footMargin;
+        float right = centerX + halfWidth - footMargin;
+        float top = bottomY + footOffsetY;
+        float floor = top - probeLength;
+
+        int gridAnswer = GROUND_GRID_SENSING && room != null
+            ? sampleGrid(room, left, right, floor, top, filter)
+            : GRID_UNKNOWN;
+
+        if (gridAnswer == GRID_SOLID) {
+            gridAnswers++;
+            return true;
+        }
+
+        if (gridAnswer == GRID_EMPTY && !hasBodyNearby(ignoredBody, left, right, floor, top, filter)) {
+            queryAnswers++;
+            return false;
+        }
+
+        rayFallbacks++;
+        return castProbes(left, right, centerX, floor, top, filter);
+    }
+
+    /// Procura uma tile sólida aceita pelo filtro dentro da área do pé
+    private int sampleGrid(
+        PlayableRoom room,
+        float left,
+        float right,
+        float floor,
+        float top,
+        RayCastFilter filter
+    ) {
+        //O corpo de uma tile fica meia tile abaixo da linha dela no eixo y (TileBodyFactory)
+        int firstColumn = (int) Math.floor(left / TILE_SIZE_PX);
+        int lastColumn = (int) Math.floor(right / TILE_SIZE_PX);
+        int firstRow = (int) Math.floor(floor / TILE_SIZE_PX + 0.5f);
+        int lastRow = (int) Math.floor(top / TILE_SIZE_PX + 0.5f);
+
+        //Fora da grid não temos como afirmar nada
+        if (firstColumn < 0 || lastColumn > room.gridWidth - 1) return GRID_UNKNOWN;
+        if (firstRow < 0 || lastRow > room.gridHeight - 1) return GRID_UNKNOWN;
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            //A grid é invertida em relação ao mundo
+            int gridY = (room.gridHeight - 1) - row;
+
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                TileModel model = room.tileModelIdMap.get(room.getTileId(column, gridY));
+                if (model == null) continue;
+
+                TileBodyType type = TileBodyType.fromId(model.getBodyId());
+                if (!type.isSolid()) continue;
+
+                if (filter.acceptsType(ObjectType.ENVIRONMENT)
+                    && filter.acceptsBits(type.getCategoryBit(), type.getMaskBit())) {
+                    return GRID_SOLID;
+                }
+            }
+        }
+
+        return GRID_EMPTY;
+    }
+
+    /// Consulta o broadphase atrás de qualquer corpo aceito que não seja uma tile
+    private boolean hasBodyNearby(
+        Body ignoredBody,
+        float left,
+        float right,
+        float floor,
+        float top,
+        RayCastFilter filter
+    ) {
+        queryFilter = filter;
+        queryIgnoredBody = ignoredBody;
+        bodyNearby = false;
+
+        world.QueryAABB(
+            this,
+            left / PPM,
+            floor / PPM,
+            right / PPM,
+            top / PPM
+        );
+
+        queryFilter = null;
+        queryIgnoredBody = null;
+
+        return bodyNearby;
+    }
+
+    @Override
+    public boolean reportFixture(Fixture fixture) {
+        if (fixture.getBody() == queryIgnoredBody) return true;
+        if (!queryFilter.accepts(fixture)) return true;
+
+        //Tiles já foram respondidas pela grid
+        GameObjectTag tag = BodyTagHelper.getFromBodyTag(fixture);
+        if (tag != null && tag.owner instanceof TileBodyType) return true;
+
+        bodyNearby = true;
+        return false;
+    }
+
+    /// Esquerda, centro e direita do pé, em lote
+    private boolean castProbes(
+        float left,
+        float right,
+        float centerX,
+        float floor,
+        float top,
+        RayCastFilter filter
+    ) {
+        float topM = top / PPM;
+        float floorM = floor / PPM;
+
+        int firstRay = rayCastService.submit(left / PPM, topM, left / PPM, floorM, RayCastService.Mode.ANY, filter);
+        rayCastService.submit(centerX / PPM, topM, centerX / PPM, floorM, RayCastService.Mode.ANY, filter);
+        rayCastService.submit(right / PPM, topM, right / PPM, floorM, RayCastService.Mode.ANY, filter);
+        rayCastService.execute();
+
+        for (int ray = firstRay; ray < firstRay + 3; ray++) {
+            if (rayCastService.hasHit(ray)) return true;
+        }
+
+        return false;
+    }
+
+    /// Zera a contagem do tick, chamado pelo manager no início do update
+    public void clear() {
+        gridAnswers = 0;
+        queryAnswers = 0;
+        rayFallbacks = 0;
+    }
+
+    /// Detecções respondidas só pela grid, sem nenhuma chamada ao Box2D
+    public int getGridAnswers() {
+        return gridAnswers;
+    }
+
+    /// Detecções respondidas pela grid junto da consulta AABB, sem raios
+    public int getQueryAnswers() {
+        return queryAnswers;
+    }
+
+    /// Detecções que precisaram lançar raios
+    public int getRayFallbacks() {
+        return rayFallbacks;
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+
+        world = null;
+        rayCastService = null;
+        disposed = true;
+    }
+}
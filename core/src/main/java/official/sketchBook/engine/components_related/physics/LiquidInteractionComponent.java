@@ -7,9 +7,11 @@ import official.sketchBook.engine.components_related.movement.MovementComponent;
 import official.sketchBook.engine.components_related.objects.MovementDataComponent;
 import official.sketchBook.engine.liquid_related.model.LiquidData;
 import official.sketchBook.engine.liquid_related.util.LiquidRegion;
+import official.sketchBook.engine.liquid_related.util.LiquidRegionIndex;
 
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.List;
 
 public abstract class LiquidInteractionComponent implements Component {
 
@@ -63,6 +65,13 @@ public abstract class LiquidInteractionComponent implements Component {
 
     protected final IdentityHashMap<LiquidData, ArrayList<LiquidRegion>> liquidAndRegionMap = new IdentityHashMap<>();
 
+    /// Regiões adicionadas pela consulta ao índice da sala, com o líquido de cada uma na mesma posição
+    protected final ArrayList<LiquidRegion> indexedRegions = new ArrayList<>();
+    protected final ArrayList<LiquidData> indexedLiquids = new ArrayList<>();
+
+    /// Resultado da última consulta ao índice, reutilizado entre consultas
+    private final List<LiquidRegionIndex.Entry> regionQueryBuffer = new ArrayList<>();
+
     protected LIOBase owner;
 
     public LiquidInteractionComponent(LIOBase owner, MovementComponent moveC) {
@@ -104,6 +113,53 @@ public abstract class LiquidInteractionComponent implements Component {
         }
     }
 
+    /**
+     * Consulta o índice de regiões com o AABB do objeto e aplica a diferença
+     * em relação à consulta anterior, como os sensores fariam no begin/end
+     *
+     * @param index índice de regiões da sala do objeto
+     */
+    protected void syncIndexedLiquids(
+        LiquidRegionIndex index,
+        float minX, float minY,
+        float maxX, float maxY
+    ) {
+        index.query(minX, minY, maxX, maxY, regionQueryBuffer);
+
+        //Saídas: regiões da consulta anterior que não vieram agora
+        for (int i = indexedRegions.size() - 1; i >= 0; i--) {
+            LiquidRegion region = indexedRegions.get(i);
+            if (isInQueryResult(region)) continue;
+
+            removeLiquid(indexedLiquids.get(i), region);
+
+            int last = indexedRegions.size() - 1;
+            indexedRegions.set(i, indexedRegions.get(last));
+            indexedLiquids.set(i, indexedLiquids.get(last));
+            indexedRegions.remove(last);
+            indexedLiquids.remove(last);
+        }
+
+        //Entradas: regiões novas da consulta atual
+        for (int i = 0; i < regionQueryBuffer.size(); i++) {
+            LiquidRegionIndex.Entry entry = regionQueryBuffer.get(i);
+            if (indexedRegions.contains(entry.region)) continue;
+
+            addLiquid(entry.data, entry.region);
+            indexedRegions.add(entry.region);
+            indexedLiquids.add(entry.data);
+        }
+
+        regionQueryBuffer.clear();
+    }
+
+    private boolean isInQueryResult(LiquidRegion region) {
+        for (int i = 0; i < regionQueryBuffer.size(); i++) {
+            if (regionQueryBuffer.get(i).region == region) return true;
+        }
+        return false;
+    }
+
     protected abstract void updateSimulation(float delta);
 
     protected void updateLiquidState() {
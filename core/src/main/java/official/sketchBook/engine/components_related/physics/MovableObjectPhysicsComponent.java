@@ -114,14 +114,15 @@ public class MovableObjectPhysicsComponent extends PhysicsComponent {
     }
 
     private void constraintRotation() {
+        //Pela shadow, com a rotação já fixa nada disso atravessa o JNI
         if (!rAxis.canMove) {
-            object.getBody().setAngularVelocity(0);
-            object.getBody().setFixedRotation(true);
+            setAngularVelocity(0);
+            setFixedRotation(true);
         } else {
-            object.getBody().setFixedRotation(false);
+            setFixedRotation(false);
 
             if (autoConstraintR)
-                object.getBody().setAngularVelocity(
+                setAngularVelocity(
                     rAxis.velocity
                 );
         }
@@ -145,7 +146,7 @@ public class MovableObjectPhysicsComponent extends PhysicsComponent {
         if (!shouldAffectGravity) {
             if (gravityWasAffected) {
                 defaultGravityScale = mob.getMoveC().dataComponent.gravityScale; // backup lógico
-                object.getBody().setGravityScale(0);
+                setGravityScale(0);
                 gravityWasAffected = false;
             }
             return;
@@ -153,14 +154,12 @@ public class MovableObjectPhysicsComponent extends PhysicsComponent {
 
         // Gravidade ligada
         if (!gravityWasAffected) {
-            object.getBody().setGravityScale(defaultGravityScale);
+            setGravityScale(defaultGravityScale);
             gravityWasAffected = true;
         }
 
-        float targetGravity = mob.getMoveC().dataComponent.gravityScale;
-        if (object.getBody().getGravityScale() != targetGravity) {
-            object.getBody().setGravityScale(targetGravity);
-        }
+        //A shadow só escreve quando a escala muda
+        setGravityScale(mob.getMoveC().dataComponent.gravityScale);
     }
 
 
@@ -4,14 +4,19 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.liquid.PhysicalLiquidInteractableObjectII;
+import official.sketchBook.engine.components_related.system_utils.SubmersibleVolume;
+import official.sketchBook.engine.data_manager_related.PhysicalGameObjectDataManager;
 import official.sketchBook.engine.liquid_related.model.LiquidData;
 import official.sketchBook.engine.liquid_related.util.LiquidRegion;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
 
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.Map;
 
 import static official.sketchBook.game.util_related.constants.PhysicsConstants.*;
+import static official.sketchBook.game.util_related.constants.WorldConstants.LiquidSurfaceConstants.SURFACE_DISTURB_MIN_SPEED;
+import static official.sketchBook.game.util_related.constants.WorldConstants.LiquidSurfaceConstants.SURFACE_DISTURB_SCALE;
 
 
 public class PhysicalLiquidInteractionComponent extends LiquidInteractionComponent {
@@ -26,6 +31,11 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
     private static final float MASS_VOLUME_EPSILON = 1e-4f;
     private static final float MIN_FRACTION_TO_APPLY_FORCE = 0.001f;
 
+    /// Variação da fração submersa abaixo da qual o corpo é considerado em equilíbrio
+    private static final float SUBMERSION_EQUILIBRIUM_EPSILON = 1e-3f;
+    /// Variação da superfície (em metros) que acorda um corpo dormindo no líquido
+    private static final float SURFACE_WAKE_EPSILON = 1e-3f;
+
     private static final int MAX_POLYGON_VERTICES = 8;
     private static final int MAX_CLIPPED_POLYGON_VERTICES = MAX_POLYGON_VERTICES * 2;
 
@@ -53,8 +63,40 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
 
     private final PhysicsComponent physicsC;
 
+    /// Dono com acesso ao manager, de onde vem o solver de empuxo em lote
+    private final PhysicalLiquidInteractableObjectII physicalOwner;
+
     private LiquidRegion currentLiquidRegionBuffer;
 
+    /**
+     * Acompanha a fração submersa entre passos. Quando ela para de variar e o
+     * Box2D coloca o corpo para dormir, deixamos de aplicar forças até algo
+     * mudar: superfície, região, líquido ou massa. Contatos com corpos
+     * acordados já acordam o corpo pelo próprio Box2D.
+     */
+    private final SubmersibleVolume submersionTracker = new SubmersibleVolume(0f, 0f, 0f);
+
+    /// Estado do líquido no último passo simulado, para detectar mudanças enquanto o corpo dorme
+    private LiquidRegion lastSimulatedRegion;
+    private LiquidData lastSimulatedLiquid;
+    private float lastSurfaceY;
+
+    /// Algo que afeta o empuxo mudou desde o último passo simulado, o retrato do equilíbrio precisa ser refeito
+    private boolean wakePending = true;
+
+    /// Força de empuxo com o corpo inteiro submerso, base da fração submersa no solver em lote
+    private float fullBuoyancyBuffer;
+
+    /// AABB das fixtures submersíveis em metros, usado na consulta ao índice de regiões
+    private float
+        boundsMinX,
+        boundsMinY,
+        boundsMaxX,
+        boundsMaxY;
+
+    /// Se o índice de regiões já foi consultado, corpos dormindo não precisam repetir a consulta
+    private boolean regionsIndexed = false;
+
     private final IdentityHashMap<Fixture, FixtureCache>
         fixtureCache = new IdentityHashMap<>();
 
@@ -83,6 +125,7 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
     public PhysicalLiquidInteractionComponent(PhysicalLiquidInteractableObjectII owner) {
         super(owner, owner.getMoveC());
         this.physicsC = owner.getPhysicsC();
+        this.physicalOwner = owner;
     }
 
     // ============================================================
@@ -108,14 +151,94 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
             return;
         }
 
-        applyBuoyancyForEachFixture();
+        //Corpo em equilíbrio e dormindo: nenhuma força, assim ele continua dormindo
+        if (isRestingInLiquid()) {
+            owner.inLiquidUpdate();
+            return;
+        }
+
+        //Com o solver em lote só coletamos a geometria, o empuxo é aplicado antes do step
+        BuoyancyBatchSolver solver = getBuoyancySolver();
+        if (solver != null) {
+            submitBuoyancy(solver);
+        } else {
+            applyBuoyancyForEachFixture();
+        }
+
         applyLinearDrag();
+        disturbSurface();
 
         owner.inLiquidUpdate();
     }
 
+    /// Com o índice de regiões da sala ativo, a entrada e saída de líquidos é resolvida aqui
     @Override
     public void postUpdate() {
+        if (!LIQUID_REGION_INDEX || disposed) return;
+
+        PlayableRoom room = owner.getOwnerRoom();
+        if (room == null) return;
+
+        Body body = physicsC.object.getBody();
+
+        //Corpo dormindo não se move, a última consulta continua valendo
+        if (regionsIndexed && !body.isAwake()) return;
+
+        if (!computeSubmersibleBounds(body)) return;
+
+        syncIndexedLiquids(
+            room.liquidRegionIndex,
+            toPixels(boundsMinX),
+            toPixels(boundsMinY),
+            toPixels(boundsMaxX),
+            toPixels(boundsMaxY)
+        );
+
+        regionsIndexed = true;
+    }
+
+    /// Calcula o AABB das fixtures submersíveis, false quando o corpo não tem nenhuma
+    private boolean computeSubmersibleBounds(Body body) {
+        Vector2 bodyPos = body.getPosition();
+        float bodyAngle = body.getAngle();
+        float cos = (float) Math.cos(bodyAngle);
+        float sin = (float) Math.sin(bodyAngle);
+
+        boundsMinX = Float.MAX_VALUE;
+        boundsMinY = Float.MAX_VALUE;
+        boundsMaxX = -Float.MAX_VALUE;
+        boundsMaxY = -Float.MAX_VALUE;
+
+        boolean found = false;
+
+        Array<Fixture> fixtures = body.getFixtureList();
+        for (int i = 0; i < fixtures.size; i++) {
+            Fixture fixture = fixtures.get(i);
+            if (!isSubmersibleFixture(fixture)) continue;
+
+            FixtureCache cache = getOrBuildFixtureCache(fixture);
+            if (cache == null) continue;
+
+            //Círculos expandem o único vértice (o centro) pelo raio
+            float extent = cache.circle ? cache.radius : 0f;
+
+            for (int v = 0; v < cache.count; v++) {
+                float lx = cache.localX[v];
+                float ly = cache.localY[v];
+
+                float wx = bodyPos.x + (cos * lx - sin * ly);
+                float wy = bodyPos.y + (sin * lx + cos * ly);
+
+                boundsMinX = Math.min(boundsMinX, wx - extent);
+                boundsMinY = Math.min(boundsMinY, wy - extent);
+                boundsMaxX = Math.max(boundsMaxX, wx + extent);
+                boundsMaxY = Math.max(boundsMaxY, wy + extent);
+            }
+
+            found = true;
+        }
+
+        return found;
     }
 
     @Override
@@ -126,10 +249,85 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
 
     @Override
     protected void onLiquidEnter() {
+        wakePending = true;
+        wakeBody();
     }
 
+    /// Sem líquido o updateSimulation sai antes de olhar o equilíbrio, então o corpo é acordado aqui mesmo
     @Override
     protected void onLiquidExit() {
+        wakePending = true;
+        wakeBody();
+    }
+
+    /// Um corpo dormindo no líquido continuaria parado no ar depois da região ou do sensor sumir
+    private void wakeBody() {
+        Body body = physicsC.object.getBody();
+        if (body != null) body.setAwake(true);
+    }
+
+    // ============================================================
+    // EQUILÍBRIO / SONO
+    // ============================================================
+
+    /**
+     * Verifica se o passo pode ser pulado: o corpo está dormindo no Box2D, a
+     * fração submersa estava estável no último passo simulado e nada que
+     * afeta o empuxo mudou desde então
+     */
+    private boolean isRestingInLiquid() {
+        float surfaceY = getCurrentSurfaceY();
+
+        boolean liquidChanged = currentLiquidRegionBuffer != lastSimulatedRegion
+            || highestDensityLiquidBuffer != lastSimulatedLiquid
+            || Math.abs(surfaceY - lastSurfaceY) > SURFACE_WAKE_EPSILON;
+
+        if (liquidChanged || wakePending || submersionTracker.isSubmersionDirty()) {
+            lastSimulatedRegion = currentLiquidRegionBuffer;
+            lastSimulatedLiquid = highestDensityLiquidBuffer;
+            lastSurfaceY = surfaceY;
+            wakePending = false;
+            return false;
+        }
+
+        return !physicsC.object.getBody().isAwake();
+    }
+
+    /// Altura da superfície da região atual sob o corpo, em metros
+    private float getCurrentSurfaceY() {
+        LiquidRegion region = currentLiquidRegionBuffer;
+
+        //Superfície parada: a altura é a mesma em qualquer ponto, não precisamos da posição do corpo
+        if (region.getSurface().isSettled()) return toMeters(region.getSurfaceY());
+
+        float bodyX = toPixels(physicsC.object.getBody().getPosition().x);
+        return toMeters(region.getSurfaceYAt(bodyX));
+    }
+
+    /// Corpos atravessando a superfície geram ondas proporcionais à velocidade vertical
+    private void disturbSurface() {
+        if (cachedSubmersionFraction <= 0f || cachedSubmersionFraction >= 1f) return;
+
+        Body body = physicsC.object.getBody();
+        float verticalVelocity = body.getLinearVelocity().y;
+        if (Math.abs(verticalVelocity) < SURFACE_DISTURB_MIN_SPEED) return;
+
+        currentLiquidRegionBuffer.disturbSurface(
+            toPixels(body.getPosition().x),
+            toPixels(verticalVelocity) * SURFACE_DISTURB_SCALE
+        );
+    }
+
+    /// Atualiza a fração submersa a partir do empuxo aplicado e do empuxo com o corpo inteiro submerso
+    private void updateSubmersion(float totalBuoyancyMagnitude, float fullBuoyancyMagnitude) {
+        cachedSubmersionFraction = fullBuoyancyMagnitude > 0f
+            ?
+            Math.min(totalBuoyancyMagnitude / fullBuoyancyMagnitude, 1f)
+            :
+            0f
+        ;
+
+        submersionTracker.updateSubmersionFraction(cachedSubmersionFraction, SUBMERSION_EQUILIBRIUM_EPSILON);
     }
 
     // ============================================================
@@ -139,9 +337,7 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
     private void applyBuoyancyForEachFixture() {
         Body body = physicsC.object.getBody();
 
-        float surfaceY = toMeters(
-            currentLiquidRegionBuffer.getY() + currentLiquidRegionBuffer.getHeight()
-        );
+        float surfaceY = getCurrentSurfaceY();
         float liquidDensity = highestDensityLiquidBuffer.density;
         float gravity = Math.abs(body.getWorld().getGravity().y);
         boolean canRotate = !body.isFixedRotation();
@@ -149,6 +345,7 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
         Array<Fixture> fixtures = body.getFixtureList();
 
         float totalBuoyancyMagnitude = 0f;
+        float fullArea = 0f;
         float weightedX = 0f;
         float weightedY = 0f;
 
@@ -156,6 +353,9 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
             Fixture fixture = fixtures.get(i);
             if (!isSubmersibleFixture(fixture)) continue;
 
+            FixtureCache cache = getOrBuildFixtureCache(fixture);
+            if (cache != null) fullArea += cache.area;
+
             float buoyancyForceMagnitude = computeFixtureBuoyancy(
                 fixture, body, surfaceY, liquidDensity, gravity, canRotate, fixtureBuoyancyPointBuffer
             );
@@ -170,6 +370,23 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
             }
         }
 
+        updateSubmersion(totalBuoyancyMagnitude, liquidDensity * gravity * fullArea);
+        applyTotalBuoyancy(body, totalBuoyancyMagnitude, weightedX, weightedY, canRotate);
+    }
+
+    /**
+     * Aplica o empuxo somado das fixtures
+     *
+     * @param weightedX soma dos pontos de aplicação ponderados pela magnitude de cada fixture
+     * @param weightedY soma dos pontos de aplicação ponderados pela magnitude de cada fixture
+     */
+    private void applyTotalBuoyancy(
+        Body body,
+        float totalBuoyancyMagnitude,
+        float weightedX,
+        float weightedY,
+        boolean canRotate
+    ) {
         if (totalBuoyancyMagnitude <= 0f) return;
 
         floatEffectValue = totalBuoyancyMagnitude;
@@ -196,6 +413,81 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
         }
     }
 
+    // ============================================================
+    // EMPUXO EM LOTE
+    // ============================================================
+
+    /// Solver do manager do dono, o node de um veículo só conhece o manager depois de ligado a ele
+    private BuoyancyBatchSolver getBuoyancySolver() {
+        PhysicalGameObjectDataManager manager = physicalOwner.getPhysicalManager();
+        return manager != null ? manager.getBuoyancySolver() : null;
+    }
+
+    /// Copia a transformação do corpo e a geometria das fixtures para o solver
+    private void submitBuoyancy(BuoyancyBatchSolver solver) {
+        Body body = physicsC.object.getBody();
+        Vector2 bodyPos = body.getPosition();
+
+        float liquidDensity = highestDensityLiquidBuffer.density;
+        float gravity = Math.abs(body.getWorld().getGravity().y);
+
+        solver.beginBody(
+            this,
+            bodyPos.x,
+            bodyPos.y,
+            body.getAngle(),
+            massDataBuffer.center.x,
+            massDataBuffer.center.y,
+            getCurrentSurfaceY(),
+            liquidDensity,
+            gravity,
+            !body.isFixedRotation()
+        );
+
+        float fullArea = 0f;
+
+        Array<Fixture> fixtures = body.getFixtureList();
+        for (int i = 0; i < fixtures.size; i++) {
+            Fixture fixture = fixtures.get(i);
+            if (!isSubmersibleFixture(fixture)) continue;
+
+            FixtureCache cache = getOrBuildFixtureCache(fixture);
+            if (cache == null) continue;
+
+            fullArea += cache.area;
+
+            if (cache.circle) {
+                solver.addCircle(cache.localX[0], cache.localY[0], cache.radius);
+            } else {
+                solver.addPolygon(cache.localX, cache.localY, cache.count, cache.area);
+            }
+        }
+
+        solver.endBody();
+
+        fullBuoyancyBuffer = liquidDensity * gravity * fullArea;
+    }
+
+    /// Recebe o resultado do solver, chamado na thread de simulação antes do step
+    void applyBatchedBuoyancy(
+        float totalBuoyancyMagnitude,
+        float weightedX,
+        float weightedY,
+        boolean canRotate
+    ) {
+        //O objeto pode ter sido destruído entre a coleta e o solve
+        if (disposed) return;
+
+        updateSubmersion(totalBuoyancyMagnitude, fullBuoyancyBuffer);
+        applyTotalBuoyancy(
+            physicsC.object.getBody(),
+            totalBuoyancyMagnitude,
+            weightedX,
+            weightedY,
+            canRotate
+        );
+    }
+
     private boolean isSubmersibleFixture(Fixture fixture) {
         return !fixture.isSensor();
     }
@@ -261,20 +553,20 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
         float centerY = bodyPos.y + (sin * localX + cos * localY);
 
         float r = circle.getRadius();
+        float depth = surfaceY - centerY;
 
-        float minY = centerY - r;
-        float maxY = centerY + r;
-
-        float fraction = calculateSubmersionFraction(minY, maxY, surfaceY);
-        if (fraction < MIN_FRACTION_TO_APPLY_FORCE) return 0f;
-
+        //Área exata do segmento circular abaixo da superfície
         float area = (float) Math.PI * r * r;
-        float magnitude = liquidDensity * area * fraction * gravity;
+        float submergedArea = BuoyancyGeometry.circleSubmergedArea(r, depth);
+        if (submergedArea < area * MIN_FRACTION_TO_APPLY_FORCE) return 0f;
+
+        float magnitude = liquidDensity * submergedArea * gravity;
 
         if (canRotate) {
-            float depth = surfaceY - centerY;
-            float clampedDepth = Math.max(-r, Math.min(r, depth));
-            outPoint.set(centerX, centerY + clampedDepth * 0.5f);
+            outPoint.set(
+                centerX,
+                centerY + BuoyancyGeometry.circleSubmergedCentroidOffset(r, depth, submergedArea)
+            );
         }
 
         return magnitude;
@@ -290,7 +582,7 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
         boolean canRotate,
         Vector2 outPoint
     ) {
-        FixtureCache cache = getOrBuildFixtureCache(fixture, poly);
+        FixtureCache cache = getOrBuildPolygonCache(fixture, poly);
         int count = cache.count;
 
         Vector2 bodyPos = body.getPosition();
@@ -315,32 +607,56 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
             if (wy > maxY) maxY = wy;
         }
 
-        float fraction = calculateSubmersionFraction(minY, maxY, surfaceY);
-        if (fraction < MIN_FRACTION_TO_APPLY_FORCE) return 0f;
-
         float area = cache.area;
-        if (area <= 0f) return 0f;
-
-        float magnitude = liquidDensity * area * fraction * gravity;
-
-        if (!canRotate) return magnitude;
+        if (area <= 0f || minY >= surfaceY) return 0f;
 
-        if (fraction >= 1f) {
-            outPoint.set(body.getWorldPoint(massDataBuffer.center));
-            return magnitude;
+        //Totalmente submersa: área inteira, aplicada no centro de massa
+        if (maxY <= surfaceY) {
+            if (canRotate) outPoint.set(body.getWorldPoint(massDataBuffer.center));
+            return liquidDensity * area * gravity;
         }
 
+        //Parcialmente submersa: a força vem da área real do polígono recortado na superfície
         int clippedCount = buildClippedPolygon(count, surfaceY, clippedX, clippedY);
-        boolean found = clippedCount >= 3 && computePolygonCentroid(clippedX, clippedY, clippedCount, outPoint);
+        if (clippedCount < 3) return 0f;
+
+        float submergedArea = computePolygonAreaAndCentroid(clippedX, clippedY, clippedCount, outPoint);
+        if (submergedArea < area * MIN_FRACTION_TO_APPLY_FORCE) return 0f;
+
+        return liquidDensity * submergedArea * gravity;
+    }
+
+    /// Cache da fixture para o solver em lote, null para formas que não recebem empuxo
+    private FixtureCache getOrBuildFixtureCache(Fixture fixture) {
+        FixtureCache cache = fixtureCache.get(fixture);
+        if (cache != null) return cache;
 
-        if (!found) {
-            outPoint.set((worldVertexX[0] + worldVertexX[count - 1]) * 0.5f, (minY + maxY) * 0.5f);
+        Shape shape = fixture.getShape();
+
+        if (shape instanceof PolygonShape) {
+            return getOrBuildPolygonCache(fixture, (PolygonShape) shape);
         }
 
-        return magnitude;
+        if (shape instanceof CircleShape) {
+            CircleShape circle = (CircleShape) shape;
+            Vector2 center = circle.getPosition();
+
+            cache = new FixtureCache(
+                new float[]{center.x},
+                new float[]{center.y},
+                1,
+                (float) Math.PI * circle.getRadius() * circle.getRadius(),
+                true,
+                circle.getRadius()
+            );
+            fixtureCache.put(fixture, cache);
+            return cache;
+        }
+
+        return null;
     }
 
-    private FixtureCache getOrBuildFixtureCache(Fixture fixture, PolygonShape poly) {
+    private FixtureCache getOrBuildPolygonCache(Fixture fixture, PolygonShape poly) {
         FixtureCache cache = fixtureCache.get(fixture);
         if (cache != null) return cache;
 
@@ -363,7 +679,7 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
 
         area = Math.abs(area) * 0.5f;
 
-        cache = new FixtureCache(xs, ys, count, area);
+        cache = new FixtureCache(xs, ys, count, area, false, 0f);
         fixtureCache.put(fixture, cache);
         return cache;
     }
@@ -406,7 +722,8 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
         return written;
     }
 
-    private boolean computePolygonCentroid(float[] xs, float[] ys, int count, Vector2 out) {
+    /// Área absoluta do polígono, com o centroide em out. Retorna 0 para polígonos degenerados
+    private float computePolygonAreaAndCentroid(float[] xs, float[] ys, int count, Vector2 out) {
         float signedAreaSum = 0f;
         float cxSum = 0f;
         float cySum = 0f;
@@ -421,26 +738,11 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
         }
 
         float area = signedAreaSum * 0.5f;
-        if (Math.abs(area) < 1e-6f) return false;
+        if (Math.abs(area) < 1e-6f) return 0f;
 
         float factor = 1f / (6f * area);
         out.set(cxSum * factor, cySum * factor);
-        return true;
-    }
-
-    // ============================================================
-    // GEOMETRIA AUXILIAR
-    // ============================================================
-
-    private float calculateSubmersionFraction(float minY, float maxY, float surfaceY) {
-        if (maxY <= surfaceY) return 1f;
-        if (minY >= surfaceY) return 0f;
-
-        float effectiveHeight = maxY - minY;
-        if (effectiveHeight <= 0f) return 0f;
-
-        float fraction = (surfaceY - minY) / effectiveHeight;
-        return fraction < 0f ? 0f : Math.min(fraction, 1f);
+        return Math.abs(area);
     }
 
     // ============================================================
@@ -488,6 +790,9 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
             applyAllMassDataToBody();
             physicsMassDataDirty = false;
         }
+
+        //Massa, volume ou centro mudaram: o equilíbrio anterior não vale mais
+        wakePending = true;
     }
 
     private void ensureGeometryProbe(Body body) {
@@ -692,6 +997,8 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
     public void dispose() {
         if (disposed) return;
         liquidAndRegionMap.clear();
+        indexedRegions.clear();
+        indexedLiquids.clear();
         fixtureCache.clear();
         disposed = true;
     }
@@ -700,18 +1007,30 @@ public class PhysicalLiquidInteractionComponent extends LiquidInteractionCompone
      * Cache por fixture.
      * Cada polygon shape guarda vértices locais + área.
      * Isso evita chamar getVertex() e recalcular área todo frame.
+     * Círculos (usados só pelo solver em lote) guardam o centro como único vértice.
      */
     private static final class FixtureCache {
         final float[] localX;
         final float[] localY;
         final int count;
         final float area;
-
-        FixtureCache(float[] localX, float[] localY, int count, float area) {
+        final boolean circle;
+        final float radius;
+
+        FixtureCache(
+            float[] localX,
+            float[] localY,
+            int count,
+            float area,
+            boolean circle,
+            float radius
+        ) {
             this.localX = localX;
             this.localY = localY;
             this.count = count;
             this.area = area;
+            this.circle = circle;
+            this.radius = radius;
         }
     }
 }
@@ -23,6 +23,11 @@ public class PhysicsComponent implements Component {
     protected final Vector2 tmpImpulse;
     /// Buffer de velocidade a ser aplicado no corpo
     protected final Vector2 tmpVel;
+    /// Buffer de leitura de velocidade que não deve sobrescrever tmpVel
+    protected final Vector2 tmpShadowVel;
+
+    /// Último estado conhecido do corpo, evita escritas pelo JNI que não mudam nada
+    protected final BodyStateShadow bodyState;
 
     /// Buffer de diferença de dimensões
     public float
@@ -67,6 +72,9 @@ public class PhysicsComponent implements Component {
         this.tmpImpulse = new Vector2();
         this.tmpVel = new Vector2();
         this.tmpPos = new Vector2();
+        this.tmpShadowVel = new Vector2();
+
+        this.bodyState = new BodyStateShadow();
 
 
         this.halfWidth = transformC.getHalfWidth();
@@ -130,7 +138,8 @@ public class PhysicsComponent implements Component {
 
     /// Aplicamos um impulso diretamente no centro do corpo do objeto
     public final void applyImpulse(Vector2 impulse) {
-        object.getBody().applyLinearImpulse(
+        bodyState.applyLinearImpulse(
+            object.getBody(),
             impulse,
             object.getBody().getWorldCenter(),
             true
@@ -139,13 +148,16 @@ public class PhysicsComponent implements Component {
 
     /// Coloca o objeto na posição da body
     public void syncObjectToBodyPos() {
+        //Guarda o passo anterior antes de sobrescrever, para a renderização interpolar
+        transformC.storePreviousState();
+
         transformC.x = (
             toPixels(tmpPos.x) - halfWidth
         );
         transformC.y = (
             toPixels(tmpPos.y) - halfHeight
         );
-        ;
+
         float bodyAngleDeg = object.getBody().getAngle() * MathUtils.radiansToDegrees;
         if (Math.abs(transformC.getRotation() - bodyAngleDeg) > 0.01f) {
             transformC.setRotation(bodyAngleDeg);
@@ -167,8 +179,8 @@ public class PhysicsComponent implements Component {
 
         /// Aplicação com buffer reutilizável
         tmpPos.set(object.getBody().getPosition());
-        object.getBody().setTransform(tmpPos, newAngleRad);
-        object.getBody().setAngularVelocity(0);
+        bodyState.setTransform(object.getBody(), tmpPos.x, tmpPos.y, newAngleRad);
+        bodyState.setAngularVelocity(object.getBody(), 0);
     }
 
     public final void setBodyRotation(float degrees) {
@@ -178,8 +190,8 @@ public class PhysicsComponent implements Component {
         float angleRad = normalizedDegrees * MathUtils.degreesToRadians;
 
         tmpPos.set(object.getBody().getPosition());
-        object.getBody().setTransform(tmpPos, angleRad);
-        object.getBody().setAngularVelocity(0);
+        bodyState.setTransform(object.getBody(), tmpPos.x, tmpPos.y, angleRad);
+        bodyState.setAngularVelocity(object.getBody(), 0);
     }
 
     private float normalizeAngle(float angleRad) {
@@ -227,7 +239,7 @@ public class PhysicsComponent implements Component {
 
         /// Só aplica se houver diferença significativa
         if (Math.abs(tmpVel.x - limitedX) > 0.0001f || Math.abs(tmpVel.y - limitedY) > 0.0001f) {
-            object.getBody().setLinearVelocity(limitedX, limitedY);
+            bodyState.setLinearVelocity(object.getBody(), limitedX, limitedY);
         }
     }
 
@@ -235,14 +247,15 @@ public class PhysicsComponent implements Component {
     /// Use para sistemas de movimento custom (como MovementComponent)
     public final void setVelocity(float vx, float vy) {
         if (disposed || object.getBody() == null) return;
-        object.getBody().setLinearVelocity(vx, vy);
+        bodyState.setLinearVelocity(object.getBody(), vx, vy);
     }
 
     /// Define a velocidade do corpo com conversão de píxels para metros
     /// Use quando tem valores em píxels (como do MovementComponent)
     public final void setVelocityFromPixels(float vxPixels, float vyPixels) {
         if (disposed || object.getBody() == null) return;
-        object.getBody().setLinearVelocity(
+        bodyState.setLinearVelocity(
+            object.getBody(),
             toMeters(vxPixels),
             toMeters(vyPixels)
         );
@@ -251,14 +264,16 @@ public class PhysicsComponent implements Component {
     /// Zera a velocidade do corpo (parada completa)
     public final void stopMovement() {
         if (disposed || object.getBody() == null) return;
-        object.getBody().setLinearVelocity(0, 0);
+        bodyState.setLinearVelocity(object.getBody(), 0, 0);
     }
 
     /// Zera a velocidade do eixo X do corpo
     public final void stopMovementX() {
         if (disposed || object.getBody() == null) return;
-        object.getBody().setLinearVelocity(
-            object.getBody().getLinearVelocity().x,
+        bodyState.readLinearVelocity(object.getBody(), tmpShadowVel);
+        bodyState.setLinearVelocity(
+            object.getBody(),
+            tmpShadowVel.x,
             0
         );
     }
@@ -266,16 +281,41 @@ public class PhysicsComponent implements Component {
     /// Zera a velocidade do eixo Y do corpo
     public final void stopMovementY() {
         if (disposed || object.getBody() == null) return;
-        object.getBody().setLinearVelocity(
+        bodyState.readLinearVelocity(object.getBody(), tmpShadowVel);
+        bodyState.setLinearVelocity(
+            object.getBody(),
             0,
-            object.getBody().getLinearVelocity().y
+            tmpShadowVel.y
         );
     }
 
     /// Zera a velocidade angular (parada rotacional)
     public final void stopRotation() {
         if (disposed || object.getBody() == null) return;
-        object.getBody().setAngularVelocity(0);
+        bodyState.setAngularVelocity(object.getBody(), 0);
+    }
+
+    /// Define a velocidade angular, sem chamada ao Box2D quando a rotação está fixa e o valor é 0
+    public final void setAngularVelocity(float velocity) {
+        if (disposed || object.getBody() == null) return;
+        bodyState.setAngularVelocity(object.getBody(), velocity);
+    }
+
+    /// Fixa ou libera a rotação, só chega ao Box2D (e ao ResetMassData) quando o valor muda
+    public final void setFixedRotation(boolean fixed) {
+        if (disposed || object.getBody() == null) return;
+        bodyState.setFixedRotation(object.getBody(), fixed);
+    }
+
+    /// Define a escala de gravidade, só chega ao Box2D quando o valor muda
+    public final void setGravityScale(float scale) {
+        if (disposed || object.getBody() == null) return;
+        bodyState.setGravityScale(object.getBody(), scale);
+    }
+
+    /// Escala de gravidade atual, lida do Box2D apenas na primeira vez
+    public final float getGravityScale() {
+        return bodyState.getGravityScale(object.getBody());
     }
 
     /// Obtém a velocidade atual do corpo em píxels por segundo
@@ -291,7 +331,7 @@ public class PhysicsComponent implements Component {
     }
 
     protected final void updateVelBuffer() {
-        tmpVel.set(object.getBody().getLinearVelocity());
+        bodyState.readLinearVelocity(object.getBody(), tmpVel);
     }
 
     protected final void updatePosBuffer() {
@@ -357,6 +397,10 @@ public class PhysicsComponent implements Component {
         return rest;
     }
 
+    public BodyStateShadow getBodyState() {
+        return bodyState;
+    }
+
     public float getDeltaTime() {
         return deltaTime;
     }
@@ -116,7 +116,7 @@ public class RoomTileGroundDetection implements Component {
         lastCellY = cellCheckY;
 
         TileModel checkedCell = currentRoom.tileModelIdMap.get(//Tentamos acessar o dado pela grid
-            currentRoom.grid[cellCheckY][cellCheckX]
+            currentRoom.getTileId(cellCheckX, cellCheckY)
         );
 
         if (checkedCell == null) {
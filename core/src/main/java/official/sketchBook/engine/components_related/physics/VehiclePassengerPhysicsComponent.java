@@ -1,17 +1,23 @@
 package official.sketchBook.engine.components_related.physics;
 
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.vehicle.VehiclePassenger;
 import official.sketchBook.engine.components_related.movement.MovementComponent;
 import official.sketchBook.engine.components_related.objects.AxisData;
+import official.sketchBook.engine.game_object_related.vehicle_related.Vehicle;
 import official.sketchBook.engine.game_object_related.vehicle_related.VehicleSection;
 
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.PASSENGER_KINEMATIC_CARRY;
+
 public class VehiclePassengerPhysicsComponent extends MovableObjectPhysicsComponent implements Component {
 
     private VehicleSection currentSection;
 
+    /// Sensores de área interna tocando o passageiro, por veículo. Mantido pelo VehicleContactListener
+    private final ObjectIntMap<Vehicle> internalAreaContacts = new ObjectIntMap<>(2);
+
     private MovementComponent moveC;
 
     private float
@@ -143,21 +149,26 @@ public class VehiclePassengerPhysicsComponent extends MovableObjectPhysicsCompon
         }
 
         // --- VELOCIDADE ---
-        final Vector2 vel = body.getLinearVelocity();
+        bodyState.readLinearVelocity(body, tmpShadowVel);
 
-        body.setLinearVelocity(
-            vel.x + deltaSubX,
-            vel.y + deltaSubY
+        bodyState.setLinearVelocity(
+            body,
+            tmpShadowVel.x + deltaSubX,
+            tmpShadowVel.y + deltaSubY
         );
 
         // --- POSIÇÃO (mantida, mas mais leve) ---
-        final Vector2 pos = body.getPosition();
-
-        body.setTransform(
-            pos.x + deltaSubX * deltaTime,
-            pos.y + deltaSubY * deltaTime,
-            body.getAngle()
-        );
+        //Carregado pelo piso kinematic o passageiro não é teleportado: o atrito com o
+        //corpo interno segura quem está parado e a velocidade acima cobre a aceleração do casco
+        if (!PASSENGER_KINEMATIC_CARRY) {
+            //tmpPos já foi atualizado com a posição do corpo antes da sincronização
+            bodyState.setTransform(
+                body,
+                tmpPos.x + deltaSubX * deltaTime,
+                tmpPos.y + deltaSubY * deltaTime,
+                body.getAngle()
+            );
+        }
 
         lastSubVelX = subVelX;
         lastSubVelY = subVelY;
@@ -175,6 +186,7 @@ public class VehiclePassengerPhysicsComponent extends MovableObjectPhysicsCompon
     public void nullifyReferences() {
         super.nullifyReferences();
         this.currentSection = null;
+        this.internalAreaContacts.clear();
         this.moveC = null;
     }
 
@@ -189,6 +201,31 @@ public class VehiclePassengerPhysicsComponent extends MovableObjectPhysicsCompon
         this.lastSubVelY = 0f;
     }
 
+    /// Mais um sensor de área interna do veículo começou a tocar o passageiro, retorna quantos tocam agora
+    public int addInternalAreaContact(Vehicle vehicle) {
+        int count = internalAreaContacts.get(vehicle, 0) + 1;
+        internalAreaContacts.put(vehicle, count);
+        return count;
+    }
+
+    /// Um sensor de área interna do veículo parou de tocar o passageiro, retorna quantos ainda tocam
+    public int removeInternalAreaContact(Vehicle vehicle) {
+        int count = internalAreaContacts.get(vehicle, 0) - 1;
+
+        //Contatos que começaram antes da contagem existir não ficam negativos
+        if (count <= 0) {
+            internalAreaContacts.remove(vehicle, 0);
+            return 0;
+        }
+
+        internalAreaContacts.put(vehicle, count);
+        return count;
+    }
+
+    public int getInternalAreaContacts(Vehicle vehicle) {
+        return internalAreaContacts.get(vehicle, 0);
+    }
+
     public VehicleSection getCurrentSection() {
         return currentSection;
     }
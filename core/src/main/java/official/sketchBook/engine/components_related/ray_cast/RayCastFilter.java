@@ -0,0 +1,79 @@
+package official.sketchBook.engine.components_related.ray_cast;
+
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import official.sketchBook.engine.util_related.enumerators.ObjectType;
+import official.sketchBook.engine.util_related.helper.GameObjectTag;
+import official.sketchBook.engine.util_related.helper.body.BodyTagHelper;
+
+/**
+ * Filtro imutável de quais fixtures um raio pode acertar. Deve ser criado uma vez
+ * por quem faz as consultas e reaproveitado, a checagem não aloca nada.
+ * <p>
+ * O raio se comporta como uma fixture com categoryBits e maskBits próprios, com a
+ * mesma regra de colisão do Box2D. Opcionalmente também restringe o ObjectType
+ * da tag do corpo acertado.
+ */
+public final class RayCastFilter {
+
+    /// Todas as categorias
+    public static final int ALL_BITS = 0xFFFF;
+
+    /// Acerta qualquer fixture sólida
+    public static final RayCastFilter SOLID = new RayCastFilter(ALL_BITS, ALL_BITS, false);
+
+    private final short
+        categoryBits,
+        maskBits;
+
+    private final boolean includeSensors;
+
+    /// Bit de cada ObjectType aceito (pelo ordinal), 0 quando o tipo não é filtrado
+    private final long objectTypeMask;
+
+    /**
+     * @param categoryBits   quem o raio é, a fixture precisa aceitar na máscara dela
+     * @param maskBits       categorias de fixture que o raio acerta
+     * @param includeSensors se sensores podem ser acertados
+     * @param objectTypes    tipos de objeto aceitos pela tag do corpo, vazio para não filtrar
+     */
+    public RayCastFilter(
+        int categoryBits,
+        int maskBits,
+        boolean includeSensors,
+        ObjectType... objectTypes
+    ) {
+        this.categoryBits = (short) categoryBits;
+        this.maskBits = (short) maskBits;
+        this.includeSensors = includeSensors;
+
+        long typeMask = 0L;
+        for (ObjectType type : objectTypes) {
+            typeMask |= 1L << type.ordinal();
+        }
+        this.objectTypeMask = typeMask;
+    }
+
+    /// Se a fixture reportada pelo Box2D conta como acerto
+    public boolean accepts(Fixture fixture) {
+        if (!includeSensors && fixture.isSensor()) return false;
+
+        //Getter do libGDX reaproveita o mesmo Filter da fixture
+        Filter filter = fixture.getFilterData();
+        if (!acceptsBits(filter.categoryBits, filter.maskBits)) return false;
+
+        if (objectTypeMask == 0L) return true;
+
+        GameObjectTag tag = BodyTagHelper.getFromBodyTag(fixture);
+        return tag != null && acceptsType(tag.type);
+    }
+
+    /// Mesma regra de colisão do Box2D, para checar algo que ainda não virou fixture (como uma tile da grid)
+    public boolean acceptsBits(short fixtureCategoryBits, short fixtureMaskBits) {
+        return (fixtureCategoryBits & maskBits) != 0 && (fixtureMaskBits & categoryBits) != 0;
+    }
+
+    public boolean acceptsType(ObjectType type) {
+        return objectTypeMask == 0L || (objectTypeMask & (1L << type.ordinal())) != 0L;
+    }
+}
@@ -0,0 +1,392 @@
+package official.sketchBook.engine.components_related.ray_cast;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+
+import static official.sketchBook.game.util_related.constants.DebugConstants.show_ray_cast;
+
+/**
+ * Serviço de raycast de um mundo físico, sem alocação por consulta.
+ * <p>
+ * Os raios podem ser lançados na hora (cast) ou enfileirados (submit) e lançados
+ * todos juntos (execute). O resultado de cada raio fica em arrays primitivos
+ * pré alocados, lidos pelo índice do raio e do acerto, que só crescem quando a
+ * quantidade de raios ou acertos de um tick passa da capacidade atual.
+ * <p>
+ * O próprio serviço é o RayCastCallback, então nenhum lambda é criado. O Box2D
+ * não reporta as fixtures em ordem de distância: no modo CLOSEST o raio é
+ * encurtado a cada acerto até sobrar o mais próximo, e no modo ALL os acertos
+ * são ordenados pela fração ao fim do raio.
+ * <p>
+ * Os resultados valem até o próximo clear, feito pelo manager no início de cada tick.
+ * Deve ser usado apenas pela thread de simulação.
+ */
+public class RayCastService implements RayCastCallback, Disposable {
+
+    public enum Mode {
+        /// Apenas o acerto mais próximo
+        CLOSEST,
+        /// Qualquer acerto, o raio para no primeiro aceito pelo filtro
+        ANY,
+        /// Todos os acertos, do mais próximo ao mais distante
+        ALL
+    }
+
+    /// Floats por raio: início x, y e fim x, y
+    private static final int RAY_STRIDE = 4;
+    /// Floats por acerto: ponto x, y, normal x, y e fração
+    private static final int HIT_STRIDE = 5;
+
+    private World world;
+
+    /// Raios do tick
+    private float[] rays;
+    private Mode[] rayModes;
+    private RayCastFilter[] rayFilters;
+    private int[]
+        rayFirstHit,
+        rayHitCount;
+    private int
+        rayCount = 0,
+        executedRays = 0;
+
+    /// Acertos do tick, em blocos contíguos por raio
+    private float[] hits;
+    private Fixture[] hitFixtures;
+    private int hitCount = 0;
+
+    /// Raio sendo lançado, lido pelo callback
+    private int currentRay;
+    private Mode currentMode;
+    private RayCastFilter currentFilter;
+
+    /// Segmentos lançados desde o último desenho de debug
+    private float[] debugSegments;
+    private int debugSegmentCount = 0;
+    private ShapeRenderer debugRenderer;
+
+    private boolean disposed = false;
+
+    public RayCastService(
+        World world,
+        int initialRays,
+        int initialHits
+    ) {
+        if (world == null) {
+            throw new IllegalArgumentException("O serviço de raycast precisa de um mundo físico");
+        }
+
+        this.world = world;
+
+        int rayCapacity = Math.max(1, initialRays);
+        int hitCapacity = Math.max(1, initialHits);
+
+        this.rays = new float[rayCapacity * RAY_STRIDE];
+        this.rayModes = new Mode[rayCapacity];
+        this.rayFilters = new RayCastFilter[rayCapacity];
+        this.rayFirstHit = new int[rayCapacity];
+        this.rayHitCount = new int[rayCapacity];
+
+        this.hits = new float[hitCapacity * HIT_STRIDE];
+        this.hitFixtures = new Fixture[hitCapacity];
+
+        this.debugSegments = new float[rayCapacity * RAY_STRIDE];
+    }
+
+    /**
+     * Enfileira um raio, lançado no próximo execute. Coordenadas em metros
+     *
+     * @return índice do raio, usado para ler o resultado
+     */
+    public int submit(
+        float x1,
+        float y1,
+        float x2,
+        float y2,
+        Mode mode,
+        RayCastFilter filter
+    ) {
+        if (disposed) {
+            throw new IllegalStateException("Serviço de raycast já foi descartado");
+        }
+
+        ensureRayCapacity(rayCount + 1);
+
+        int ray = rayCount++;
+        int base = ray * RAY_STRIDE;
+
+        rays[base] = x1;
+        rays[base + 1] = y1;
+        rays[base + 2] = x2;
+        rays[base + 3] = y2;
+
+        rayModes[ray] = mode;
+        rayFilters[ray] = filter;
+        rayFirstHit[ray] = -1;
+        rayHitCount[ray] = 0;
+
+        return ray;
+    }
+
+    /// Lança todos os raios enfileirados desde o último execute
+    public void execute() {
+        while (executedRays < rayCount) {
+            castRay(executedRays++);
+        }
+    }
+
+    /**
+     * Lança um raio na hora, junto com os que estiverem na fila antes dele
+     *
+     * @return índice do raio, usado para ler o resultado
+     */
+    public int cast(
+        float x1,
+        float y1,
+        float x2,
+        float y2,
+        Mode mode,
+        RayCastFilter filter
+    ) {
+        int ray = submit(x1, y1, x2, y2, mode, filter);
+        execute();
+        return ray;
+    }
+
+    private void castRay(int ray) {
+        int base = ray * RAY_STRIDE;
+
+        currentRay = ray;
+        currentMode = rayModes[ray];
+        currentFilter = rayFilters[ray];
+
+        world.rayCast(
+            this,
+            rays[base],
+            rays[base + 1],
+            rays[base + 2],
+            rays[base + 3]
+        );
+
+        if (currentMode == Mode.ALL && rayHitCount[ray] > 1) {
+            sortHitsByFraction(rayFirstHit[ray], rayHitCount[ray]);
+        }
+
+        currentFilter = null;
+
+        if (show_ray_cast) {
+            recordDebugSegment(base);
+        }
+    }
+
+    @Override
+    public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+        if (!currentFilter.accepts(fixture)) return -1;
+
+        int ray = currentRay;
+
+        switch (currentMode) {
+            case CLOSEST: {
+                //Os próximos reportes já vêm mais perto, o acerto do raio é sobrescrito
+                int hit = rayHitCount[ray] == 0 ? addHit(ray) : rayFirstHit[ray];
+                writeHit(hit, fixture, point, normal, fraction);
+                return fraction;
+            }
+            case ANY: {
+                writeHit(addHit(ray), fixture, point, normal, fraction);
+                return 0;
+            }
+            default: {
+                writeHit(addHit(ray), fixture, point, normal, fraction);
+                return 1;
+            }
+        }
+    }
+
+    /// Reserva o próximo acerto do raio, os acertos de um raio ficam contíguos porque os raios rodam em sequência
+    private int addHit(int ray) {
+        ensureHitCapacity(hitCount + 1);
+
+        int hit = hitCount++;
+        if (rayHitCount[ray] == 0) rayFirstHit[ray] = hit;
+        rayHitCount[ray]++;
+
+        return hit;
+    }
+
+    private void writeHit(int hit, Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+        int base = hit * HIT_STRIDE;
+
+        hits[base] = point.x;
+        hits[base + 1] = point.y;
+        hits[base + 2] = normal.x;
+        hits[base + 3] = normal.y;
+        hits[base + 4] = fraction;
+
+        hitFixtures[hit] = fixture;
+    }
+
+    /// Ordenação por inserção, poucos acertos por raio
+    private void sortHitsByFraction(int first, int count) {
+        for (int i = first + 1; i < first + count; i++) {
+            for (int j = i; j > first && getHitFraction(j - 1) > getHitFraction(j); j--) {
+                swapHits(j - 1, j);
+            }
+        }
+    }
+
+    private void swapHits(int a, int b) {
+        int baseA = a * HIT_STRIDE;
+        int baseB = b * HIT_STRIDE;
+
+        for (int i = 0; i < HIT_STRIDE; i++) {
+            float tmp = hits[baseA + i];
+            hits[baseA + i] = hits[baseB + i];
+            hits[baseB + i] = tmp;
+        }
+
+        Fixture tmpFixture = hitFixtures[a];
+        hitFixtures[a] = hitFixtures[b];
+        hitFixtures[b] = tmpFixture;
+    }
+
+    private void ensureRayCapacity(int capacity) {
+        if (capacity <= rayModes.length) return;
+
+        int newCapacity = Math.max(capacity, rayModes.length * 2);
+
+        rays = Arrays.copyOf(rays, newCapacity * RAY_STRIDE);
+        rayModes = Arrays.copyOf(rayModes, newCapacity);
+        rayFilters = Arrays.copyOf(rayFilters, newCapacity);
+        rayFirstHit = Arrays.copyOf(rayFirstHit, newCapacity);
+        rayHitCount = Arrays.copyOf(rayHitCount, newCapacity);
+    }
+
+    private void ensureHitCapacity(int capacity) {
+        if (capacity <= hitFixtures.length) return;
+
+        int newCapacity = Math.max(capacity, hitFixtures.length * 2);
+
+        hits = Arrays.copyOf(hits, newCapacity * HIT_STRIDE);
+        hitFixtures = Arrays.copyOf(hitFixtures, newCapacity);
+    }
+
+    /// Descarta os raios e acertos do tick, chamado pelo manager no início do update
+    public void clear() {
+        //Solta as referências para fixtures que podem ser destruídas até o próximo uso
+        Arrays.fill(hitFixtures, 0, hitCount, null);
+        Arrays.fill(rayFilters, 0, rayCount, null);
+
+        rayCount = 0;
+        executedRays = 0;
+        hitCount = 0;
+    }
+
+    public int getRayCount() {
+        return rayCount;
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public boolean hasHit(int ray) {
+        return rayHitCount[ray] > 0;
+    }
+
+    /// Quantidade de acertos do raio, no máximo 1 nos modos CLOSEST e ANY
+    public int getHitCount(int ray) {
+        return rayHitCount[ray];
+    }
+
+    /// Índice do primeiro (mais próximo, exceto no modo ANY) acerto do raio, -1 sem acerto
+    public int getFirstHit(int ray) {
+        return rayFirstHit[ray];
+    }
+
+    public float getHitX(int hit) {
+        return hits[hit * HIT_STRIDE];
+    }
+
+    public float getHitY(int hit) {
+        return hits[hit * HIT_STRIDE + 1];
+    }
+
+    public float getHitNormalX(int hit) {
+        return hits[hit * HIT_STRIDE + 2];
+    }
+
+    public float getHitNormalY(int hit) {
+        return hits[hit * HIT_STRIDE + 3];
+    }
+
+    public float getHitFraction(int hit) {
+        return hits[hit * HIT_STRIDE + 4];
+    }
+
+    public Fixture getHitFixture(int hit) {
+        return hitFixtures[hit];
+    }
+
+    private void recordDebugSegment(int rayBase) {
+        int needed = (debugSegmentCount + 1) * RAY_STRIDE;
+        if (needed > debugSegments.length) {
+            debugSegments = Arrays.copyOf(debugSegments, Math.max(needed, debugSegments.length * 2));
+        }
+
+        System.arraycopy(rays, rayBase, debugSegments, debugSegmentCount * RAY_STRIDE, RAY_STRIDE);
+        debugSegmentCount++;
+    }
+
+    /// Desenha os raios lançados desde o último clearDebug, a matriz precisa estar em metros
+    public void renderDebug(Matrix4 projectionMatrix) {
+        if (!show_ray_cast || debugSegmentCount == 0 || disposed) return;
+
+        //Criado só quando usado, na thread do GL
+        if (debugRenderer == null) debugRenderer = new ShapeRenderer();
+
+        debugRenderer.setProjectionMatrix(projectionMatrix);
+        debugRenderer.begin(ShapeRenderer.ShapeType.Line);
+        debugRenderer.setColor(Color.RED);
+
+        for (int i = 0; i < debugSegmentCount; i++) {
+            int base = i * RAY_STRIDE;
+            debugRenderer.line(
+                debugSegments[base],
+                debugSegments[base + 1],
+                debugSegments[base + 2],
+                debugSegments[base + 3]
+            );
+        }
+
+        debugRenderer.end();
+    }
+
+    public void clearDebug() {
+        debugSegmentCount = 0;
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+
+        clear();
+        clearDebug();
+
+        if (debugRenderer != null) {
+            debugRenderer.dispose();
+            debugRenderer = null;
+        }
+
+        world = null;
+        disposed = true;
+    }
+}
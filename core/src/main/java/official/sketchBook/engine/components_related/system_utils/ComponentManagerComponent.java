@@ -1,6 +1,7 @@
 package official.sketchBook.engine.components_related.system_utils;
 
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.ParallelComponent;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +13,12 @@ public class ComponentManagerComponent implements Component {
         toPostUpdate,
         allComponents;     // refer�ncia de todos os componentes, para garantir dispose correto
 
+    /// Subconjunto de toUpdate que pode rodar na fase paralela
+    private final List<ParallelComponent> toParallelUpdate;
+
+    /// Marca que a fase paralela já atualizou os ParallelComponent neste passo
+    private boolean parallelPhaseDone = false;
+
     private boolean
         disposed = false;
 
@@ -19,14 +26,46 @@ public class ComponentManagerComponent implements Component {
         toUpdate = new ArrayList<>();
         toPostUpdate = new ArrayList<>();
         allComponents = new ArrayList<>();
+        toParallelUpdate = new ArrayList<>();
     }
 
     public void update(float delta) {
+        Component current;
         for (int i = 0; i < toUpdate.size(); i++) {
-            toUpdate.get(i).update(delta);
+            current = toUpdate.get(i);
+
+            //Já foi atualizado e mergeado pela fase paralela
+            if (parallelPhaseDone && current instanceof ParallelComponent) continue;
+
+            current.update(delta);
+        }
+
+        parallelPhaseDone = false;
+    }
+
+    /**
+     * Executa a parte paralela dos ParallelComponent.
+     * Pode ser chamado de qualquer thread, desde que cada manager seja tocado por uma só
+     */
+    public void runParallelPhase(float delta) {
+        for (int i = 0; i < toParallelUpdate.size(); i++) {
+            toParallelUpdate.get(i).parallelUpdate(delta);
         }
     }
 
+    /// Aplica os resultados da fase paralela, sempre na thread da simulação
+    public void mergeParallelPhase() {
+        for (int i = 0; i < toParallelUpdate.size(); i++) {
+            toParallelUpdate.get(i).mergeParallelResult();
+        }
+
+        parallelPhaseDone = true;
+    }
+
+    public boolean hasParallelComponents() {
+        return !toParallelUpdate.isEmpty();
+    }
+
     public void postUpdate() {
         for (int i = 0; i < toPostUpdate.size(); i++) {
             toPostUpdate.get(i).postUpdate();
@@ -50,6 +89,12 @@ public class ComponentManagerComponent implements Component {
                     toUpdate.remove(i);
                 }
             }
+
+            for (int i = toParallelUpdate.size() - 1; i >= 0; i--) {
+                if (type.isInstance(toParallelUpdate.get(i))) {
+                    toParallelUpdate.remove(i);
+                }
+            }
         }
 
         if (removeFromPostUpdateList) {
@@ -79,6 +124,10 @@ public class ComponentManagerComponent implements Component {
 
         if (toUpdate) {
             this.toUpdate.add(component);
+
+            if (component instanceof ParallelComponent) {
+                this.toParallelUpdate.add((ParallelComponent) component);
+            }
         }
 
         if (toPostUpdate) {
@@ -96,6 +145,7 @@ public class ComponentManagerComponent implements Component {
         toUpdate.clear();
         toPostUpdate.clear();
         allComponents.clear();
+        toParallelUpdate.clear();
 
         disposed = true;
     }
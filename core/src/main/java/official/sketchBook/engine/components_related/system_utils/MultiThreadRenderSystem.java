@@ -0,0 +1,128 @@
+package official.sketchBook.engine.components_related.system_utils;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.RenderableObjectII;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.data_manager_related.BaseGameObjectDataManager;
+import official.sketchBook.engine.screen_related.BaseScreen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sistema de renderização pareado com o MultiThreadUpdateSystem.
+ * <p>
+ * Os visuais não são atualizados em draw(), e sim em publishSnapshot(),
+ * chamado pelo sistema de update no ponto de sincronização. Durante o
+ * desenho dos objetos só lemos o snapshot (lista de visíveis, matriz da
+ * camera e dados dos handlers de sprite), enquanto a simulação segue na
+ * outra thread.
+ * <p>
+ * BaseScreen.drawGame e drawUI podem ler estado vivo (hitboxes, pools de
+ * raycast, contagem de objetos), então só são desenhados depois que o tick
+ * em andamento termina.
+ */
+public class MultiThreadRenderSystem extends SingleThreadRenderSystem {
+
+    /// Sistema de update dono da thread de simulação
+    private final MultiThreadUpdateSystem updateSystem;
+
+    /// Objetos visíveis no tick publicado, em ordem de renderização
+    private final List<RenderableObjectII> renderSnapshot = new ArrayList<>();
+
+    /// Projeção da camera de jogo no tick publicado
+    private final Matrix4 gameProjectionSnapshot = new Matrix4();
+
+    public MultiThreadRenderSystem(
+        BaseScreen screen,
+        BaseGameObjectDataManager gameObjectManager,
+        SpriteBatch gameBatch,
+        Camera gameCamera,
+        SpriteBatch uiBatch,
+        Camera uiCamera,
+        MultiThreadUpdateSystem updateSystem
+    ) {
+        super(
+            screen,
+            gameObjectManager,
+            gameBatch,
+            gameCamera,
+            uiBatch,
+            uiCamera
+        );
+
+        if (updateSystem == null) {
+            throw new IllegalArgumentException("MultiThreadRenderSystem precisa de um MultiThreadUpdateSystem");
+        }
+
+        this.updateSystem = updateSystem;
+        this.updateSystem.bindRenderSystem(this);
+    }
+
+    /**
+     * Copia o estado do tick recém terminado para o buffer de desenho.
+     * Só pode ser chamado com a thread de simulação parada
+     *
+     * @param delta delta do frame, usado pelos tocadores de animação
+     * @param alpha alpha de interpolação do tick publicado
+     */
+    void publishSnapshot(float delta, float alpha) {
+        setInterpolationAlpha(alpha);
+        TransformComponent.setInterpolationAlpha(alpha);
+
+        //Escreve posição, rotação e sprite atual nos handlers de cada objeto visível
+        updateVisuals(delta);
+
+        if (canAccessWorldManager) {
+            gameObjectManager.collectRenderSnapshot(renderSnapshot);
+        }
+
+        //A camera é movida pela simulação, congelamos a projeção junto do resto
+        if (renderGame) {
+            gameCamera.update();
+            gameProjectionSnapshot.set(gameCamera.combined);
+        }
+    }
+
+    @Override
+    public void draw(float delta) {
+        cleanScreen();
+
+        //Desenha o snapshot em paralelo ao tick que está rodando
+        drawGameSnapshot(gameBatch);
+
+        //Daqui em diante a tela pode ler estado vivo
+        updateSystem.awaitTick();
+
+        drawGame(gameBatch);
+        drawUI(uiBatch);
+    }
+
+    /// Desenha os objetos do tick publicado, sem tocar no gerenciador de objetos
+    private void drawGameSnapshot(SpriteBatch batch) {
+        if (!renderGame || !canAccessWorldManager) return;
+
+        batch.setProjectionMatrix(gameProjectionSnapshot);
+
+        batch.begin();
+        for (int i = 0; i < renderSnapshot.size(); i++) {
+            renderSnapshot.get(i).render(batch);
+        }
+        batch.end();
+    }
+
+    /// Desenha apenas o que pertence à tela, os objetos já foram desenhados pelo snapshot
+    @Override
+    protected void drawGame(SpriteBatch batch) {
+        if (!renderGame) return;
+
+        gameCamera.update();
+        batch.setProjectionMatrix(gameCamera.combined);
+
+        batch.begin();
+        screen.drawGame(batch);
+        batch.end();
+    }
+}
@@ -0,0 +1,178 @@
+package official.sketchBook.engine.components_related.system_utils;
+
+import official.sketchBook.engine.data_manager_related.BaseGameObjectDataManager;
+import official.sketchBook.engine.screen_related.BaseScreen;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Sistema de update em pipeline: a simulação do tick N+1 (update dos objetos
+ * e World.step) roda em uma thread dedicada enquanto a thread do GL desenha
+ * o snapshot do tick N.
+ * <p>
+ * O estado é duplamente bufferizado. O buffer "vivo" (TransformComponent,
+ * bodies, tocadores de animação) só é escrito pela thread de simulação. O
+ * buffer "de desenho" (posição/rotação dos SpriteSheetDataHandler, sprite
+ * congelada de cada camada e a lista de objetos visíveis) só é lido pela
+ * thread do GL. A cópia de um para o outro acontece em synchronizeFrame(),
+ * o único ponto em que as duas threads estão paradas.
+ * <p>
+ * Tudo que precisa de contexto GL ou mexe com input da tela
+ * (BaseScreen.updateScreen) roda na thread do GL, no ponto de sincronização,
+ * uma vez para cada passo simulado no tick anterior.
+ */
+public class MultiThreadUpdateSystem extends SingleThreadUpdateSystem {
+
+    /// Executor de uma única thread, dona exclusiva do mundo físico enquanto um tick está em andamento
+    private final ExecutorService simulationExecutor;
+
+    /// Tick em andamento na thread de simulação, null quando ela está parada
+    private Future<?> runningTick;
+
+    /// Sistema de renderização que recebe o snapshot a cada sincronização
+    private MultiThreadRenderSystem renderSystem;
+
+    /// Alpha de interpolação do tick publicado, estável durante todo o frame de desenho
+    private float publishedAlpha = 1f;
+
+    /// Passos simulados desde a última sincronização, repassados para a tela na thread do GL
+    private int pendingScreenUpdates = 0;
+    private float pendingScreenDelta = 0f;
+
+    /// Métrica de updates lida pela thread do GL, só é alterada na sincronização
+    private int publishedUpdates = 0;
+
+    private boolean disposed = false;
+
+    public MultiThreadUpdateSystem(
+        BaseGameObjectDataManager gameObjectManager,
+        BaseScreen screen
+    ) {
+        super(gameObjectManager, screen);
+
+        this.simulationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulation-thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        //Objetos removidos durante a simulação ainda podem estar no snapshot sendo desenhado
+        if (gameObjectManager != null) {
+            gameObjectManager.setDeferDestruction(true);
+        }
+    }
+
+    /// Liga o sistema de renderização que recebe os snapshots, chamado pelo próprio MultiThreadRenderSystem
+    void bindRenderSystem(MultiThreadRenderSystem renderSystem) {
+        this.renderSystem = renderSystem;
+    }
+
+    @Override
+    public void update(float delta) {
+        if (disposed) return;
+
+        //Espera o tick N terminar, a partir daqui somos os únicos mexendo no estado
+        awaitTick();
+
+        //Copia o estado do tick N para o buffer de desenho
+        synchronizeFrame(delta);
+
+        //Dispara o tick N+1, que roda em paralelo ao desenho do tick N
+        runningTick = simulationExecutor.submit(
+            () -> super.update(delta)
+        );
+    }
+
+    /// Ponto de sincronização, só pode ser executado com a thread de simulação parada
+    private void synchronizeFrame(float delta) {
+        if (gameObjectManager != null) {
+            gameObjectManager.flushDeferredDestruction();
+        }
+
+        for (int i = 0; i < pendingScreenUpdates; i++) {
+            screen.updateScreen(pendingScreenDelta);
+        }
+
+        publishedUpdates += pendingScreenUpdates;
+        pendingScreenUpdates = 0;
+
+        publishedAlpha = interpolationAlpha;
+
+        if (renderSystem != null) {
+            renderSystem.publishSnapshot(delta, publishedAlpha);
+        }
+    }
+
+    /// Executado na thread de simulação, a atualização da tela fica para a sincronização
+    @Override
+    protected void executeUpdate(float delta) {
+        if (gameObjectManager != null) {
+            gameObjectManager.update(delta);
+            gameObjectManager.postUpdate();
+        }
+
+        pendingScreenUpdates++;
+        pendingScreenDelta = delta;
+    }
+
+    /**
+     * Bloqueia a thread atual até o tick em andamento terminar.
+     * Falhas da thread de simulação são relançadas aqui, na thread do GL
+     */
+    public void awaitTick() {
+        if (runningTick == null) return;
+
+        try {
+            runningTick.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido enquanto aguardava a thread de simulação", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha durante o tick da thread de simulação", e.getCause());
+        } finally {
+            runningTick = null;
+        }
+    }
+
+    /// Indica se existe um tick rodando na thread de simulação agora
+    public boolean isTickRunning() {
+        return runningTick != null && !runningTick.isDone();
+    }
+
+    @Override
+    public float getInterpolationAlpha() {
+        return publishedAlpha;
+    }
+
+    @Override
+    public int getUpdatesMetric() {
+        return publishedUpdates;
+    }
+
+    @Override
+    public void resetUpdateMetric() {
+        this.publishedUpdates = 0;
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+
+        try {
+            awaitTick();
+        } finally {
+            simulationExecutor.shutdown();
+            disposed = true;
+        }
+
+        //Sem simulação paralela não há mais motivo para adiar destruições
+        if (gameObjectManager != null) {
+            gameObjectManager.setDeferDestruction(false);
+        }
+
+        super.dispose();
+    }
+}
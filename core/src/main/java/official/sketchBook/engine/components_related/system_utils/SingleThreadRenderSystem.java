@@ -4,32 +4,36 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.ScreenUtils;
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.RenderSystem;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
 import official.sketchBook.engine.data_manager_related.BaseGameObjectDataManager;
 import official.sketchBook.engine.screen_related.BaseScreen;
 
 public class SingleThreadRenderSystem implements RenderSystem {
     /// Referência à tela dona
-    private final BaseScreen screen;
+    protected final BaseScreen screen;
 
     /// Referência à camera a ser usada para renderizar as coisas
-    private final Camera
+    protected final Camera
         gameCamera,
         uiCamera;
 
     /// Batchs de renderização
-    private final SpriteBatch
+    protected final SpriteBatch
         gameBatch,
         uiBatch;
 
     /// Flags que determina se podemos renderizar as pipelines correspondentes
-    private final boolean
+    protected final boolean
         renderGame,
         renderUi;
 
     /// Referência ao gerenciador de objetos de jogo
-    private final BaseGameObjectDataManager gameObjectManager;
+    protected final BaseGameObjectDataManager gameObjectManager;
     /// Flag para determinar se podemos acessar o gerenciador de objetos
-    private final boolean canAccessWorldManager;
+    protected final boolean canAccessWorldManager;
+
+    /// Alpha de interpolação recebido do sistema de update para o frame atual
+    protected float interpolationAlpha = 1f;
 
     public SingleThreadRenderSystem(
         BaseScreen screen,
@@ -63,6 +67,9 @@ public class SingleThreadRenderSystem implements RenderSystem {
     @Override
     public void draw(float delta) {
 
+        //Publica o alpha do frame para que os transforms desenhem o estado interpolado
+        TransformComponent.setInterpolationAlpha(interpolationAlpha);
+
         //Limpa a tela, em preparo para a próxima renderização
         cleanScreen();
 
@@ -92,6 +99,15 @@ public class SingleThreadRenderSystem implements RenderSystem {
 
     }
 
+    @Override
+    public void setInterpolationAlpha(float alpha) {
+        this.interpolationAlpha = alpha;
+    }
+
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
     /// Limpa a tela com uma cor em específico
     protected void cleanScreen() {
         ScreenUtils.clear(0.15f, 0.15f, 0.2f, 1f);
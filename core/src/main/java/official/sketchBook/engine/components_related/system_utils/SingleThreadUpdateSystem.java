@@ -4,7 +4,7 @@ import official.sketchBook.engine.components_related.intefaces.base_interfaces.U
 import official.sketchBook.engine.data_manager_related.BaseGameObjectDataManager;
 import official.sketchBook.engine.screen_related.BaseScreen;
 
-import static official.sketchBook.game.util_related.constants.GameConfigConstants.UPDATE_TIME_SCALE;
+import static official.sketchBook.game.util_related.constants.GameConfigConstants.*;
 
 public class SingleThreadUpdateSystem implements UpdateSystem {
 
@@ -13,13 +13,26 @@ public class SingleThreadUpdateSystem implements UpdateSystem {
      * dispara uma execução e desconta 1.0 — mesma ideia de um accumulator,
      * só que contando "quantidade de updates", não tempo. delta em si
      * nunca é alterado; cada execução recebe o delta real do LibGDX.
+     * <p>
+     * Usado apenas quando FIXED_TIMESTEP_ENABLED é false.
      */
     private float executionCredit = 0f;
 
-    private int updates = 0;
+    /**
+     * Accumulator de tempo do modo de passo fixo. Recebe o delta real
+     * (limitado por MAX_FRAME_TIME e escalado por UPDATE_TIME_SCALE) e é
+     * consumido em fatias de FIXED_TIMESTEP. O que sobra vira o alpha
+     * de interpolação da renderização.
+     */
+    private float accumulator = 0f;
+
+    /// Fração do passo fixo restante após o último update, [0, 1]
+    protected float interpolationAlpha = 1f;
 
-    private final BaseGameObjectDataManager gameObjectManager;
-    private final BaseScreen screen;
+    protected int updates = 0;
+
+    protected final BaseGameObjectDataManager gameObjectManager;
+    protected final BaseScreen screen;
 
     public SingleThreadUpdateSystem(
         BaseGameObjectDataManager gameObjectManager,
@@ -31,6 +44,46 @@ public class SingleThreadUpdateSystem implements UpdateSystem {
 
     @Override
     public void update(float delta) {
+        if (FIXED_TIMESTEP_ENABLED) {
+            updateFixedStep(delta);
+        } else {
+            updateVariableStep(delta);
+        }
+    }
+
+    /**
+     * Loop de passo fixo: toda execução recebe exatamente FIXED_TIMESTEP,
+     * independente da taxa de frames. TIME_SCALE passa a escalar o tempo
+     * acumulado (mais ou menos passos por segundo real), nunca o tamanho
+     * do passo, então o Box2D sempre integra com o mesmo dt.
+     */
+    private void updateFixedStep(float delta) {
+        //Travadas longas (debugger, carregamento, janela arrastada) não podem gerar uma rajada de passos
+        float frameTime = Math.min(delta, MAX_FRAME_TIME);
+
+        accumulator += frameTime * UPDATE_TIME_SCALE;
+
+        int steps = 0;
+        while (accumulator >= FIXED_TIMESTEP && steps < MAX_SUBSTEPS) {
+            executeUpdate(FIXED_TIMESTEP);
+            accumulator -= FIXED_TIMESTEP;
+            steps++;
+        }
+
+        /*
+         * Se batemos o limite de passos e ainda há tempo acumulado,
+         * a simulação não está conseguindo acompanhar o tempo real.
+         * Descartamos o excesso (mantendo só a fração) para que o
+         * atraso não se acumule de frame em frame.
+         */
+        if (accumulator >= FIXED_TIMESTEP) {
+            accumulator %= FIXED_TIMESTEP;
+        }
+
+        interpolationAlpha = accumulator / FIXED_TIMESTEP;
+    }
+
+    private void updateVariableStep(float delta) {
         executionCredit += UPDATE_TIME_SCALE;
 
         // TIME_SCALE >= 1 (acelerado ou normal): pode disparar mais de
@@ -40,9 +93,12 @@ public class SingleThreadUpdateSystem implements UpdateSystem {
             executeUpdate(delta);
             executionCredit -= 1f;
         }
+
+        //Sem passo fixo o estado atual já é o estado a ser desenhado
+        interpolationAlpha = 1f;
     }
 
-    private void executeUpdate(float delta) {
+    protected void executeUpdate(float delta) {
         if (gameObjectManager != null) {
             gameObjectManager.update(delta);
             gameObjectManager.postUpdate();
@@ -56,6 +112,11 @@ public class SingleThreadUpdateSystem implements UpdateSystem {
         return gameObjectManager;
     }
 
+    @Override
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
     public int getUpdatesMetric() {
         return updates;
     }
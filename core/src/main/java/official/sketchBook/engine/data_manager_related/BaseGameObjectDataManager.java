@@ -8,7 +8,10 @@ import official.sketchBook.engine.components_related.intefaces.base_interfaces.M
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.RenderableObjectII;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.StaticResourceDisposable;
 import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.data_manager_related.util.ParallelUpdatePhase;
 import official.sketchBook.engine.data_manager_related.util.RenderableObjectManager;
+import official.sketchBook.engine.data_manager_related.util.UpdateLodController;
+import official.sketchBook.engine.data_manager_related.util.UpdateLodPolicy;
 import official.sketchBook.engine.game_object_related.base_game_object.BaseGameObject;
 
 import java.lang.reflect.Method;
@@ -27,6 +30,25 @@ public abstract class BaseGameObjectDataManager implements com.badlogic.gdx.util
         gameObjectToAddList = new ArrayList<>(),        //Lista dos que serão adicionados ainda
         updatableObjectList = new ArrayList<>();             //Lista dos que estão ativos
 
+    /// Objetos já removidos da pipeline mas com a destruição adiada para um ponto seguro
+    protected final List<ManagedUpdatableObject> pendingDestructionList = new ArrayList<>();
+
+    /**
+     * Quando ativo, a destruição de objetos removidos é adiada até flushDeferredDestruction().
+     * Usado por sistemas que simulam em outra thread, para que nenhum objeto seja
+     * destruído enquanto a thread de renderização ainda pode estar desenhando ele
+     */
+    private boolean deferDestruction = false;
+
+    /// Fase de update paralelo dos componentes de lógica pura, null quando desativada
+    protected ParallelUpdatePhase parallelUpdatePhase;
+
+    /// LOD de simulação por tipo de objeto, só age quando existe alguma política registrada
+    protected final UpdateLodController updateLodController = new UpdateLodController();
+
+    /// Indica se o LOD decidiu o passo atual, o postUpdate precisa seguir a mesma decisão do update
+    private boolean updateLodStepActive = false;
+
     /// Rastreamento de todas as classes que passaram pelo manager
     protected final Set<Class<? extends Disposable>> registeredClasses = new HashSet<>();
 
@@ -56,6 +78,19 @@ public abstract class BaseGameObjectDataManager implements com.badlogic.gdx.util
 
     /// Executa a sequencia de atualização
     protected void updateGameObjects(float delta) {
+        //Decide quem atualiza neste passo antes de qualquer fase, para todas seguirem a mesma decisão
+        updateLodStepActive = updateLodController.hasPolicies();
+        if (updateLodStepActive) {
+            updateLodController.prepareStep(updatableObjectList, delta);
+        }
+
+        UpdateLodController lod = updateLodStepActive ? updateLodController : null;
+
+        //Lógica pura primeiro, em paralelo, já com o merge aplicado antes do loop serial
+        if (parallelUpdatePhase != null) {
+            parallelUpdatePhase.execute(updatableObjectList, delta, lod);
+        }
+
         ManagedUpdatableObject currentObject;
 
         //Itera de cima pra baixo
@@ -69,6 +104,13 @@ public abstract class BaseGameObjectDataManager implements com.badlogic.gdx.util
                 continue;                                       //Passa pro próximo objeto
             }
 
+            //Objetos fora da tela podem pular o passo ou receber o tempo acumulado
+            if (lod != null) {
+                if (!lod.shouldUpdate(currentObject)) continue;
+                currentObject.update(lod.getUpdateDelta(currentObject, delta));
+                continue;
+            }
+
             currentObject.update(delta);                        //Atualização padrão
         }
     }
@@ -94,9 +136,79 @@ public abstract class BaseGameObjectDataManager implements com.badlogic.gdx.util
             object
         );
 
+        //Se a destruição estiver adiada, guardamos para destruir em um ponto seguro
+        if (deferDestruction) {
+            pendingDestructionList.add(object);
+            return;
+        }
+
         object.destroy();       //Executa a pipeline contendo a sequencia de destruição
     }
 
+    /// Executa a destruição de todos os objetos que tiveram a destruição adiada
+    public void flushDeferredDestruction() {
+        if (pendingDestructionList.isEmpty()) return;
+
+        for (int i = 0; i < pendingDestructionList.size(); i++) {
+            pendingDestructionList.get(i).destroy();
+        }
+
+        pendingDestructionList.clear();
+    }
+
+    public void setDeferDestruction(boolean deferDestruction) {
+        this.deferDestruction = deferDestruction;
+
+        //Ao desativar não podemos deixar objetos esquecidos na fila
+        if (!deferDestruction) flushDeferredDestruction();
+    }
+
+    public boolean isDeferDestruction() {
+        return deferDestruction;
+    }
+
+    /**
+     * Ativa a fase de update paralelo dos ParallelComponent
+     *
+     * @param parallelism quantidade de threads do pool
+     * @param batchSize   quantidade de objetos por tarefa
+     */
+    public void enableParallelUpdate(int parallelism, int batchSize) {
+        disableParallelUpdate();
+        parallelUpdatePhase = new ParallelUpdatePhase(parallelism, batchSize);
+    }
+
+    /// Volta a atualizar todos os componentes no loop serial
+    public void disableParallelUpdate() {
+        if (parallelUpdatePhase == null) return;
+
+        parallelUpdatePhase.dispose();
+        parallelUpdatePhase = null;
+    }
+
+    /**
+     * Registra a política de LOD de simulação de um tipo de objeto (vale para as subclasses)
+     *
+     * @param type   tipo dos objetos afetados
+     * @param policy política aplicada a eles
+     */
+    public void setUpdateLodPolicy(Class<? extends BaseGameObject> type, UpdateLodPolicy policy) {
+        updateLodController.setPolicy(type, policy);
+    }
+
+    /// Remove a política de um tipo, os objetos voltam a atualizar todo passo
+    public void removeUpdateLodPolicy(Class<? extends BaseGameObject> type) {
+        updateLodController.removePolicy(type);
+    }
+
+    /// Define a área visível usada pelo LOD para medir a distância dos objetos fora da tela
+    public void setUpdateLodView(
+        float minX, float minY,
+        float maxX, float maxY
+    ) {
+        updateLodController.setView(minX, minY, maxX, maxY);
+    }
+
     /// Tenta inserir os objetos pendentes na lista para atualização antes de começar a atualização geral
     protected void insertGameObjectsInSys() {
         if (gameObjectToAddList.isEmpty()) return;
@@ -124,6 +236,7 @@ public abstract class BaseGameObjectDataManager implements com.badlogic.gdx.util
             currentObject = updatableObjectList.get(i);
 
             if (currentObject.isPendingRemoval()) continue;
+            if (updateLodStepActive && !updateLodController.shouldPostUpdate(currentObject)) continue;
             currentObject.postUpdate();
         }
     }
@@ -147,11 +260,24 @@ public abstract class BaseGameObjectDataManager implements com.badlogic.gdx.util
 
     /// Percorre o renderManager e renderiza todos os objetos que podem ser renderizados
     protected void drawRenderableObjects(SpriteBatch batch) {
-        renderTree.forEachObject(
+        //Reaproveita o culling feito no updateVisuals quando houver
+        renderTree.forEachCulledObject(
             obj -> obj.render(batch)
         );
     }
 
+    /**
+     * Copia para a lista passada, em ordem de renderização, todos os objetos que
+     * seriam desenhados agora. Deve ser chamado depois de updateVisuals, já que é ali
+     * que o culling marca quem está em tela
+     *
+     * @param out lista que recebe os objetos, é limpa antes de ser preenchida
+     */
+    public void collectRenderSnapshot(List<RenderableObjectII> out) {
+        out.clear();
+        renderTree.forEachCulledObject(out::add);
+    }
+
     /// Executa a sequencia de destruição do manager
     public final void destroyManager() {
         if (disposed) return;
@@ -209,6 +335,8 @@ public abstract class BaseGameObjectDataManager implements com.badlogic.gdx.util
 
     /// Realiza um dispose dos dados pro instancia dos GameObjects existentes dentro do manager
     protected void disposeGameObjectInstances() {
+        flushDeferredDestruction();
+
         for (int i = 0; i < updatableObjectList.size(); i++) {
             updatableObjectList.get(i).dispose();
         }
@@ -216,6 +344,8 @@ public abstract class BaseGameObjectDataManager implements com.badlogic.gdx.util
 
     /// Limpa as listas existentes
     protected void disposeLists() {
+        disableParallelUpdate();
+
         updatableObjectList.clear();
         gameObjectToAddList.clear();
         registeredClasses.clear();
@@ -6,13 +6,17 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.physics.box2d.World;
 import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.components_related.physics.BodyJniCounter;
+import official.sketchBook.engine.components_related.physics.BodyStateShadow;
+import official.sketchBook.engine.components_related.physics.BuoyancyBatchSolver;
+import official.sketchBook.engine.components_related.physics.GroundSensingService;
+import official.sketchBook.engine.components_related.ray_cast.RayCastService;
 import official.sketchBook.engine.util_related.contact_listener.MultiContactListener;
-import official.sketchBook.engine.util_related.pools.RayCastPool;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static official.sketchBook.game.util_related.constants.PhysicsConstants.PPM;
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.*;
 
 public abstract class PhysicalGameObjectDataManager extends BaseGameObjectDataManager {
 
@@ -27,6 +31,15 @@ public abstract class PhysicalGameObjectDataManager extends BaseGameObjectDataMa
     /// Listeners existentes no manager
     protected MultiContactListener contactListeners;
 
+    /// Raycasts do mundo físico, compartilhado por quem precisar consultar o mundo
+    protected RayCastService rayCastService;
+
+    /// Detecção de chão pela grid da sala, com raycast só quando necessário
+    protected GroundSensingService groundSensingService;
+
+    /// Empuxo dos corpos submersos, resolvido em lote antes do step. Null quando desativado
+    protected BuoyancyBatchSolver buoyancySolver;
+
     /// Renderizador de debug
     protected Box2DDebugRenderer debugRenderer;
 
@@ -45,8 +58,30 @@ public abstract class PhysicalGameObjectDataManager extends BaseGameObjectDataMa
 
             //Iniciamos o contactListener
             this.contactListeners = new MultiContactListener();
+            this.contactListeners.setDeferredEvents(
+                DEFERRED_CONTACT_EVENTS,
+                DEFERRED_CONTACT_BUFFER_CAPACITY
+            );
             this.physicsWorld.setContactListener(contactListeners);
 
+            this.rayCastService = new RayCastService(
+                physicsWorld,
+                RAYCAST_INITIAL_RAYS,
+                RAYCAST_INITIAL_HITS
+            );
+            this.groundSensingService = new GroundSensingService(
+                physicsWorld,
+                rayCastService
+            );
+
+            //Os componentes de líquido enviam a geometria para o solver durante o update
+            if (BATCHED_BUOYANCY) {
+                this.buoyancySolver = new BuoyancyBatchSolver(
+                    BUOYANCY_SOLVER_THREADS,
+                    BUOYANCY_SOLVER_BATCH_SIZE
+                );
+            }
+
             //Iniciamos os objetos que irão nos auxiliar na depuração
             this.debugRenderer = new Box2DDebugRenderer();
             this.renderDebugMatrix = new Matrix4();
@@ -68,6 +103,13 @@ public abstract class PhysicalGameObjectDataManager extends BaseGameObjectDataMa
 
     @Override
     public void update(float delta) {
+        //Fecha a contagem de chamadas ao Box2D do tick anterior
+        BodyJniCounter.beginTick();
+
+        //Resultados de raycast valem por um tick
+        if (rayCastService != null) rayCastService.clear();
+        if (groundSensingService != null) groundSensingService.clear();
+
         super.update(delta);
         worldStep(delta);
     }
@@ -76,12 +118,26 @@ public abstract class PhysicalGameObjectDataManager extends BaseGameObjectDataMa
     protected void worldStep(float delta) {
         if (!physicsWorldExists) return;
 
+        beforeWorldStep(delta);
+
+        //Empuxo coletado no update de todos os objetos, aplicado de uma vez
+        if (buoyancySolver != null) buoyancySolver.solve();
+
         physicsWorld.step(
             delta,
             velIterations,
             posIterations
         );
 
+        //Velocidades guardadas pelas shadows dos corpos deixam de valer
+        BodyStateShadow.onWorldStepped();
+
+        //Com o modo adiado os handlers de contato rodam aqui, fora do step
+        contactListeners.processDeferredEvents();
+    }
+
+    /// Último ponto antes do step, onde bodies criadas ou ativadas entram juntas no mesmo passo
+    protected void beforeWorldStep(float delta) {
     }
 
     /// Usa o debugRenderer para visualizar as hitboxes
@@ -105,7 +161,20 @@ public abstract class PhysicalGameObjectDataManager extends BaseGameObjectDataMa
 
     @Override
     protected void disposeGeneralData() {
-        if (RayCastPool.getInstance() != null) RayCastPool.getInstance().dispose();
+        if (groundSensingService != null) {
+            groundSensingService.dispose();
+            groundSensingService = null;
+        }
+
+        if (rayCastService != null) {
+            rayCastService.dispose();
+            rayCastService = null;
+        }
+
+        if (buoyancySolver != null) {
+            buoyancySolver.dispose();
+            buoyancySolver = null;
+        }
     }
 
     @Override
@@ -118,6 +187,8 @@ public abstract class PhysicalGameObjectDataManager extends BaseGameObjectDataMa
     protected void disposePhysicsWorld() {
         // Limpamos a física se ela existir
         if (physicsWorldExists) {
+            //Eventos pendentes seguram tags de objetos que deixam de existir junto com o mundo
+            contactListeners.clearDeferredEvents();
             physicsWorld.dispose();
             physicsWorld = null;
             physicsWorldExists = false;
@@ -146,6 +217,19 @@ public abstract class PhysicalGameObjectDataManager extends BaseGameObjectDataMa
         return physicsWorld;
     }
 
+    public RayCastService getRayCastService() {
+        return rayCastService;
+    }
+
+    public GroundSensingService getGroundSensingService() {
+        return groundSensingService;
+    }
+
+    /// Solver de empuxo do mundo, null quando o empuxo em lote está desativado
+    public BuoyancyBatchSolver getBuoyancySolver() {
+        return buoyancySolver;
+    }
+
     public MultiContactListener getContactListeners() {
         return contactListeners;
     }
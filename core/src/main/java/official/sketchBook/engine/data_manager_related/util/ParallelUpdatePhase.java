@@ -0,0 +1,175 @@
+package official.sketchBook.engine.data_manager_related.util;
+
+import com.badlogic.gdx.utils.Disposable;
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.ManagedUpdatableObject;
+import official.sketchBook.engine.components_related.system_utils.ComponentManagerComponent;
+import official.sketchBook.engine.game_object_related.base_game_object.BaseGameObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fase opcional de update paralelo, executada antes do loop serial de objetos.
+ * <p>
+ * Só os ParallelComponent (lógica pura) participam. Os gerenciadores de
+ * componentes são divididos em lotes e processados em um ForkJoinPool; em
+ * seguida os resultados são aplicados serialmente, na mesma ordem da lista
+ * de objetos, então o resultado final não depende de como as threads foram
+ * escalonadas. Componentes que tocam o Box2D continuam no loop serial.
+ * <p>
+ * Quando o LOD de simulação está ativo, objetos que pulam o passo ficam de fora
+ * e cada participante recebe o próprio delta (que pode incluir tempo acumulado).
+ */
+public class ParallelUpdatePhase implements Disposable {
+
+    /// Pool dedicado, para não disputar o commonPool com outros sistemas
+    private final ForkJoinPool pool;
+
+    /// Quantidade de gerenciadores por tarefa, abaixo disso não vale a pena dividir
+    private final int batchSize;
+
+    /// Gerenciadores que participam do passo atual, na ordem da lista de objetos
+    private final List<ComponentManagerComponent> participants = new ArrayList<>();
+
+    /// Delta de cada participante, mesma posição da lista de participantes
+    private float[] participantDeltas = new float[64];
+
+    private boolean disposed = false;
+
+    public ParallelUpdatePhase(int parallelism, int batchSize) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que 0");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Tamanho de lote deve ser maior que 0");
+        }
+
+        this.pool = new ForkJoinPool(parallelism);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Executa a fase paralela e o merge determinístico dos objetos passados
+     *
+     * @param objects lista de objetos ativos do manager
+     * @param delta   delta do passo atual
+     * @param lod     LOD de simulação do passo, null quando desativado
+     */
+    public void execute(
+        List<ManagedUpdatableObject> objects,
+        float delta,
+        UpdateLodController lod
+    ) {
+        if (disposed) return;
+
+        collectParticipants(objects, delta, lod);
+
+        if (participants.isEmpty()) return;
+
+        //Poucos participantes: o custo de agendar tarefas passa do ganho
+        if (participants.size() <= batchSize) {
+            for (int i = 0; i < participants.size(); i++) {
+                participants.get(i).runParallelPhase(participantDeltas[i]);
+            }
+        } else {
+            pool.invoke(
+                new ParallelBatchTask(
+                    participants,
+                    participantDeltas,
+                    0,
+                    participants.size(),
+                    batchSize
+                )
+            );
+        }
+
+        //Merge serial na ordem da lista, garante o mesmo resultado em qualquer escalonamento
+        for (int i = 0; i < participants.size(); i++) {
+            participants.get(i).mergeParallelPhase();
+        }
+
+        participants.clear();
+    }
+
+    private void collectParticipants(
+        List<ManagedUpdatableObject> objects,
+        float delta,
+        UpdateLodController lod
+    ) {
+        participants.clear();
+
+        ManagedUpdatableObject current;
+        ComponentManagerComponent managerC;
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            current = objects.get(i);
+
+            if (!(current instanceof BaseGameObject) || current.isPendingRemoval()) continue;
+
+            managerC = ((BaseGameObject) current).getManagerC();
+            if (managerC == null || !managerC.hasParallelComponents()) continue;
+
+            //Objeto pulando o passo não participa, o update serial dele também não vai rodar
+            if (lod != null && !lod.shouldUpdate(current)) continue;
+
+            if (participants.size() == participantDeltas.length) {
+                participantDeltas = java.util.Arrays.copyOf(participantDeltas, participantDeltas.length * 2);
+            }
+
+            //Mesma ordem do loop serial (de cima pra baixo)
+            participantDeltas[participants.size()] = lod != null ? lod.getUpdateDelta(current, delta) : delta;
+            participants.add(managerC);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+
+        pool.shutdown();
+        participants.clear();
+
+        disposed = true;
+    }
+
+    /// Divide a lista de participantes ao meio até chegar no tamanho de lote
+    private static class ParallelBatchTask extends RecursiveAction {
+        private final List<ComponentManagerComponent> participants;
+        private final float[] deltas;
+        private final int
+            start,
+            end,
+            batchSize;
+
+        ParallelBatchTask(
+            List<ComponentManagerComponent> participants,
+            float[] deltas,
+            int start,
+            int end,
+            int batchSize
+        ) {
+            this.participants = participants;
+            this.deltas = deltas;
+            this.start = start;
+            this.end = end;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= batchSize) {
+                for (int i = start; i < end; i++) {
+                    participants.get(i).runParallelPhase(deltas[i]);
+                }
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            invokeAll(
+                new ParallelBatchTask(participants, deltas, start, middle, batchSize),
+                new ParallelBatchTask(participants, deltas, middle, end, batchSize)
+            );
+        }
+    }
+}
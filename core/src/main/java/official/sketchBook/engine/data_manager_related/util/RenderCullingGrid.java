@@ -0,0 +1,562 @@
+package official.sketchBook.engine.data_manager_related.util;
+
+import com.badlogic.gdx.utils.LongMap;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.CompositeRenderableObjectII;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.OptmizedRenderableObjectII;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.RenderableObjectII;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice espacial (hash grid uniforme) usado pelo RenderableObjectManager no culling.
+ * <p>
+ * Cada objeto otimizado é registrado nas células que o seu AABB cobre, então o
+ * teste de visibilidade só visita as células que cruzam a visão da camera.
+ * O custo de um culling é O(dinâmicos + visíveis): os objetos estáticos fora da
+ * tela não são tocados, mas todo objeto dinâmico tem o AABB relido, já que o
+ * transform é alterado direto pelos campos e não avisa quando se move.
+ * <ul>
+ *     <li>Objetos estáticos (isStaticRender) são indexados uma única vez, no add;</li>
+ *     <li>Objetos dinâmicos têm o AABB recalculado a cada culling e só mudam de
+ *     célula quando o intervalo de células coberto muda. Marcar como estático tudo
+ *     que não se move é o que mantém o culling barato;</li>
+ *     <li>Objetos sem limites conhecidos (não otimizados ou sem transform) são
+ *     sempre visíveis, como antes;</li>
+ *     <li>Objetos grandes demais para o grid ficam numa lista testada todo frame.</li>
+ * </ul>
+ * Não é thread-safe, deve ser usado pela mesma thread que mexe no gerenciador.
+ */
+public class RenderCullingGrid {
+
+    /// Onde a entrada está registrada
+    private static final int
+        PLACEMENT_NONE = 0,         //Fora do índice (removida)
+        PLACEMENT_UNBOUNDED = 1,    //Sempre visível
+        PLACEMENT_OVERSIZED = 2,    //Testada todo frame
+        PLACEMENT_GRID = 3;         //Registrada nas células
+
+    /// Tamanho de cada célula em pixels
+    private final float cellSize;
+
+    /// Quantidade máxima de células por objeto, acima disso ele vai para a lista de grandes
+    private final int maxCellsPerEntry;
+
+    /// Células do grid indexadas pela coordenada (x, y) empacotada em um long
+    private final LongMap<Cell> cells = new LongMap<>();
+
+    /// Entrada de cada objeto registrado
+    private final Map<RenderableObjectII, Entry> entries = new IdentityHashMap<>();
+
+    private final List<Entry>
+        unboundedList = new ArrayList<>(),
+        oversizedList = new ArrayList<>(),
+        dynamicList = new ArrayList<>();
+
+    /// Objetos marcados como em tela no culling anterior e no atual
+    private List<Entry>
+        previousInScreen = new ArrayList<>(),
+        currentInScreen = new ArrayList<>();
+
+    /// Resultado do último culling, na ordem em que foi coletado
+    private Entry[] visible = new Entry[64];
+    private int visibleCount = 0;
+
+    /// Identificador do culling atual, evita visitar duas vezes um objeto presente em várias células
+    private int frameStamp = 0;
+
+    public RenderCullingGrid(float cellSize, int maxCellsPerEntry) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Tamanho da célula deve ser maior que 0");
+        }
+        if (maxCellsPerEntry <= 0) {
+            throw new IllegalArgumentException("Quantidade máxima de células deve ser maior que 0");
+        }
+
+        this.cellSize = cellSize;
+        this.maxCellsPerEntry = maxCellsPerEntry;
+    }
+
+    /// Registra um objeto no índice, objetos estáticos têm os limites calculados só aqui
+    public Entry add(RenderableObjectII obj) {
+        Entry entry = entries.get(obj);
+        if (entry != null) return entry;
+
+        entry = new Entry(obj);
+        entries.put(obj, entry);
+
+        if (entry.optimized == null) {
+            attachToList(entry, unboundedList, PLACEMENT_UNBOUNDED);
+            return entry;
+        }
+
+        if (!entry.optimized.isStaticRender()) {
+            entry.dynamicSlot = dynamicList.size();
+            dynamicList.add(entry);
+        }
+
+        place(entry);
+        return entry;
+    }
+
+    /// Remove um objeto do índice, pode ser chamado mais de uma vez
+    public Entry remove(RenderableObjectII obj) {
+        Entry entry = entries.remove(obj);
+        if (entry == null) return null;
+
+        detach(entry);
+
+        if (entry.dynamicSlot >= 0) {
+            swapRemove(dynamicList, entry.dynamicSlot, true);
+            entry.dynamicSlot = -1;
+        }
+
+        return entry;
+    }
+
+    /// Obtém a entrada de um objeto registrado
+    public Entry get(RenderableObjectII obj) {
+        return entries.get(obj);
+    }
+
+    /**
+     * Executa o culling para a área passada, marcando isInScreen dos objetos otimizados.
+     * O resultado fica disponível em getVisible(), na ordem de coleta (sem ordem de renderização)
+     *
+     * @return quantidade de objetos coletados
+     */
+    public int cull(
+        float minX, float minY,
+        float maxX, float maxY
+    ) {
+        frameStamp++;
+        visibleCount = 0;
+
+        refreshDynamicEntries();
+
+        //Objetos sem limites, sempre visíveis
+        for (int i = 0; i < unboundedList.size(); i++) {
+            Entry entry = unboundedList.get(i);
+            entry.visitStamp = frameStamp;
+
+            if (entry.optimized != null) {
+                entry.optimized.setInScreen(true);
+                currentInScreen.add(entry);
+            }
+
+            collect(entry);
+        }
+
+        //Objetos grandes demais para o grid
+        for (int i = 0; i < oversizedList.size(); i++) {
+            test(oversizedList.get(i), minX, minY, maxX, maxY);
+        }
+
+        //Apenas as células que cruzam a área
+        int minCellX = toCell(minX);
+        int minCellY = toCell(minY);
+        int maxCellX = toCell(maxX);
+        int maxCellY = toCell(maxY);
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                Cell cell = cells.get(cellKey(cx, cy));
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size; i++) {
+                    Entry entry = cell.items[i];
+                    if (entry.visitStamp == frameStamp) continue;
+
+                    test(entry, minX, minY, maxX, maxY);
+                }
+            }
+        }
+
+        //Quem estava em tela e não foi visitado saiu da área
+        for (int i = 0; i < previousInScreen.size(); i++) {
+            Entry entry = previousInScreen.get(i);
+            if (entry.placement == PLACEMENT_NONE || entry.visitStamp == frameStamp) continue;
+
+            markOutOfScreen(entry);
+        }
+
+        List<Entry> swap = previousInScreen;
+        previousInScreen = currentInScreen;
+        currentInScreen = swap;
+        currentInScreen.clear();
+
+        return visibleCount;
+    }
+
+    /// Objetos coletados no último culling, válidos até getVisibleCount()
+    public Entry[] getVisible() {
+        return visible;
+    }
+
+    public int getVisibleCount() {
+        return visibleCount;
+    }
+
+    /// Limpa todas as entradas e células
+    public void clear() {
+        for (Entry entry : entries.values()) {
+            entry.placement = PLACEMENT_NONE;
+        }
+
+        entries.clear();
+        cells.clear();
+        unboundedList.clear();
+        oversizedList.clear();
+        dynamicList.clear();
+        previousInScreen.clear();
+        currentInScreen.clear();
+
+        for (int i = 0; i < visibleCount; i++) {
+            visible[i] = null;
+        }
+        visibleCount = 0;
+    }
+
+    /// Recalcula os limites dos objetos dinâmicos, só mexe no grid quando o intervalo de células muda.
+    ///  Passa por todos os dinâmicos, visíveis ou não
+    private void refreshDynamicEntries() {
+        for (int i = 0; i < dynamicList.size(); i++) {
+            Entry entry = dynamicList.get(i);
+
+            if (!computeBounds(entry)) {
+                if (entry.placement != PLACEMENT_UNBOUNDED) {
+                    detach(entry);
+                    attachToList(entry, unboundedList, PLACEMENT_UNBOUNDED);
+                }
+                continue;
+            }
+
+            if (entry.placement == PLACEMENT_GRID
+                && entry.minCellX == toCell(entry.minX)
+                && entry.minCellY == toCell(entry.minY)
+                && entry.maxCellX == toCell(entry.maxX)
+                && entry.maxCellY == toCell(entry.maxY)) continue;
+
+            detach(entry);
+            attach(entry);
+        }
+    }
+
+    /// Calcula os limites e registra a entrada no lugar adequado
+    private void place(Entry entry) {
+        if (computeBounds(entry)) {
+            attach(entry);
+        } else {
+            attachToList(entry, unboundedList, PLACEMENT_UNBOUNDED);
+        }
+    }
+
+    /// Registra uma entrada com limites já calculados no grid ou na lista de grandes
+    private void attach(Entry entry) {
+        int minCellX = toCell(entry.minX);
+        int minCellY = toCell(entry.minY);
+        int maxCellX = toCell(entry.maxX);
+        int maxCellY = toCell(entry.maxY);
+
+        long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+        if (cellCount > maxCellsPerEntry) {
+            attachToList(entry, oversizedList, PLACEMENT_OVERSIZED);
+            return;
+        }
+
+        entry.minCellX = minCellX;
+        entry.minCellY = minCellY;
+        entry.maxCellX = maxCellX;
+        entry.maxCellY = maxCellY;
+        entry.placement = PLACEMENT_GRID;
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                long key = cellKey(cx, cy);
+
+                Cell cell = cells.get(key);
+                if (cell == null) {
+                    cell = new Cell();
+                    cells.put(key, cell);
+                }
+
+                cell.add(entry);
+            }
+        }
+    }
+
+    private void attachToList(Entry entry, List<Entry> list, int placement) {
+        entry.placement = placement;
+        entry.listSlot = list.size();
+        list.add(entry);
+    }
+
+    /// Remove a entrada de onde ela estiver registrada
+    private void detach(Entry entry) {
+        switch (entry.placement) {
+            case PLACEMENT_UNBOUNDED:
+                swapRemove(unboundedList, entry.listSlot, false);
+                break;
+
+            case PLACEMENT_OVERSIZED:
+                swapRemove(oversizedList, entry.listSlot, false);
+                break;
+
+            case PLACEMENT_GRID:
+                for (int cx = entry.minCellX; cx <= entry.maxCellX; cx++) {
+                    for (int cy = entry.minCellY; cy <= entry.maxCellY; cy++) {
+                        Cell cell = cells.get(cellKey(cx, cy));
+                        if (cell != null) cell.remove(entry);
+                    }
+                }
+                break;
+
+            default:
+                break;
+        }
+
+        entry.placement = PLACEMENT_NONE;
+        entry.listSlot = -1;
+    }
+
+    /// Remoção O(1) trocando pelo último elemento, atualizando o slot de quem foi movido
+    private static void swapRemove(List<Entry> list, int slot, boolean dynamicSlot) {
+        int last = list.size() - 1;
+        Entry moved = list.get(last);
+
+        list.set(slot, moved);
+        list.remove(last);
+
+        if (moved == null || slot == last) return;
+
+        if (dynamicSlot) moved.dynamicSlot = slot;
+        else moved.listSlot = slot;
+    }
+
+    /// Testa uma entrada contra a área e atualiza isInScreen
+    private void test(
+        Entry entry,
+        float minX, float minY,
+        float maxX, float maxY
+    ) {
+        entry.visitStamp = frameStamp;
+
+        boolean inScreen = entry.composite != null ?
+            testComposite(entry.composite, minX, minY, maxX, maxY) :
+            overlaps(entry.minX, entry.minY, entry.maxX, entry.maxY, minX, minY, maxX, maxY);
+
+        entry.optimized.setInScreen(inScreen);
+
+        if (!inScreen) return;
+
+        currentInScreen.add(entry);
+        collect(entry);
+    }
+
+    /// Composto fica visível se qualquer seção estiver visível, cada seção recebe o próprio isInScreen
+    private static boolean testComposite(
+        CompositeRenderableObjectII composite,
+        float minX, float minY,
+        float maxX, float maxY
+    ) {
+        List<? extends RenderableObjectII> list = composite.getRenderableObjList();
+        if (list == null || list.isEmpty()) return true;
+
+        boolean anyVisible = false;
+
+        for (int i = 0; i < list.size(); i++) {
+            RenderableObjectII renderable = list.get(i);
+            if (!(renderable instanceof OptmizedRenderableObjectII)) continue;
+
+            OptmizedRenderableObjectII section = (OptmizedRenderableObjectII) renderable;
+            TransformComponent t = section.getTransformC();
+
+            boolean visible = t == null || overlaps(
+                t.getCenterX() - t.getRotatedHalfWidth(),
+                t.getCenterY() - t.getRotatedHalfHeight(),
+                t.getCenterX() + t.getRotatedHalfWidth(),
+                t.getCenterY() + t.getRotatedHalfHeight(),
+                minX, minY, maxX, maxY
+            );
+
+            section.setInScreen(visible);
+
+            if (visible) anyVisible = true;
+        }
+
+        return anyVisible;
+    }
+
+    /// Marca como fora da tela um objeto que não foi visitado, incluindo as seções de compostos
+    private static void markOutOfScreen(Entry entry) {
+        entry.optimized.setInScreen(false);
+
+        if (entry.composite == null) return;
+
+        List<? extends RenderableObjectII> list = entry.composite.getRenderableObjList();
+        if (list == null) return;
+
+        for (int i = 0; i < list.size(); i++) {
+            RenderableObjectII renderable = list.get(i);
+            if (renderable instanceof OptmizedRenderableObjectII) {
+                ((OptmizedRenderableObjectII) renderable).setInScreen(false);
+            }
+        }
+    }
+
+    /**
+     * Calcula o AABB da entrada.
+     * Retorna false quando o objeto não tem limites conhecidos e deve ser sempre visível
+     */
+    private static boolean computeBounds(Entry entry) {
+        if (entry.composite != null) return computeCompositeBounds(entry);
+
+        TransformComponent t = entry.optimized.getTransformC();
+        if (t == null) return false;
+
+        entry.minX = t.getCenterX() - t.getRotatedHalfWidth();
+        entry.minY = t.getCenterY() - t.getRotatedHalfHeight();
+        entry.maxX = t.getCenterX() + t.getRotatedHalfWidth();
+        entry.maxY = t.getCenterY() + t.getRotatedHalfHeight();
+        return true;
+    }
+
+    /// AABB de um composto é a união das seções
+    private static boolean computeCompositeBounds(Entry entry) {
+        List<? extends RenderableObjectII> list = entry.composite.getRenderableObjList();
+        if (list == null || list.isEmpty()) return false;
+
+        boolean hasBounds = false;
+
+        for (int i = 0; i < list.size(); i++) {
+            RenderableObjectII renderable = list.get(i);
+            if (!(renderable instanceof OptmizedRenderableObjectII)) continue;
+
+            TransformComponent t = ((OptmizedRenderableObjectII) renderable).getTransformC();
+
+            //Seção sem transform é sempre visível, então o composto também é
+            if (t == null) return false;
+
+            float minX = t.getCenterX() - t.getRotatedHalfWidth();
+            float minY = t.getCenterY() - t.getRotatedHalfHeight();
+            float maxX = t.getCenterX() + t.getRotatedHalfWidth();
+            float maxY = t.getCenterY() + t.getRotatedHalfHeight();
+
+            if (!hasBounds) {
+                entry.minX = minX;
+                entry.minY = minY;
+                entry.maxX = maxX;
+                entry.maxY = maxY;
+                hasBounds = true;
+                continue;
+            }
+
+            entry.minX = Math.min(entry.minX, minX);
+            entry.minY = Math.min(entry.minY, minY);
+            entry.maxX = Math.max(entry.maxX, maxX);
+            entry.maxY = Math.max(entry.maxY, maxY);
+        }
+
+        return hasBounds;
+    }
+
+    private static boolean overlaps(
+        float aMinX, float aMinY,
+        float aMaxX, float aMaxY,
+        float bMinX, float bMinY,
+        float bMaxX, float bMaxY
+    ) {
+        return !(
+            aMaxX < bMinX ||
+                aMinX > bMaxX ||
+                aMaxY < bMinY ||
+                aMinY > bMaxY
+        );
+    }
+
+    private void collect(Entry entry) {
+        if (visibleCount == visible.length) {
+            visible = java.util.Arrays.copyOf(visible, visibleCount * 2);
+        }
+        visible[visibleCount++] = entry;
+    }
+
+    private int toCell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    /// Registro de um objeto dentro do índice
+    public static final class Entry {
+        public final RenderableObjectII obj;
+
+        /// Referências já convertidas, null quando o objeto não é do tipo
+        private final OptmizedRenderableObjectII optimized;
+        private final CompositeRenderableObjectII composite;
+
+        /// Índice de renderização com que o objeto está registrado no gerenciador
+        int renderIndex;
+
+        private int
+            placement = PLACEMENT_NONE,
+            listSlot = -1,
+            dynamicSlot = -1,
+            visitStamp = 0;
+
+        /// AABB atual
+        private float
+            minX,
+            minY,
+            maxX,
+            maxY;
+
+        /// Intervalo de células ocupado quando registrado no grid
+        private int
+            minCellX,
+            minCellY,
+            maxCellX,
+            maxCellY;
+
+        private Entry(RenderableObjectII obj) {
+            this.obj = obj;
+            this.renderIndex = obj.getRenderIndex();
+
+            this.optimized = obj instanceof OptmizedRenderableObjectII ?
+                (OptmizedRenderableObjectII) obj :
+                null;
+
+            this.composite = optimized != null && obj instanceof CompositeRenderableObjectII ?
+                (CompositeRenderableObjectII) obj :
+                null;
+        }
+    }
+
+    /// Lista de entradas de uma célula, poucas entradas por célula então a remoção é linear
+    private static final class Cell {
+        private Entry[] items = new Entry[4];
+        private int size = 0;
+
+        void add(Entry entry) {
+            if (size == items.length) {
+                items = java.util.Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = entry;
+        }
+
+        void remove(Entry entry) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == entry) {
+                    items[i] = items[--size];
+                    items[size] = null;
+                    return;
+                }
+            }
+        }
+    }
+}
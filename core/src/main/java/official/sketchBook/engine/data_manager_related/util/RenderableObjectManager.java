@@ -1,15 +1,13 @@
 package official.sketchBook.engine.data_manager_related.util;
 
-import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.CompositeRenderableObjectII;
+import com.badlogic.gdx.graphics.Texture;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.OptmizedRenderableObjectII;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.RenderableObjectII;
-import official.sketchBook.engine.components_related.objects.TransformComponent;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
-import static official.sketchBook.game.util_related.constants.RenderingConstants.DEFAULT_BUCKET_SIZE;
-import static official.sketchBook.game.util_related.constants.RenderingConstants.INITIAL_CAPACITY;
+import static official.sketchBook.game.util_related.constants.RenderingConstants.*;
 
 /**
  * Gerenciador de renderização otimizado usando TreeMap (Red-Black Tree).
@@ -18,6 +16,12 @@ import static official.sketchBook.game.util_related.constants.RenderingConstants
  * Inserção/Remoção: O(log n)
  * Iteração: O(n)
  * Mudança de índice: O(log n) + O(log n)
+ * <p>
+ * O culling usa um RenderCullingGrid: só as células que cruzam a camera são
+ * visitadas, e o resultado é ordenado por (renderIndex, textura). Enquanto
+ * ninguém for adicionado ou removido, o forEachCulledObject reaproveita esse
+ * resultado no desenho em vez de percorrer todos os baldes. O forEachObject sem
+ * limites sempre percorre todos os baldes.
  */
 public class RenderableObjectManager {
 
@@ -27,10 +31,34 @@ public class RenderableObjectManager {
 
     private final CullBounds cachedBounds;
 
+    /// Índice espacial dos objetos, usado no culling
+    private final RenderCullingGrid cullingGrid;
+
+    /// Resultado do último culling em ordem de renderização
+    private RenderCullingGrid.Entry[] visibleOrdered = new RenderCullingGrid.Entry[64];
+    private int visibleOrderedCount = 0;
+
+    /// Chaves de ordenação empacotadas (balde | grupo de textura | posição na coleta)
+    private long[] sortKeys = new long[64];
+
+    /// Indica se o resultado do culling ainda representa os objetos registrados
+    private boolean cullResultValid = false;
+
+    /// Empacotamento das chaves de ordenação, o balde fica nos bits altos (sem usar o bit de sinal)
+    private static final int
+        SORT_BUCKET_SHIFT = 48,
+        SORT_TEXTURE_SHIFT = 28,
+        MAX_SORT_BUCKETS = 1 << 15;
+    private static final long SORT_INDEX_MASK = (1L << SORT_TEXTURE_SHIFT) - 1;
+
     private boolean disposed = false;
 
     public RenderableObjectManager() {
         this.cachedBounds = new CullBounds();
+        this.cullingGrid = new RenderCullingGrid(
+            CULLING_CELL_SIZE_PX,
+            CULLING_MAX_CELLS_PER_OBJECT
+        );
 
         this.buckets = new ObjectBucket[INITIAL_CAPACITY];
         this.bucketKeys = new int[INITIAL_CAPACITY];
@@ -47,6 +75,10 @@ public class RenderableObjectManager {
         }
 
         /// N�o encontrado ? insere na posi��o correta
+        if (bucketCount == MAX_SORT_BUCKETS) {
+            throw new IllegalStateException("Limite de índices de renderização distintos atingido: " + MAX_SORT_BUCKETS);
+        }
+
         if (bucketCount == buckets.length) {
             buckets = java.util.Arrays.copyOf(buckets, bucketCount * 2);
             bucketKeys = java.util.Arrays.copyOf(bucketKeys, bucketCount * 2);
@@ -65,6 +97,8 @@ public class RenderableObjectManager {
 
     /// Adicionamos um objeto à pipeline
     public void add(RenderableObjectII obj) {
+        if (cullingGrid.get(obj) != null) return;
+
         //Buscamos um bucket ou criamos um
         getOrCreateBucket(      //Passamos o index de renderização
             obj.getRenderIndex()
@@ -72,11 +106,19 @@ public class RenderableObjectManager {
             obj
         );
 
+        cullResultValid = false;
+        cullingGrid.add(obj);
     }
 
     /// Removemos um objeto da tree
     public void remove(RenderableObjectII obj) {
-        int idx = findBucketIndex(obj.getRenderIndex());
+        RenderCullingGrid.Entry entry = cullingGrid.remove(obj);
+        if (entry == null) return;
+
+        cullResultValid = false;
+
+        //Usamos o índice com que foi registrado, o objeto pode ter mudado o dele sem avisar
+        int idx = findBucketIndex(entry.renderIndex);
         if (idx < 0) return;
         buckets[idx].remove(obj);
         if (buckets[idx].isEmpty()) removeBucketAt(idx);
@@ -105,6 +147,13 @@ public class RenderableObjectManager {
     public void updateRenderIndex(RenderableObjectII obj, int oldIndex) {
         int newIndex = obj.getRenderIndex();
         if (oldIndex == newIndex) return;
+
+        RenderCullingGrid.Entry entry = cullingGrid.get(obj);
+        if (entry == null) return;
+
+        entry.renderIndex = newIndex;
+        cullResultValid = false;
+
         int idx = findBucketIndex(oldIndex);
         if (idx >= 0) {
             buckets[idx].remove(obj);
@@ -113,14 +162,33 @@ public class RenderableObjectManager {
         getOrCreateBucket(newIndex).add(obj);
     }
 
-    /// Executa um código para cada objeto renderizável,
-    ///  deve ser usado para chamar o render e atualização de visuais
+    /// Executa um código para cada objeto renderizável que pode ser renderizado e está em tela,
+    ///  percorrendo todos os baldes
     public void forEachObject(Consumer<RenderableObjectII> action) {
         for (int i = 0; i < bucketCount; i++) {
             buckets[i].forEach(action);
         }
     }
 
+    /// Executa um código para cada objeto registrado, sem filtrar por canRender nem por tela
+    public void forEachRegistered(Consumer<RenderableObjectII> action) {
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i].forEachUnfiltered(action);
+        }
+    }
+
+    /// Executa um código para cada objeto do último culling com limites, na ordem de renderização.
+    ///  Deve ser usado pelo desenho logo depois do culling, se algo mudou desde ele percorre todos os baldes
+    public void forEachCulledObject(Consumer<RenderableObjectII> action) {
+        //Nada mudou desde o último culling, isInScreen de todos ainda bate com o resultado
+        if (cullResultValid) {
+            forEachVisible(action);
+            return;
+        }
+
+        forEachObject(action);
+    }
+
     /// Executa um código para cada objeto renderizável,
     ///  desde que este esteja dentro dos limites passados e cacheados,
     ///  deve ser usado para chamar o render e atualização de visuais
@@ -134,9 +202,70 @@ public class RenderableObjectManager {
         cachedBounds.minY = camY - viewHeight * 0.5f;
         cachedBounds.maxY = camY + viewHeight * 0.5f;
 
-        for (int i = 0; i < bucketCount; i++) {
-            buckets[i].forEachCulled(action, cachedBounds);
+        int count = cullingGrid.cull(
+            cachedBounds.minX,
+            cachedBounds.minY,
+            cachedBounds.maxX,
+            cachedBounds.maxY
+        );
+
+        sortVisible(count);
+        cullResultValid = true;
+
+        forEachVisible(action);
+    }
+
+    /// Executa a ação nos objetos do último culling, na ordem de renderização
+    private void forEachVisible(Consumer<RenderableObjectII> action) {
+        for (int i = 0; i < visibleOrderedCount; i++) {
+            RenderableObjectII obj = visibleOrdered[i].obj;
+
+            if (obj.canRender())
+                action.accept(obj);
+        }
+    }
+
+    /**
+     * Ordena o resultado do culling pela ordem dos baldes e, dentro de cada balde,
+     * agrupando por textura. Ordenação de long[] primitivo, sem comparator nem boxing
+     */
+    private void sortVisible(int count) {
+        RenderCullingGrid.Entry[] visible = cullingGrid.getVisible();
+
+        if (count > SORT_INDEX_MASK) {
+            throw new IllegalStateException("Quantidade de objetos visíveis acima do suportado: " + count);
+        }
+
+        if (sortKeys.length < count) {
+            sortKeys = new long[Math.max(count, sortKeys.length * 2)];
         }
+        if (visibleOrdered.length < count) {
+            visibleOrdered = new RenderCullingGrid.Entry[Math.max(count, visibleOrdered.length * 2)];
+        }
+
+        for (int i = 0; i < count; i++) {
+            RenderCullingGrid.Entry entry = visible[i];
+
+            long bucket = findBucketIndex(entry.renderIndex);
+            long textureGroup = ObjectBucket.textureGroup(entry.obj);
+
+            sortKeys[i] = (bucket << SORT_BUCKET_SHIFT)
+                | (textureGroup << SORT_TEXTURE_SHIFT)
+                | i;
+        }
+
+        Arrays.sort(sortKeys, 0, count);
+
+        for (int i = 0; i < count; i++) {
+            visibleOrdered[i] = visible[(int) (sortKeys[i] & SORT_INDEX_MASK)];
+        }
+
+        //Limpa referências do resultado anterior que sobraram no fim do array
+        for (int i = count; i < visibleOrderedCount; i++) {
+            visibleOrdered[i] = null;
+        }
+
+        visibleOrderedCount = count;
     }
 
     /// Atualiza as dimensões em buffer
@@ -154,6 +283,14 @@ public class RenderableObjectManager {
             buckets[i] = null;
         }
         bucketCount = 0;
+
+        cullingGrid.clear();
+
+        for (int i = 0; i < visibleOrderedCount; i++) {
+            visibleOrdered[i] = null;
+        }
+        visibleOrderedCount = 0;
+        cullResultValid = false;
     }
 
     /// Buffer de bounds de tela
@@ -164,8 +301,8 @@ public class RenderableObjectManager {
     /// Realiza um dispose dos dados gráficos gerais
     public void dispose() {
         if (disposed) return;
-        //Realiza a limpeza dos gráficos
-        forEachObject(RenderableObjectII::disposeGraphics);
+        //Realiza a limpeza dos gráficos, inclusive de quem está fora da tela
+        forEachRegistered(RenderableObjectII::disposeGraphics);
         //Limpa a lista existente
         clear();
         disposed = true;
@@ -199,6 +336,14 @@ public class RenderableObjectManager {
         private RenderableObjectII[] items;
         private int size = 0;
 
+        /**
+         * Marca que a ordem por textura foi quebrada (inserção ou swap-remove).
+         * Dentro de um mesmo renderIndex a ordem não importa visualmente, então
+         * agrupamos objetos da mesma textura para o SpriteBatch não dar flush
+         * a cada troca de sheet.
+         */
+        private boolean textureOrderDirty = false;
+
         ObjectBucket() {
             this.items = new RenderableObjectII[DEFAULT_BUCKET_SIZE];
         }
@@ -212,6 +357,7 @@ public class RenderableObjectManager {
                 this.items = newItems;
             }
             items[size++] = obj;
+            textureOrderDirty = true;
         }
 
         /// Remove um objeto do balde
@@ -221,13 +367,50 @@ public class RenderableObjectManager {
                     // Move o último elemento para a posição do removido
                     items[i] = items[--size];
                     items[size] = null; // Limpa referência para GC
+                    textureOrderDirty = true;
                     return;
                 }
             }
         }
 
+        /**
+         * Reordena o balde agrupando por textura.
+         * Insertion sort: sem alocação, e quase linear já que entre frames só
+         * poucos objetos mudam de lugar
+         */
+        private void sortByTextureIfDirty() {
+            if (!textureOrderDirty) return;
+
+            for (int i = 1; i < size; i++) {
+                RenderableObjectII current = items[i];
+                int currentKey = textureKey(current);
+
+                int j = i - 1;
+                while (j >= 0 && textureKey(items[j]) > currentKey) {
+                    items[j + 1] = items[j];
+                    j--;
+                }
+                items[j + 1] = current;
+            }
+
+            textureOrderDirty = false;
+        }
+
+        /// Chave de agrupamento por textura, objetos sem textura conhecida ficam juntos no início
+        private static int textureKey(RenderableObjectII obj) {
+            Texture texture = obj.getRenderTexture();
+            return texture == null ? Integer.MIN_VALUE : System.identityHashCode(texture);
+        }
+
+        /// Versão de 20 bits da chave de textura, usada na ordenação do resultado do culling
+        static long textureGroup(RenderableObjectII obj) {
+            Texture texture = obj.getRenderTexture();
+            return texture == null ? 0 : 1 + (System.identityHashCode(texture) & 0x7FFFF);
+        }
+
         /// Código a ser executado para todos os objetos dentro de nossa array
         void forEach(Consumer<RenderableObjectII> action) {
+            sortByTextureIfDirty();
 
             for (int i = 0; i < size; i++) {
 
@@ -246,118 +429,11 @@ public class RenderableObjectManager {
             }
         }
 
-        /// Código a ser executado para todos os objetos dentro de nossa array,
-        ///  desde que estejam dentro dos limites de tela,
-        ///  com uma pequena margem de folga
-        void forEachCulled(
-            Consumer<RenderableObjectII> action,
-            CullBounds bounds
-        ) {
-
+        /// Código executado para todos os objetos, sem filtro de render ou de tela
+        void forEachUnfiltered(Consumer<RenderableObjectII> action) {
             for (int i = 0; i < size; i++) {
-
-                RenderableObjectII obj = items[i];
-
-                if (!(obj instanceof OptmizedRenderableObjectII)) {
-
-                    if (obj.canRender())
-                        action.accept(obj);
-
-                    continue;
-                }
-
-                OptmizedRenderableObjectII optimized =
-                    (OptmizedRenderableObjectII) obj;
-
-                boolean inScreen;
-
-                if (optimized instanceof CompositeRenderableObjectII) {
-
-                    inScreen = isInBounds(
-                        (CompositeRenderableObjectII) optimized,
-                        bounds
-                    );
-
-                } else {
-
-                    inScreen = isInBounds(
-                        optimized,
-                        bounds
-                    );
-                }
-
-                optimized.setInScreen(inScreen);
-
-                if (inScreen && obj.canRender()) {
-                    action.accept(obj);
-                }
-            }
-        }
-
-        /// Verifica se o objeto que pode ser renderizado está com todas suas seções dentro da tela
-        private boolean isInBounds(
-            CompositeRenderableObjectII object,
-            CullBounds bounds
-        ) {
-
-            List<? extends RenderableObjectII> list =
-                object.getRenderableObjList();
-
-            if (list == null || list.isEmpty())
-                return true;
-
-            boolean anyVisible = false;
-
-            for (int i = 0; i < list.size(); i++) {
-
-                RenderableObjectII renderable =
-                    list.get(i);
-
-                if (!(renderable instanceof OptmizedRenderableObjectII))
-                    continue;
-
-                OptmizedRenderableObjectII optimized =
-                    (OptmizedRenderableObjectII) renderable;
-
-                boolean visible =
-                    isInBounds(
-                        optimized,
-                        bounds
-                    );
-
-                optimized.setInScreen(visible);
-
-                if (visible)
-                    anyVisible = true;
+                action.accept(items[i]);
             }
-
-            return anyVisible;
-        }
-
-        /// Verificamos se o objeto está dentro dos limites da tela
-        /// Verificamos se o objeto está dentro dos limites da tela
-        private boolean isInBounds(
-            OptmizedRenderableObjectII obj,
-            CullBounds bounds
-        ) {
-
-            TransformComponent t = obj.getTransformC();
-
-            if (t == null)
-                return true;
-
-            float centerX = t.getCenterX();
-            float centerY = t.getCenterY();
-
-            float halfW = t.getRotatedHalfWidth();
-            float halfH = t.getRotatedHalfHeight();
-
-            return !(
-                centerX + halfW < bounds.minX ||
-                    centerX - halfW > bounds.maxX ||
-                    centerY + halfH < bounds.minY ||
-                    centerY - halfH > bounds.maxY
-            );
         }
 
         /// Limpa a bucket
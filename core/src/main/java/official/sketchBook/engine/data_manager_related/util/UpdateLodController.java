@@ -0,0 +1,258 @@
+package official.sketchBook.engine.data_manager_related.util;
+
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.ManagedUpdatableObject;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.OptmizedRenderableObjectII;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.components_related.system_utils.UpdateRateLimiter;
+import official.sketchBook.engine.game_object_related.base_game_object.BaseGameObject;
+import official.sketchBook.engine.util_related.enumerators.UpdateLodLevel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decide, a cada passo, quais objetos atualizam e com qual delta, de acordo com
+ * a política de LOD registrada para o tipo de cada um.
+ * <p>
+ * O nível vem do culling (isInScreen) e, fora da tela, da distância do AABB do
+ * objeto até a área visível. Objetos sem política, que não são renderizáveis
+ * otimizados ou sem área visível definida sempre atualizam normalmente.
+ * <p>
+ * Usado apenas pela thread que executa o update do manager.
+ */
+public class UpdateLodController {
+
+    /// Políticas registradas por tipo, vale também para as subclasses
+    private final Map<Class<?>, UpdateLodPolicy> policies = new HashMap<>();
+
+    /// Política resolvida para cada classe concreta, NO_POLICY quando não há nenhuma na hierarquia
+    private final Map<Class<?>, UpdateLodPolicy> resolvedPolicies = new HashMap<>();
+    private static final UpdateLodPolicy NO_POLICY = new UpdateLodPolicy(0, 1, false, 1, 1);
+
+    /// Incrementado a cada mudança de política, invalida os estados já criados
+    private int policyVersion = 0;
+
+    /// Área visível usada para medir a distância dos objetos fora da tela
+    private boolean hasView = false;
+    private float
+        viewMinX,
+        viewMinY,
+        viewMaxX,
+        viewMaxY;
+
+    /// Registra a política de um tipo de objeto, substituindo a anterior
+    public void setPolicy(Class<? extends BaseGameObject> type, UpdateLodPolicy policy) {
+        if (type == null || policy == null) {
+            throw new IllegalArgumentException("Tipo e política não podem ser null");
+        }
+
+        policies.put(type, policy);
+        invalidatePolicies();
+    }
+
+    /// Remove a política de um tipo, os objetos dele voltam a atualizar todo passo
+    public void removePolicy(Class<? extends BaseGameObject> type) {
+        if (policies.remove(type) != null) invalidatePolicies();
+    }
+
+    public boolean hasPolicies() {
+        return !policies.isEmpty();
+    }
+
+    private void invalidatePolicies() {
+        resolvedPolicies.clear();
+        policyVersion++;
+    }
+
+    /// Define a área visível atual, em pixels
+    public void setView(
+        float minX, float minY,
+        float maxX, float maxY
+    ) {
+        this.viewMinX = minX;
+        this.viewMinY = minY;
+        this.viewMaxX = maxX;
+        this.viewMaxY = maxY;
+        this.hasView = true;
+    }
+
+    /// Sem área visível todos os objetos atualizam todo passo
+    public void clearView() {
+        this.hasView = false;
+    }
+
+    /**
+     * Decide o nível e o delta de cada objeto no passo atual.
+     * Deve ser chamado uma vez por passo, antes de qualquer update
+     */
+    public void prepareStep(List<ManagedUpdatableObject> objects, float delta) {
+        for (int i = 0; i < objects.size(); i++) {
+            ManagedUpdatableObject object = objects.get(i);
+            if (!(object instanceof BaseGameObject)) continue;
+
+            BaseGameObject gameObject = (BaseGameObject) object;
+
+            ObjectState state = obtainState(gameObject);
+            if (state == null) continue;
+
+            state.prepare(
+                computeLevel(gameObject, state.policy),
+                delta
+            );
+        }
+    }
+
+    /// Indica se o objeto deve rodar o update neste passo
+    public boolean shouldUpdate(ManagedUpdatableObject object) {
+        ObjectState state = stateOf(object);
+        return state == null || state.updating;
+    }
+
+    /// Delta a ser passado para o update do objeto, inclui o tempo acumulado enquanto ele pulou passos
+    public float getUpdateDelta(ManagedUpdatableObject object, float delta) {
+        ObjectState state = stateOf(object);
+        return state == null ? delta : state.stepDelta;
+    }
+
+    /// Indica se o objeto deve rodar o postUpdate neste passo
+    public boolean shouldPostUpdate(ManagedUpdatableObject object) {
+        ObjectState state = stateOf(object);
+        return state == null || state.postUpdating;
+    }
+
+    /// Nível atual de um objeto, FULL quando não há política para ele
+    public UpdateLodLevel getLevel(ManagedUpdatableObject object) {
+        ObjectState state = stateOf(object);
+        return state == null ? UpdateLodLevel.FULL : state.level;
+    }
+
+    private static ObjectState stateOf(ManagedUpdatableObject object) {
+        if (!(object instanceof BaseGameObject)) return null;
+        return ((BaseGameObject) object).getUpdateLodState();
+    }
+
+    /// Obtém o estado do objeto, recriando quando as políticas mudaram
+    private ObjectState obtainState(BaseGameObject object) {
+        ObjectState state = object.getUpdateLodState();
+        if (state != null && state.policyVersion == policyVersion) return state;
+
+        UpdateLodPolicy policy = resolvePolicy(object.getClass());
+
+        state = policy == NO_POLICY ? null : new ObjectState(policy, policyVersion);
+        object.setUpdateLodState(state);
+
+        return state;
+    }
+
+    /// Procura a política mais específica na hierarquia da classe
+    private UpdateLodPolicy resolvePolicy(Class<?> type) {
+        UpdateLodPolicy resolved = resolvedPolicies.get(type);
+        if (resolved != null) return resolved;
+
+        resolved = NO_POLICY;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            UpdateLodPolicy policy = policies.get(current);
+            if (policy != null) {
+                resolved = policy;
+                break;
+            }
+        }
+
+        resolvedPolicies.put(type, resolved);
+        return resolved;
+    }
+
+    private UpdateLodLevel computeLevel(BaseGameObject object, UpdateLodPolicy policy) {
+        if (!hasView || !(object instanceof OptmizedRenderableObjectII)) return UpdateLodLevel.FULL;
+
+        OptmizedRenderableObjectII renderable = (OptmizedRenderableObjectII) object;
+        if (renderable.isInScreen()) return UpdateLodLevel.FULL;
+
+        TransformComponent t = renderable.getTransformC();
+        if (t == null) return UpdateLodLevel.FULL;
+
+        float halfW = t.getRotatedHalfWidth();
+        float halfH = t.getRotatedHalfHeight();
+
+        //Distância entre o AABB do objeto e a área visível em cada eixo, 0 quando se sobrepõem
+        float distanceX = Math.max(0f, Math.max(viewMinX - (t.getCenterX() + halfW), (t.getCenterX() - halfW) - viewMaxX));
+        float distanceY = Math.max(0f, Math.max(viewMinY - (t.getCenterY() + halfH), (t.getCenterY() - halfH) - viewMaxY));
+
+        //Dentro da área mas o culling ainda não marcou (acabou de entrar)
+        if (distanceX == 0f && distanceY == 0f) return UpdateLodLevel.FULL;
+
+        if (distanceX <= policy.nearMargin && distanceY <= policy.nearMargin) return UpdateLodLevel.REDUCED;
+
+        return policy.sleepFarAway ? UpdateLodLevel.SLEEPING : UpdateLodLevel.REDUCED;
+    }
+
+    /// Estado de LOD de um objeto, guardado no próprio objeto para evitar buscas por passo
+    public static final class ObjectState {
+        private final UpdateLodPolicy policy;
+        private final int policyVersion;
+
+        private final UpdateRateLimiter
+            reducedLimiter,
+            sleepCheckLimiter;
+
+        private UpdateLodLevel level = UpdateLodLevel.FULL;
+
+        /// Tempo pulado ainda não entregue ao objeto
+        private float pendingDelta = 0f;
+
+        /// Resultado do passo atual
+        private float stepDelta = 0f;
+        private boolean
+            updating = true,
+            postUpdating = true;
+
+        private ObjectState(UpdateLodPolicy policy, int policyVersion) {
+            this.policy = policy;
+            this.policyVersion = policyVersion;
+
+            this.reducedLimiter = new UpdateRateLimiter(policy.reducedRate, true);
+            this.sleepCheckLimiter = new UpdateRateLimiter(policy.sleepCheckRate, true);
+        }
+
+        private void prepare(UpdateLodLevel newLevel, float delta) {
+            boolean waking = level == UpdateLodLevel.SLEEPING && newLevel != UpdateLodLevel.SLEEPING;
+
+            if (newLevel != level) {
+                reducedLimiter.reset();
+                sleepCheckLimiter.reset();
+                level = newLevel;
+            }
+
+            pendingDelta = Math.min(
+                pendingDelta + delta,
+                Math.max(policy.maxCatchUpDelta, delta)
+            );
+
+            switch (level) {
+                case FULL:
+                    updating = true;
+                    break;
+
+                case REDUCED:
+                    //Ao acordar recupera o tempo dormido na hora, sem esperar o intervalo
+                    updating = waking || reducedLimiter.shouldUpdate(delta);
+                    break;
+
+                default:
+                    updating = false;
+                    break;
+            }
+
+            if (updating) {
+                stepDelta = pendingDelta;
+                pendingDelta = 0f;
+                postUpdating = true;
+                return;
+            }
+
+            stepDelta = 0f;
+            postUpdating = level == UpdateLodLevel.SLEEPING && sleepCheckLimiter.shouldUpdate(delta);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package official.sketchBook.engine.data_manager_related.util;
+
+import static official.sketchBook.game.util_related.constants.GameConfigConstants.*;
+
+/**
+ * Política de nível de simulação (LOD) de um tipo de objeto.
+ * <p>
+ * Em tela o objeto atualiza todo passo. Até nearMargin pixels fora da área
+ * visível ele atualiza na taxa reduzida, e além disso dorme (caso permitido).
+ * O tempo pulado é acumulado e entregue como delta no próximo update, limitado
+ * por maxCatchUpDelta, para o objeto não "congelar" ao voltar para a tela.
+ */
+public class UpdateLodPolicy {
+
+    /// Distância em pixels além da área visível em que o objeto ainda atualiza na taxa reduzida
+    public final float nearMargin;
+
+    /// Atualizações por segundo perto da tela
+    public final float reducedRate;
+
+    /// Se longe da tela o objeto para de atualizar por completo
+    public final boolean sleepFarAway;
+
+    /// Frequência com que um objeto dormindo roda o postUpdate, mantém o transform sincronizado com a body
+    public final float sleepCheckRate;
+
+    /// Maior delta entregue em um único update de recuperação
+    public final float maxCatchUpDelta;
+
+    public UpdateLodPolicy(
+        float nearMargin,
+        float reducedRate,
+        boolean sleepFarAway,
+        float sleepCheckRate,
+        float maxCatchUpDelta
+    ) {
+        if (nearMargin < 0) {
+            throw new IllegalArgumentException("Margem de proximidade não pode ser negativa");
+        }
+        if (reducedRate <= 0 || sleepCheckRate <= 0) {
+            throw new IllegalArgumentException("Taxas de atualização devem ser maiores que 0");
+        }
+        if (maxCatchUpDelta <= 0) {
+            throw new IllegalArgumentException("Delta máximo de recuperação deve ser maior que 0");
+        }
+
+        this.nearMargin = nearMargin;
+        this.reducedRate = reducedRate;
+        this.sleepFarAway = sleepFarAway;
+        this.sleepCheckRate = sleepCheckRate;
+        this.maxCatchUpDelta = maxCatchUpDelta;
+    }
+
+    /// Política com os valores padrão de GameConfigConstants
+    public static UpdateLodPolicy fromConfig() {
+        return new UpdateLodPolicy(
+            UPDATE_LOD_NEAR_MARGIN_PX,
+            UPDATE_LOD_REDUCED_RATE,
+            true,
+            UPDATE_LOD_SLEEP_CHECK_RATE,
+            UPDATE_LOD_MAX_CATCH_UP
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package official.sketchBook.engine.game_object_related.animated_renderable_game_object;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.OptmizedRenderableObjectII;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.util_related.RenderableObjectII;
@@ -73,6 +74,11 @@ public abstract class AnimatedRenderableGameObject extends BaseGameObject implem
         return transformC;
     }
 
+    @Override
+    public Texture getRenderTexture() {
+        return animationRenderC != null ? animationRenderC.getPrimaryTexture() : null;
+    }
+
     public AnimationRenderingComponent getAnimationRenderC() {
         return animationRenderC;
     }
@@ -4,6 +4,7 @@ import official.sketchBook.engine.components_related.intefaces.base_interfaces.M
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.UpdatableObject;
 import official.sketchBook.engine.components_related.system_utils.ComponentManagerComponent;
 import official.sketchBook.engine.data_manager_related.BaseGameObjectDataManager;
+import official.sketchBook.engine.data_manager_related.util.UpdateLodController;
 
 public abstract class BaseGameObject implements ManagedUpdatableObject {
 
@@ -16,6 +17,9 @@ public abstract class BaseGameObject implements ManagedUpdatableObject {
 
     protected ComponentManagerComponent managerC;
 
+    /// Estado de LOD de simulação, controlado pelo UpdateLodController do manager (null sem política)
+    private UpdateLodController.ObjectState updateLodState;
+
     public BaseGameObject(BaseGameObjectDataManager worldDataManager) {
         this.worldDataManager = worldDataManager;
         this.worldDataManager.addGameObject(this);
@@ -77,4 +81,12 @@ public abstract class BaseGameObject implements ManagedUpdatableObject {
     public ComponentManagerComponent getManagerC() {
         return managerC;
     }
+
+    public UpdateLodController.ObjectState getUpdateLodState() {
+        return updateLodState;
+    }
+
+    public void setUpdateLodState(UpdateLodController.ObjectState updateLodState) {
+        this.updateLodState = updateLodState;
+    }
 }
@@ -30,6 +30,9 @@ public abstract class BaseProjectile
         reset,
         disposed;
 
+    /// Posição dentro da pool dona, controlada por ela
+    private int poolSlot = CustomPool.NO_SLOT;
+
     public BaseProjectile(
         ProjectilePool<?> ownerPool
     ) {
@@ -82,6 +85,9 @@ public abstract class BaseProjectile
         this.transformC.x = x;
         this.transformC.y = y;
         this.transformC.setRotation(rotation);
+
+        //Ativação é um teleporte, não interpolamos a partir da posição antiga do pool
+        this.transformC.snapPreviousState();
     }
 
     /// Chama os métodos de disparo do controlador
@@ -203,4 +209,14 @@ public abstract class BaseProjectile
     public boolean isReset() {
         return reset;
     }
+
+    @Override
+    public int getPoolSlot() {
+        return poolSlot;
+    }
+
+    @Override
+    public void setPoolSlot(int slot) {
+        this.poolSlot = slot;
+    }
 }
@@ -29,6 +29,27 @@ public class Emitter implements com.badlogic.gdx.utils.Disposable {
         return globalPool.returnProjectileRequested(projectileType);
     }
 
+    /**
+     * Pede um projétil sem ativar na hora, pode ser chamado de qualquer thread.
+     * A ativação acontece na thread de simulação antes do próximo step do mundo
+     *
+     * @return false caso o emitter não esteja configurado ou a fila esteja cheia
+     */
+    public boolean requestSpawn(
+        float x,
+        float y,
+        float rotation,
+        boolean launch
+    ) {
+        //Lê uma vez só, outra thread pode estar fazendo o dispose
+        GlobalProjectilePool pool = globalPool;
+        Class<? extends BaseProjectile> type = projectileType;
+
+        if (!configured || pool == null || type == null) return false;
+
+        return pool.requestProjectile(type, x, y, rotation, launch);
+    }
+
 
     @Override
     public void dispose() {
@@ -80,6 +80,10 @@ public class Submarine extends BaseRoomGameObject implements
         super.disposeCriticalData();
     }
 
+    public PhysicalGameObjectDataManager getPhysicalManager() {
+        return (PhysicalGameObjectDataManager) this.worldDataManager;
+    }
+
     @Override
     public List<SubmarineNode> getSections() {
         return submarineNodeList;
@@ -18,12 +18,15 @@ import official.sketchBook.engine.components_related.intefaces.integration_inter
 import official.sketchBook.engine.components_related.interact.InteractableObjectManagerComponent;
 import official.sketchBook.engine.components_related.movement.MovementComponent;
 import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.components_related.physics.BodyStateShadow;
 import official.sketchBook.engine.components_related.physics.MovableObjectPhysicsComponent;
 import official.sketchBook.engine.components_related.physics.PhysicalLiquidInteractionComponent;
 import official.sketchBook.engine.components_related.physics.PhysicsComponent;
 import official.sketchBook.engine.components_related.system_utils.RenderableAndDefaultComponentManagerComponent;
 import official.sketchBook.engine.components_related.system_utils.UpdateRateLimiter;
 import official.sketchBook.engine.components_related.vehicle.VehicleBaseComponent;
+import official.sketchBook.engine.data_manager_related.PhysicalGameObjectDataManager;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
 import official.sketchBook.game.util_related.constants.GameConfigConstants;
 import official.sketchBook.game.util_related.constants.WorldConstants;
 
@@ -32,6 +35,8 @@ import java.util.List;
 
 import static official.sketchBook.engine.util_related.helper.body.SubmarinePartBodyCreateHelper.createExternalBody;
 import static official.sketchBook.engine.util_related.helper.body.SubmarinePartBodyCreateHelper.createInternalBody;
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.INTERNAL_BODY_SNAP_DISTANCE;
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.PASSENGER_KINEMATIC_CARRY;
 import static official.sketchBook.game.util_related.constants.PhysicsConstants.toPixels;
 
 public class SubmarineNode
@@ -101,6 +106,9 @@ public class SubmarineNode
         internalBody,
         body;
 
+    /// Último estado enviado ao corpo interno
+    private final BodyStateShadow internalBodyState = new BodyStateShadow();
+
     /// Dados bufferizados de velocidade para sincronização de objetos internos
     private float
         lastPosX = 0f,
@@ -112,6 +120,7 @@ public class SubmarineNode
     private boolean
         inScreen,
         velInitialized = false,
+        internalBodyDriven = false,
         graphicsDisposed = false,
         disposed = false;
 
@@ -421,7 +430,7 @@ public class SubmarineNode
         interactableObjectManagerC = new InteractableObjectManagerComponent(internalBody);
 
         this.managerC.add(moveC, true, false);
-        this.managerC.add(liquidInteractionC, true, false);
+        this.managerC.add(liquidInteractionC, true, true);
         this.managerC.add(physicsC, true, false);
         this.managerC.add(interactableObjectManagerC, false, true);
     }
@@ -585,18 +594,82 @@ public class SubmarineNode
     public void postUpdate() {
         managerC.postUpdate();
 
-        internalBody.setTransform(
-            body.getPosition(),
-            body.getAngle()
-        );
-
-        internalBody.setLinearVelocity(body.getLinearVelocity());
+        //O corpo interno é kinematic, com o node parado nada precisa ser reescrito
+        Vector2 position = body.getPosition();
+        float posX = position.x;
+        float posY = position.y;
+
+        Vector2 velocity = body.getLinearVelocity();
+
+        if (PASSENGER_KINEMATIC_CARRY) {
+            driveInternalBody(
+                posX,
+                posY,
+                body.getAngle(),
+                velocity.x,
+                velocity.y,
+                body.getAngularVelocity()
+            );
+        } else {
+            internalBodyState.setKinematicState(
+                internalBody,
+                posX,
+                posY,
+                body.getAngle(),
+                velocity.x,
+                velocity.y
+            );
+        }
 
         physicsC.postUpdate();
 
         updateVelocity();
     }
 
+    /**
+     * Leva o corpo interno até o casco só pela velocidade: a do casco mais o erro de
+     * posição dividido pelo delta, que o próximo step fecha. Sem setTransform o piso
+     * se move de forma contínua, os contatos dos passageiros com ele persistem e o
+     * atrito carrega quem está parado em cima.
+     * Só teleporta no primeiro tick ou quando o casco foi teleportado para longe
+     */
+    private void driveInternalBody(
+        float posX,
+        float posY,
+        float angle,
+        float hullVelX,
+        float hullVelY,
+        float hullAngularVel
+    ) {
+        final float delta = physicsC.getDeltaTime();
+
+        Vector2 internalPos = internalBody.getPosition();
+        float errorX = posX - internalPos.x;
+        float errorY = posY - internalPos.y;
+        float errorAngle = angle - internalBody.getAngle();
+
+        boolean snap = !internalBodyDriven
+            || delta == 0f
+            || Math.abs(errorX) > INTERNAL_BODY_SNAP_DISTANCE
+            || Math.abs(errorY) > INTERNAL_BODY_SNAP_DISTANCE;
+
+        if (snap) {
+            internalBodyState.setTransform(internalBody, posX, posY, angle);
+            internalBodyState.setKinematicVelocity(internalBody, hullVelX, hullVelY, hullAngularVel);
+            internalBodyDriven = true;
+            return;
+        }
+
+        final float invDelta = 1f / delta;
+
+        internalBodyState.setKinematicVelocity(
+            internalBody,
+            hullVelX + errorX * invDelta,
+            hullVelY + errorY * invDelta,
+            hullAngularVel + errorAngle * invDelta
+        );
+    }
+
     private void updateVelocity() {
         final float delta = physicsC.getDeltaTime();
 
@@ -706,6 +779,18 @@ public class SubmarineNode
         return submarine;
     }
 
+    /// O node fica na sala do submarino dono dele
+    @Override
+    public PlayableRoom getOwnerRoom() {
+        return submarine != null ? submarine.getOwnerRoom() : null;
+    }
+
+    /// Assim como a sala, o manager é o do submarino dono do node
+    @Override
+    public PhysicalGameObjectDataManager getPhysicalManager() {
+        return submarine != null ? submarine.getPhysicalManager() : null;
+    }
+
     @Override
     public Body getTriggerBody() {
         return interactableObjectManagerC.getTriggerBody();
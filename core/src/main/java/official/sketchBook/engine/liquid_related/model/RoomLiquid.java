@@ -21,6 +21,7 @@ import java.util.*;
 
 import static official.sketchBook.engine.util_related.enumerators.CollisionLayers.LIQUID;
 import static official.sketchBook.engine.util_related.enumerators.CollisionLayers.LIQUID_SUBMERGEABLE;
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.LIQUID_REGION_INDEX;
 
 public class RoomLiquid extends BaseRoomGameObject implements Liquid, CompositeRenderableObjectII, OptmizedRenderableObjectII {
 
@@ -59,6 +60,12 @@ public class RoomLiquid extends BaseRoomGameObject implements Liquid, CompositeR
 
     @Override
     public void initObject() {
+        //Com o índice da sala as regiões não viram sensores, os componentes consultam o índice
+        if (LIQUID_REGION_INDEX) {
+            registerRegionsInRoomIndex();
+            return;
+        }
+
         World world = getPhysicalManager().getPhysicsWorld();
 
         BodyDef bodyDef = new BodyDef();
@@ -113,6 +120,22 @@ public class RoomLiquid extends BaseRoomGameObject implements Liquid, CompositeR
         }
     }
 
+    private void registerRegionsInRoomIndex() {
+        if (ownerRoom == null) return;
+
+        for (int i = 0; i < regionList.size(); i++) {
+            ownerRoom.liquidRegionIndex.add(regionList.get(i), liquidData);
+        }
+    }
+
+    private void removeRegionsFromRoomIndex() {
+        if (ownerRoom == null) return;
+
+        for (int i = 0; i < regionList.size(); i++) {
+            ownerRoom.liquidRegionIndex.remove(regionList.get(i));
+        }
+    }
+
     /// Calcula AABB geral do líquido
     private void computeBounds() {
         minX = Float.MAX_VALUE;
@@ -140,6 +163,11 @@ public class RoomLiquid extends BaseRoomGameObject implements Liquid, CompositeR
     public void update(float delta) {
         super.update(delta);
 
+        //Só as regiões visíveis animam a superfície
+        for (int i = 0; i < regionList.size(); i++) {
+            regionList.get(i).updateSurface(delta);
+        }
+
 //        checkRoomObjectLiquidInteraction();
     }
 
@@ -243,6 +271,7 @@ public class RoomLiquid extends BaseRoomGameObject implements Liquid, CompositeR
     @Override
     protected void disposeCriticalData() {
         super.disposeCriticalData();
+        removeRegionsFromRoomIndex();
         regionList.clear();
         fixtureList.clear();
         if (liquidBody != null) {
@@ -304,6 +333,12 @@ public class RoomLiquid extends BaseRoomGameObject implements Liquid, CompositeR
         this.inScreen = inScreen;
     }
 
+    /// Líquidos não se movem, as regiões são indexadas uma vez só no culling
+    @Override
+    public boolean isStaticRender() {
+        return true;
+    }
+
     @Override
     public TransformComponent getTransformC() {
         return null;
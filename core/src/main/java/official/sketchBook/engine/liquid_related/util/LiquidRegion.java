@@ -12,6 +12,10 @@ public class LiquidRegion implements OptmizedRenderableObjectII {
 
     /// Condensação de dados de coordenadas de dimensões
     private final TransformComponent transformC;
+
+    /// Ondas da superfície, a altura de repouso continua sendo o topo da região
+    private final LiquidSurface surface;
+
     public LiquidRegion(float x, float y, float width, float height) {
         transformC = new TransformComponent(
             x,
@@ -25,6 +29,38 @@ public class LiquidRegion implements OptmizedRenderableObjectII {
             false,
             false
         );
+
+        this.surface = new LiquidSurface(x, width);
+    }
+
+    /// Avança as ondas da superfície, regiões fora da tela ficam congeladas
+    public void updateSurface(float delta) {
+        if (!inScreen) return;
+        surface.update(delta);
+    }
+
+    /**
+     * Perturba a superfície no ponto informado
+     *
+     * @param x        posição em pixels
+     * @param velocity velocidade vertical em pixels/s (negativo afunda)
+     */
+    public void disturbSurface(float x, float velocity) {
+        surface.disturb(x, velocity);
+    }
+
+    /// Altura de repouso da superfície em pixels
+    public float getSurfaceY() {
+        return transformC.y + transformC.height;
+    }
+
+    /// Altura da superfície em pixels no ponto informado, já com as ondas
+    public float getSurfaceYAt(float x) {
+        return getSurfaceY() + surface.getHeightAt(x);
+    }
+
+    public LiquidSurface getSurface() {
+        return surface;
     }
 
     public float getX() {
@@ -73,6 +109,12 @@ public class LiquidRegion implements OptmizedRenderableObjectII {
         this.inScreen = inScreen;
     }
 
+    /// Líquidos não se movem, as regiões são indexadas uma vez só no culling
+    @Override
+    public boolean isStaticRender() {
+        return true;
+    }
+
     @Override
     public TransformComponent getTransformC() {
         return transformC;
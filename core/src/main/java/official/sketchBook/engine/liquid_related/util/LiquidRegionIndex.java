@@ -0,0 +1,182 @@
+package official.sketchBook.engine.liquid_related.util;
+
+import com.badlogic.gdx.utils.LongMap;
+import official.sketchBook.engine.liquid_related.model.LiquidData;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice espacial (hash grid uniforme) das regiões de líquido de uma sala.
+ * <p>
+ * Alternativa aos sensores do Box2D: em vez de cada região virar uma fixture
+ * sensor e a entrada/saída chegar pelo LiquidContactListener, os componentes
+ * de líquido consultam o índice com o próprio AABB. Nenhum par sensor entra
+ * no broadphase, o que pesa em mapas grandes e alagados.
+ * <p>
+ * Regiões não se movem, então cada uma é registrada nas células que cobre uma
+ * única vez. Não é thread-safe, deve ser usado pela thread de simulação.
+ */
+public class LiquidRegionIndex {
+
+    /// Tamanho de cada célula em pixels
+    private final float cellSize;
+
+    /// Células indexadas pela coordenada (x, y) empacotada em um long
+    private final LongMap<List<Entry>> cells = new LongMap<>();
+
+    /// Entrada de cada região registrada
+    private final Map<LiquidRegion, Entry> entries = new IdentityHashMap<>();
+
+    /// Identificador da consulta atual, evita retornar duas vezes uma região presente em várias células
+    private int queryStamp = 0;
+
+    public LiquidRegionIndex(float cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Tamanho da célula deve ser maior que 0");
+        }
+
+        this.cellSize = cellSize;
+    }
+
+    /// Registra a região com o líquido dela, registrar de novo não tem efeito
+    public void add(LiquidRegion region, LiquidData data) {
+        if (region == null || data == null) {
+            throw new IllegalArgumentException("Região e líquido não podem ser null");
+        }
+
+        if (entries.containsKey(region)) return;
+
+        Entry entry = new Entry(region, data);
+        entries.put(region, entry);
+
+        for (int cy = entry.minCellY; cy <= entry.maxCellY; cy++) {
+            for (int cx = entry.minCellX; cx <= entry.maxCellX; cx++) {
+                long key = cellKey(cx, cy);
+
+                List<Entry> cell = cells.get(key);
+                if (cell == null) {
+                    cell = new ArrayList<>(2);
+                    cells.put(key, cell);
+                }
+
+                cell.add(entry);
+            }
+        }
+    }
+
+    /// Remove a região do índice, pode ser chamado mais de uma vez
+    public void remove(LiquidRegion region) {
+        Entry entry = entries.remove(region);
+        if (entry == null) return;
+
+        for (int cy = entry.minCellY; cy <= entry.maxCellY; cy++) {
+            for (int cx = entry.minCellX; cx <= entry.maxCellX; cx++) {
+                long key = cellKey(cx, cy);
+
+                List<Entry> cell = cells.get(key);
+                if (cell == null) continue;
+
+                cell.remove(entry);
+                if (cell.isEmpty()) cells.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Coleta as regiões que sobrepõem o AABB informado, em pixels
+     *
+     * @param out lista de saída, limpa antes da consulta
+     * @return quantidade de regiões encontradas
+     */
+    public int query(
+        float minX, float minY,
+        float maxX, float maxY,
+        List<Entry> out
+    ) {
+        out.clear();
+        if (entries.isEmpty()) return 0;
+
+        queryStamp++;
+
+        int minCellX = toCell(minX);
+        int minCellY = toCell(minY);
+        int maxCellX = toCell(maxX);
+        int maxCellY = toCell(maxY);
+
+        for (int cy = minCellY; cy <= maxCellY; cy++) {
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                List<Entry> cell = cells.get(cellKey(cx, cy));
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry entry = cell.get(i);
+                    if (entry.queryStamp == queryStamp) continue;
+                    entry.queryStamp = queryStamp;
+
+                    if (entry.overlaps(minX, minY, maxX, maxY)) out.add(entry);
+                }
+            }
+        }
+
+        return out.size();
+    }
+
+    public void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private int toCell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    /// Região registrada, com os limites em pixels e as células cobertas
+    public final class Entry {
+        public final LiquidRegion region;
+        public final LiquidData data;
+
+        private final float
+            minX,
+            minY,
+            maxX,
+            maxY;
+
+        private final int
+            minCellX,
+            minCellY,
+            maxCellX,
+            maxCellY;
+
+        private int queryStamp = 0;
+
+        private Entry(LiquidRegion region, LiquidData data) {
+            this.region = region;
+            this.data = data;
+
+            this.minX = region.getX();
+            this.minY = region.getY();
+            this.maxX = region.getX() + region.getWidth();
+            this.maxY = region.getY() + region.getHeight();
+
+            this.minCellX = toCell(minX);
+            this.minCellY = toCell(minY);
+            this.maxCellX = toCell(maxX);
+            this.maxCellY = toCell(maxY);
+        }
+
+        private boolean overlaps(float otherMinX, float otherMinY, float otherMaxX, float otherMaxY) {
+            return otherMinX < maxX && otherMaxX > minX && otherMinY < maxY && otherMaxY > minY;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package official.sketchBook.engine.liquid_related.util;
+
+import static official.sketchBook.game.util_related.constants.WorldConstants.LiquidSurfaceConstants.*;
+
+/**
+ * Superfície animada de uma região de líquido, simulada como uma fileira de
+ * colunas presas por molas (heightfield 1D).
+ * <p>
+ * Cada coluna guarda apenas o deslocamento em relação à altura de repouso e a
+ * velocidade vertical, em arrays primitivos alocados uma única vez. Uma coluna
+ * é puxada de volta ao repouso e pelas vizinhas, o que espalha as ondas.
+ * <p>
+ * Quando todas as colunas voltam ao repouso a superfície é marcada como
+ * assentada: o update não faz nada e as consultas de altura retornam 0 sem
+ * percorrer os arrays, até a próxima perturbação.
+ */
+public class LiquidSurface {
+
+    /// Maior passo de integração, deltas maiores são divididos para manter as molas estáveis
+    private static final float MAX_STEP = 1f / 60f;
+    /// Quantidade máxima de sub passos por update, o tempo acima disso é descartado
+    private static final int MAX_SUBSTEPS = 4;
+
+    /// Início da superfície e distância entre colunas, em pixels
+    private final float
+        originX,
+        spacing;
+
+    private final int columns;
+
+    /// Deslocamento de cada coluna em relação ao repouso (pixels) e velocidade dela (pixels/s)
+    private final float[]
+        heights,
+        velocities,
+        accelerations;
+
+    /// Todas as colunas em repouso, nada a simular
+    private boolean settled = true;
+
+    public LiquidSurface(float originX, float width) {
+        if (width <= 0f) {
+            throw new IllegalArgumentException("Largura da superfície deve ser maior que 0");
+        }
+
+        int count = (int) (width / SURFACE_COLUMN_SPACING_PX) + 1;
+        this.columns = Math.max(SURFACE_MIN_COLUMNS, Math.min(SURFACE_MAX_COLUMNS, count));
+
+        this.originX = originX;
+        this.spacing = width / (columns - 1);
+
+        this.heights = new float[columns];
+        this.velocities = new float[columns];
+        this.accelerations = new float[columns];
+    }
+
+    /// Avança a simulação das colunas, sem efeito enquanto a superfície estiver assentada
+    public void update(float delta) {
+        if (settled || delta <= 0f) return;
+
+        int steps = Math.min(MAX_SUBSTEPS, (int) Math.ceil(delta / MAX_STEP));
+        float step = Math.min(delta / steps, MAX_STEP);
+
+        for (int i = 0; i < steps; i++) {
+            integrate(step);
+        }
+
+        settleIfResting();
+    }
+
+    private void integrate(float step) {
+        int last = columns - 1;
+
+        //Acelerações primeiro, todas lidas do estado anterior (bordas refletem a própria coluna)
+        for (int i = 0; i < columns; i++) {
+            float h = heights[i];
+            float left = heights[i == 0 ? 0 : i - 1];
+            float right = heights[i == last ? last : i + 1];
+
+            accelerations[i] = -SURFACE_TENSION * h
+                + SURFACE_SPREAD * (left + right - 2f * h)
+                - SURFACE_DAMPING * velocities[i];
+        }
+
+        for (int i = 0; i < columns; i++) {
+            float v = velocities[i] + accelerations[i] * step;
+            float h = heights[i] + v * step;
+
+            velocities[i] = v;
+            heights[i] = Math.max(-SURFACE_MAX_AMPLITUDE_PX, Math.min(SURFACE_MAX_AMPLITUDE_PX, h));
+        }
+    }
+
+    private void settleIfResting() {
+        for (int i = 0; i < columns; i++) {
+            if (Math.abs(heights[i]) > SURFACE_SETTLE_EPSILON) return;
+            if (Math.abs(velocities[i]) > SURFACE_SETTLE_EPSILON) return;
+        }
+
+        for (int i = 0; i < columns; i++) {
+            heights[i] = 0f;
+            velocities[i] = 0f;
+        }
+
+        settled = true;
+    }
+
+    /**
+     * Perturba a superfície no ponto informado
+     *
+     * @param x        posição em pixels
+     * @param velocity velocidade somada à coluna mais próxima, em pixels/s (negativo afunda)
+     */
+    public void disturb(float x, float velocity) {
+        if (velocity == 0f) return;
+
+        int column = Math.round((x - originX) / spacing);
+        if (column < 0 || column >= columns) return;
+
+        velocities[column] += velocity;
+        settled = false;
+    }
+
+    /**
+     * Deslocamento da superfície no ponto informado, interpolado entre as duas colunas mais próximas
+     *
+     * @param x posição em pixels, fora da superfície usa a coluna da borda
+     * @return deslocamento em pixels em relação à altura de repouso
+     */
+    public float getHeightAt(float x) {
+        if (settled) return 0f;
+
+        float position = (x - originX) / spacing;
+        if (position <= 0f) return heights[0];
+        if (position >= columns - 1) return heights[columns - 1];
+
+        int left = (int) position;
+        float t = position - left;
+
+        return heights[left] + (heights[left + 1] - heights[left]) * t;
+    }
+
+    public boolean isSettled() {
+        return settled;
+    }
+
+    public int getColumnCount() {
+        return columns;
+    }
+
+    /// Deslocamento da coluna, para renderização
+    public float getColumnHeight(int column) {
+        return heights[column];
+    }
+
+    /// Posição x da coluna em pixels, para renderização
+    public float getColumnX(int column) {
+        return originX + column * spacing;
+    }
+}
@@ -78,6 +78,10 @@ public abstract class BaseScreen implements Screen {
 
         updateMetrics(delta);               //Atualiza as métricas para debugging
 
+        renderSystem.setInterpolationAlpha( //Repassa quanto do próximo passo já passou
+            updateSystem.getInterpolationAlpha()
+        );
+
         renderSystem.draw(delta);           //Seguimos a pipeline de renderização
 
     }
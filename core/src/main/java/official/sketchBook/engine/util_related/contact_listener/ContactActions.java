@@ -3,7 +3,6 @@ package official.sketchBook.engine.util_related.contact_listener;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Contact;
-import com.badlogic.gdx.physics.box2d.WorldManifold;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.physics.MovableObjectII;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.physics.PhysicalGameObjectII;
 import official.sketchBook.engine.components_related.movement.MovementComponent;
@@ -19,13 +18,21 @@ public class ContactActions {
      * Importante: A normal do Box2D aponta da FixtureA para a FixtureB.
      */
     public static Direction getCollisionDirection(Contact contact) {
-        if (contact == null || !contact.isTouching()) return Direction.STILL;
+        if (contact == null) return Direction.STILL;
 
-        WorldManifold worldManifold = contact.getWorldManifold();
-        Vector2 normal = worldManifold.getNormal();
+        //Dentro de um callback o manifold é lido uma única vez, mesmo com vários listeners perguntando
+        return ContactInfoCache.get(contact).getDirection();
+    }
+
+    /// Mesma resolução para um evento gravado durante o step
+    public static Direction getCollisionDirection(DeferredContactBuffer.ContactEvent event) {
+        if (event == null || !event.isTouching()) return Direction.STILL;
+
+        return getCollisionDirection(event.getNormalX(), event.getNormalY());
+    }
 
-        float x = normal.x;
-        float y = normal.y;
+    /// Resolve a direção a partir da normal já lida do manifold
+    public static Direction getCollisionDirection(float x, float y) {
         float threshold = MIN_VEL_THRESHOLD;
 
         // Lógica de quadrantes para direções
@@ -128,11 +135,10 @@ public class ContactActions {
     public static void applyDefaultFrictionLogic(Contact contact) {
         if (contact == null) return; // Evita NullPointerException
 
-        WorldManifold worldManifold = contact.getWorldManifold();
-        if (worldManifold == null) return; // Precaução extra
+        Vector2 normal = ContactInfoCache.get(contact).getNormal();
 
-        float normalX = worldManifold.getNormal().x;
-        float normalY = worldManifold.getNormal().y;
+        float normalX = normal.x;
+        float normalY = normal.y;
 
         // Se o normal é quase para os lados (lateral forte), reduzir atrito
         if (Math.abs(normalX) > 0.8f && Math.abs(normalY) < 0.5f) {
@@ -0,0 +1,158 @@
+package official.sketchBook.engine.util_related.contact_listener;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.WorldManifold;
+import official.sketchBook.engine.util_related.enumerators.Direction;
+
+/**
+ * Cache dos dados do manifold do contato sendo tratado no callback atual.
+ * <p>
+ * isTouching() e getWorldManifold() são chamadas nativas, e cada listener
+ * (e cada helper do ContactActions) pedia os mesmos dados de novo. O
+ * MultiContactListener vincula o contato ao entrar em cada callback, e a
+ * primeira consulta lê toque, normal, pontos e direção de uma vez; as demais
+ * consultas do mesmo callback só leem os campos.
+ * <p>
+ * O LibGDX reutiliza o mesmo objeto Contact em todos os callbacks e não expõe
+ * o ponteiro nativo, então a chave é o próprio callback: o vínculo é refeito
+ * a cada entrada e desfeito na saída. Contatos fora do callback (ex: os de
+ * World.getContactList) são lidos direto, sem cache.
+ * <p>
+ * Assim como o step, só deve ser usado por uma thread por vez.
+ */
+public final class ContactInfoCache {
+
+    /// Dados do contato vinculado ao callback atual
+    private static final ContactInfo bound = new ContactInfo();
+    private static Contact boundContact;
+    private static boolean boundResolved = false;
+
+    /// Dados de consultas a contatos que não são o do callback, sobrescritos a cada consulta
+    private static final ContactInfo scratch = new ContactInfo();
+
+    /// Contadores de chamadas nativas feitas pelo cache e de consultas atendidas sem elas
+    private static long
+        touchingQueries = 0,
+        manifoldFetches = 0,
+        cacheHits = 0;
+
+    private ContactInfoCache() {
+    }
+
+    /// Vincula o contato do callback que está começando, chamado pelo MultiContactListener
+    static void bind(Contact contact) {
+        boundContact = contact;
+        boundResolved = false;
+    }
+
+    /// Desfaz o vínculo ao sair do callback, o Contact é reutilizado no próximo
+    static void unbind() {
+        boundContact = null;
+        boundResolved = false;
+    }
+
+    /**
+     * Dados do contato. Quando é o contato do callback atual a leitura nativa
+     * acontece uma única vez; o objeto retornado não deve ser guardado
+     */
+    public static ContactInfo get(Contact contact) {
+        if (contact != null && contact == boundContact) {
+            if (boundResolved) {
+                cacheHits++;
+                return bound;
+            }
+
+            bound.read(contact);
+            boundResolved = true;
+            return bound;
+        }
+
+        scratch.read(contact);
+        return scratch;
+    }
+
+    public static long getTouchingQueries() {
+        return touchingQueries;
+    }
+
+    public static long getManifoldFetches() {
+        return manifoldFetches;
+    }
+
+    /// Total de chamadas nativas feitas pelo cache
+    public static long getNativeCalls() {
+        return touchingQueries + manifoldFetches;
+    }
+
+    public static long getCacheHits() {
+        return cacheHits;
+    }
+
+    public static void resetCounters() {
+        touchingQueries = 0;
+        manifoldFetches = 0;
+        cacheHits = 0;
+    }
+
+    /// Toque, normal, pontos e direção de um contato. A normal aponta da fixture A para a B
+    public static final class ContactInfo {
+        private boolean touching;
+        private final Vector2 normal = new Vector2();
+        private final Vector2[] points = {new Vector2(), new Vector2()};
+        private int pointCount;
+        private Direction direction = Direction.STILL;
+
+        private ContactInfo() {
+        }
+
+        private void read(Contact contact) {
+            touching = false;
+            normal.setZero();
+            pointCount = 0;
+            direction = Direction.STILL;
+
+            if (contact == null) return;
+
+            touchingQueries++;
+            touching = contact.isTouching();
+
+            //Sem toque o Box2D não preenche o manifold
+            if (!touching) return;
+
+            manifoldFetches++;
+            WorldManifold manifold = contact.getWorldManifold();
+
+            normal.set(manifold.getNormal());
+
+            pointCount = Math.min(manifold.getNumberOfContactPoints(), points.length);
+            Vector2[] manifoldPoints = manifold.getPoints();
+            for (int i = 0; i < pointCount; i++) {
+                points[i].set(manifoldPoints[i]);
+            }
+
+            direction = ContactActions.getCollisionDirection(normal.x, normal.y);
+        }
+
+        public boolean isTouching() {
+            return touching;
+        }
+
+        public Vector2 getNormal() {
+            return normal;
+        }
+
+        public int getPointCount() {
+            return pointCount;
+        }
+
+        /// Ponto de contato em metros
+        public Vector2 getPoint(int index) {
+            return points[index];
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+    }
+}
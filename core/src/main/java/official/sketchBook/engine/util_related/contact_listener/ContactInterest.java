@@ -0,0 +1,106 @@
+package official.sketchBook.engine.util_related.contact_listener;
+
+import official.sketchBook.engine.util_related.enumerators.ObjectType;
+
+/**
+ * Declara quais contatos interessam a um SubContactListener.
+ * <p>
+ * O MultiContactListener usa isso para montar a tabela de despacho por par de
+ * ObjectType e por fase do contato, assim cada callback do Box2D só chega nos
+ * listeners que de fato tratam aquele par.
+ * Sem nenhum par declarado o listener recebe todos os pares.
+ */
+public final class ContactInterest {
+
+    /// Fases do contato
+    public static final int
+        BEGIN = 1,
+        END = 1 << 1,
+        PRE_SOLVE = 1 << 2,
+        POST_SOLVE = 1 << 3,
+        ALL_PHASES = BEGIN | END | PRE_SOLVE | POST_SOLVE;
+
+    private static final int TYPE_COUNT = ObjectType.values().length;
+
+    /// [tipo A * TYPE_COUNT + tipo B], sempre simétrica
+    private final boolean[] pairs = new boolean[TYPE_COUNT * TYPE_COUNT];
+    private boolean anyPairDeclared = false;
+
+    private int phases = ALL_PHASES;
+
+    /// Categorias de colisão exigidas em pelo menos uma das fixtures, 0 para qualquer uma
+    private short categoryMask = 0;
+
+    /// Interesse em todos os contatos, em todas as fases
+    public static ContactInterest all() {
+        return new ContactInterest();
+    }
+
+    /// Interesse em todos os pares, apenas nas fases informadas
+    public static ContactInterest phases(int phases) {
+        return new ContactInterest().onPhases(phases);
+    }
+
+    /// Contatos entre os dois tipos, em qualquer ordem
+    public ContactInterest pair(ObjectType a, ObjectType b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("Os tipos do par não podem ser null");
+        }
+
+        pairs[index(a.ordinal(), b.ordinal())] = true;
+        pairs[index(b.ordinal(), a.ordinal())] = true;
+        anyPairDeclared = true;
+        return this;
+    }
+
+    /// Contatos entre o tipo e qualquer outro tipo
+    public ContactInterest any(ObjectType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("O tipo não pode ser null");
+        }
+
+        for (int other = 0; other < TYPE_COUNT; other++) {
+            pairs[index(type.ordinal(), other)] = true;
+            pairs[index(other, type.ordinal())] = true;
+        }
+
+        anyPairDeclared = true;
+        return this;
+    }
+
+    /// Restringe as fases recebidas, combinação de BEGIN, END, PRE_SOLVE e POST_SOLVE
+    public ContactInterest onPhases(int phases) {
+        if ((phases & ~ALL_PHASES) != 0) {
+            throw new IllegalArgumentException("Fase de contato desconhecida: " + phases);
+        }
+
+        this.phases = phases;
+        return this;
+    }
+
+    /// Exige que pelo menos uma das fixtures tenha algum dos bits de categoria informados
+    public ContactInterest withCategoryBits(short categoryMask) {
+        this.categoryMask = categoryMask;
+        return this;
+    }
+
+    boolean accepts(int pairIndex) {
+        return !anyPairDeclared || pairs[pairIndex];
+    }
+
+    boolean listensTo(int phase) {
+        return (phases & phase) != 0;
+    }
+
+    short getCategoryMask() {
+        return categoryMask;
+    }
+
+    static int typeCount() {
+        return TYPE_COUNT;
+    }
+
+    static int index(int typeA, int typeB) {
+        return typeA * TYPE_COUNT + typeB;
+    }
+}
@@ -0,0 +1,378 @@
+package official.sketchBook.engine.util_related.contact_listener;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import official.sketchBook.engine.util_related.helper.GameObjectTag;
+
+import static official.sketchBook.engine.util_related.helper.body.BodyTagHelper.getFromFixtureTag;
+
+/**
+ * Buffer circular de eventos de contato gravados durante o World.step.
+ * <p>
+ * Os dados ficam em arrays paralelos (um por coluna) pré-alocados, então gravar
+ * um evento é só copiar alguns valores, e o drain percorre memória contígua.
+ * O manifold é lido (pelo ContactInfoCache) no momento em que o Box2D ainda
+ * tem o contato válido.
+ * <p>
+ * Nenhuma Fixture é guardada: um handler anterior pode destruir o corpo antes do
+ * evento ser entregue, e o Box2D limpa o userData e devolve a fixture ao pool.
+ * Por isso tags, categoria e posição dos corpos são copiadas na gravação.
+ * <p>
+ * Caso a capacidade estoure dentro de um mesmo passo os arrays dobram de tamanho,
+ * preservando a ordem, já que perder um begin ou end deixaria o estado inconsistente.
+ * <p>
+ * Usado apenas pela thread que executa o step do mundo.
+ */
+public class DeferredContactBuffer {
+
+    /// Tipos de evento gravados
+    public static final byte
+        BEGIN = 0,
+        END = 1,
+        POST_SOLVE = 2;
+
+    /// Colunas
+    private byte[] kinds;
+    private GameObjectTag[]
+        tagsA,
+        tagsB,
+        fixtureTagsA,
+        fixtureTagsB;
+    private short[]
+        categoryBitsA,
+        categoryBitsB;
+    private float[]
+        bodiesAX,
+        bodiesAY,
+        bodiesBX,
+        bodiesBY,
+        normalsX,
+        normalsY,
+        pointsX,
+        pointsY,
+        impulses;
+    private byte[] pointCounts;
+    private boolean[] touching;
+
+    /// Primeiro evento da fila e quantidade de eventos ocupando o buffer
+    private int
+        head = 0,
+        count = 0;
+
+    /// Indica que o evento em head está sendo entregue, ele só sai da fila no próximo poll
+    private boolean delivering = false;
+
+    /// Cursor reutilizado para expor o evento atual aos handlers
+    private final ContactEvent cursor = new ContactEvent(this);
+
+    public DeferredContactBuffer(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacidade do buffer de contatos deve ser maior que 0");
+        }
+
+        allocate(initialCapacity);
+    }
+
+    private void allocate(int capacity) {
+        kinds = new byte[capacity];
+        tagsA = new GameObjectTag[capacity];
+        tagsB = new GameObjectTag[capacity];
+        fixtureTagsA = new GameObjectTag[capacity];
+        fixtureTagsB = new GameObjectTag[capacity];
+        categoryBitsA = new short[capacity];
+        categoryBitsB = new short[capacity];
+        bodiesAX = new float[capacity];
+        bodiesAY = new float[capacity];
+        bodiesBX = new float[capacity];
+        bodiesBY = new float[capacity];
+        normalsX = new float[capacity];
+        normalsY = new float[capacity];
+        pointsX = new float[capacity];
+        pointsY = new float[capacity];
+        impulses = new float[capacity];
+        pointCounts = new byte[capacity];
+        touching = new boolean[capacity];
+    }
+
+    /// Grava um begin ou end, lendo o manifold do contato enquanto ele ainda é válido
+    public void record(
+        byte kind,
+        Contact contact,
+        GameObjectTag tagA,
+        GameObjectTag tagB
+    ) {
+        int slot = reserve();
+        fill(slot, kind, contact, tagA, tagB);
+        impulses[slot] = 0f;
+    }
+
+    /// Grava um postSolve, guardando o maior impulso normal entre os pontos do manifold
+    public void recordPostSolve(
+        Contact contact,
+        ContactImpulse impulse,
+        GameObjectTag tagA,
+        GameObjectTag tagB
+    ) {
+        int slot = reserve();
+        fill(slot, POST_SOLVE, contact, tagA, tagB);
+
+        float maxImpulse = 0f;
+        float[] normalImpulses = impulse.getNormalImpulses();
+        for (int i = 0; i < impulse.getCount(); i++) {
+            maxImpulse = Math.max(maxImpulse, normalImpulses[i]);
+        }
+
+        impulses[slot] = maxImpulse;
+    }
+
+    private void fill(
+        int slot,
+        byte kind,
+        Contact contact,
+        GameObjectTag tagA,
+        GameObjectTag tagB
+    ) {
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+
+        kinds[slot] = kind;
+        tagsA[slot] = tagA;
+        tagsB[slot] = tagB;
+        fixtureTagsA[slot] = getFromFixtureTag(fixtureA);
+        fixtureTagsB[slot] = getFromFixtureTag(fixtureB);
+        categoryBitsA[slot] = fixtureA.getFilterData().categoryBits;
+        categoryBitsB[slot] = fixtureB.getFilterData().categoryBits;
+
+        Vector2 positionA = fixtureA.getBody().getPosition();
+        bodiesAX[slot] = positionA.x;
+        bodiesAY[slot] = positionA.y;
+
+        Vector2 positionB = fixtureB.getBody().getPosition();
+        bodiesBX[slot] = positionB.x;
+        bodiesBY[slot] = positionB.y;
+
+        //Compartilha a leitura com os listeners imediatos do mesmo callback
+        ContactInfoCache.ContactInfo info = ContactInfoCache.get(contact);
+        touching[slot] = info.isTouching();
+
+        Vector2 normal = info.getNormal();
+        normalsX[slot] = normal.x;
+        normalsY[slot] = normal.y;
+
+        //Com dois pontos guardamos o ponto médio
+        int points = info.getPointCount();
+
+        float px = 0f, py = 0f;
+        for (int i = 0; i < points; i++) {
+            px += info.getPoint(i).x;
+            py += info.getPoint(i).y;
+        }
+
+        pointsX[slot] = points == 0 ? 0f : px / points;
+        pointsY[slot] = points == 0 ? 0f : py / points;
+        pointCounts[slot] = (byte) points;
+    }
+
+    /// Retorna a posição livre no fim da fila, crescendo os arrays caso estejam cheios
+    private int reserve() {
+        if (count == kinds.length) grow();
+
+        int slot = (head + count) % kinds.length;
+        count++;
+        return slot;
+    }
+
+    private void grow() {
+        byte[] oldKinds = kinds;
+        GameObjectTag[] oldTagsA = tagsA, oldTagsB = tagsB;
+        GameObjectTag[] oldFixtureTagsA = fixtureTagsA, oldFixtureTagsB = fixtureTagsB;
+        short[] oldCategoryBitsA = categoryBitsA, oldCategoryBitsB = categoryBitsB;
+        float[] oldBodiesAX = bodiesAX, oldBodiesAY = bodiesAY, oldBodiesBX = bodiesBX, oldBodiesBY = bodiesBY;
+        float[] oldNormalsX = normalsX, oldNormalsY = normalsY;
+        float[] oldPointsX = pointsX, oldPointsY = pointsY, oldImpulses = impulses;
+        byte[] oldPointCounts = pointCounts;
+        boolean[] oldTouching = touching;
+
+        int oldCapacity = oldKinds.length;
+        allocate(oldCapacity * 2);
+
+        //Desenrola a fila para começar no índice 0
+        for (int i = 0; i < count; i++) {
+            int from = (head + i) % oldCapacity;
+
+            kinds[i] = oldKinds[from];
+            tagsA[i] = oldTagsA[from];
+            tagsB[i] = oldTagsB[from];
+            fixtureTagsA[i] = oldFixtureTagsA[from];
+            fixtureTagsB[i] = oldFixtureTagsB[from];
+            categoryBitsA[i] = oldCategoryBitsA[from];
+            categoryBitsB[i] = oldCategoryBitsB[from];
+            bodiesAX[i] = oldBodiesAX[from];
+            bodiesAY[i] = oldBodiesAY[from];
+            bodiesBX[i] = oldBodiesBX[from];
+            bodiesBY[i] = oldBodiesBY[from];
+            normalsX[i] = oldNormalsX[from];
+            normalsY[i] = oldNormalsY[from];
+            pointsX[i] = oldPointsX[from];
+            pointsY[i] = oldPointsY[from];
+            impulses[i] = oldImpulses[from];
+            pointCounts[i] = oldPointCounts[from];
+            touching[i] = oldTouching[from];
+        }
+
+        head = 0;
+
+        //Um handler gravou eventos durante o drain, o evento dele agora está no índice 0
+        if (delivering) cursor.index = 0;
+    }
+
+    /**
+     * Posiciona o cursor no evento mais antigo e remove ele da fila.
+     * O cursor continua válido até a próxima chamada de poll
+     *
+     * @return o cursor, ou null quando a fila estiver vazia
+     */
+    public ContactEvent poll() {
+        //O evento anterior só sai agora, assim um crescimento durante o handler não perde ele
+        finishDrain();
+
+        if (count == 0) return null;
+
+        delivering = true;
+        cursor.index = head;
+
+        return cursor;
+    }
+
+    /// Descarta todos os eventos pendentes
+    public void clear() {
+        finishDrain();
+
+        while (count > 0) {
+            removeHead();
+        }
+    }
+
+    /// Remove o último evento entregue, chamado ao fim de cada drain
+    public void finishDrain() {
+        if (!delivering) return;
+
+        removeHead();
+        delivering = false;
+        cursor.index = -1;
+    }
+
+    private void removeHead() {
+        //Solta as referências, o slot já pode ser sobrescrito
+        tagsA[head] = null;
+        tagsB[head] = null;
+        fixtureTagsA[head] = null;
+        fixtureTagsB[head] = null;
+
+        head = (head + 1) % kinds.length;
+        count--;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /// Eventos ainda não entregues
+    public int size() {
+        return delivering ? count - 1 : count;
+    }
+
+    public int getCapacity() {
+        return kinds.length;
+    }
+
+    /**
+     * Visão de um evento do buffer, sem cópia.
+     * A normal aponta da fixture A para a fixture B, como no Box2D
+     */
+    public static final class ContactEvent {
+        private final DeferredContactBuffer buffer;
+        private int index = -1;
+
+        private ContactEvent(DeferredContactBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        public byte getKind() {
+            return buffer.kinds[index];
+        }
+
+        /// Tag do corpo da fixture A
+        public GameObjectTag getTagA() {
+            return buffer.tagsA[index];
+        }
+
+        public GameObjectTag getTagB() {
+            return buffer.tagsB[index];
+        }
+
+        /// Tag da própria fixture A, lida na gravação, null quando a fixture não tem tag
+        public GameObjectTag getFixtureTagA() {
+            return buffer.fixtureTagsA[index];
+        }
+
+        public GameObjectTag getFixtureTagB() {
+            return buffer.fixtureTagsB[index];
+        }
+
+        /// Categoria do filtro da fixture A no momento do evento
+        public short getCategoryBitsA() {
+            return buffer.categoryBitsA[index];
+        }
+
+        public short getCategoryBitsB() {
+            return buffer.categoryBitsB[index];
+        }
+
+        /// Posição do corpo da fixture A em metros, no momento do evento
+        public Vector2 getBodyPositionA(Vector2 out) {
+            return out.set(buffer.bodiesAX[index], buffer.bodiesAY[index]);
+        }
+
+        public Vector2 getBodyPositionB(Vector2 out) {
+            return out.set(buffer.bodiesBX[index], buffer.bodiesBY[index]);
+        }
+
+        /// Se o contato estava tocando no momento do evento, sem toque não há normal nem ponto
+        public boolean isTouching() {
+            return buffer.touching[index];
+        }
+
+        public float getNormalX() {
+            return buffer.normalsX[index];
+        }
+
+        public float getNormalY() {
+            return buffer.normalsY[index];
+        }
+
+        public Vector2 getNormal(Vector2 out) {
+            return out.set(getNormalX(), getNormalY());
+        }
+
+        /// Ponto de contato em metros (média dos pontos do manifold)
+        public float getPointX() {
+            return buffer.pointsX[index];
+        }
+
+        public float getPointY() {
+            return buffer.pointsY[index];
+        }
+
+        public int getPointCount() {
+            return buffer.pointCounts[index];
+        }
+
+        /// Maior impulso normal do passo, só preenchido em eventos POST_SOLVE
+        public float getNormalImpulse() {
+            return buffer.impulses[index];
+        }
+    }
+}
@@ -4,25 +4,164 @@ import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.ContactListener;
 import com.badlogic.gdx.physics.box2d.Manifold;
+import official.sketchBook.engine.util_related.enumerators.ObjectType;
 import official.sketchBook.engine.util_related.helper.GameObjectTag;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static official.sketchBook.engine.util_related.helper.body.BodyTagHelper.getFromBodyTag;
 
+/**
+ * Listener único do mundo, repassa cada callback para os SubContactListener registrados.
+ * <p>
+ * Cada listener declara seu interesse (pares de ObjectType, fases e categorias).
+ * Ao registrar ou remover um listener montamos uma tabela [fase][par de tipos]
+ * com os listeners interessados, então o despacho é só uma leitura de array,
+ * sem iterator e sem chamar quem ignoraria o contato.
+ * <p>
+ * No modo adiado, os begin, end e postSolve destinados a um DeferredSubContactListener
+ * são gravados em um DeferredContactBuffer durante o step e entregues em lote por
+ * processDeferredEvents(), depois do step. O preSolve sempre roda dentro do step,
+ * já que ele só serve para alterar o contato antes de ser resolvido.
+ */
 public class MultiContactListener implements ContactListener {
-    // Usando um HashMap para armazenar os listeners, onde a chave é uma String (ou qualquer tipo único)
-    private final Map<String, SubContactListener> listeners = new HashMap<>();
+    // Mapa ordenado dos listeners, onde a chave é uma String (ou qualquer tipo único). A ordem de registro é a ordem de despacho
+    private final Map<String, SubContactListener> listeners = new LinkedHashMap<>();
+
+    /// Índices das fases dentro da tabela
+    private static final int
+        BEGIN_SLOT = 0,
+        END_SLOT = 1,
+        PRE_SOLVE_SLOT = 2,
+        POST_SOLVE_SLOT = 3,
+        PHASE_COUNT = 4;
+
+    private static final SubContactListener[] NO_LISTENERS = new SubContactListener[0];
+    private static final short[] NO_MASKS = new short[0];
+
+    /// [fase][par de tipos] -> listeners interessados, na ordem de registro
+    private final SubContactListener[][][] dispatchTable =
+        new SubContactListener[PHASE_COUNT][ContactInterest.typeCount() * ContactInterest.typeCount()][];
+
+    /// Máscara de categoria de cada listener da tabela, 0 quando aceita qualquer categoria
+    private final short[][][] categoryMaskTable =
+        new short[PHASE_COUNT][ContactInterest.typeCount() * ContactInterest.typeCount()][];
+
+    /// Mesma estrutura, mas apenas com os listeners que recebem os eventos depois do step
+    private final SubContactListener[][][] deferredTable =
+        new SubContactListener[PHASE_COUNT][ContactInterest.typeCount() * ContactInterest.typeCount()][];
+    private final short[][][] deferredMaskTable =
+        new short[PHASE_COUNT][ContactInterest.typeCount() * ContactInterest.typeCount()][];
+
+    /// Eventos gravados durante o step, null enquanto o modo adiado estiver desligado
+    private DeferredContactBuffer deferredBuffer;
+
+    public MultiContactListener() {
+        rebuildDispatchTable();
+    }
+
+    /**
+     * Liga ou desliga a entrega adiada dos eventos.
+     * Eventos pendentes são entregues antes de desligar, para nenhum begin ou end se perder
+     *
+     * @param initialCapacity capacidade inicial do buffer, ignorada ao desligar
+     */
+    public void setDeferredEvents(boolean deferred, int initialCapacity) {
+        if (deferred == isDeferringEvents()) return;
+
+        if (deferred) {
+            deferredBuffer = new DeferredContactBuffer(initialCapacity);
+        } else {
+            processDeferredEvents();
+            deferredBuffer = null;
+        }
+
+        rebuildDispatchTable();
+    }
+
+    public boolean isDeferringEvents() {
+        return deferredBuffer != null;
+    }
 
     // Adiciona um listener com uma chave única
     public void addListener(String key, SubContactListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener não pode ser null");
+        }
+
         listeners.put(key, listener);
+        rebuildDispatchTable();
     }
 
     // Remove um listener pelo chave
     public void removeListener(String key) {
-        listeners.remove(key);
+        if (listeners.remove(key) != null) rebuildDispatchTable();
+    }
+
+    /// Remonta a tabela de despacho, só acontece ao registrar ou remover listeners
+    private void rebuildDispatchTable() {
+        List<SubContactListener> registered = new ArrayList<>(listeners.values());
+
+        ContactInterest[] interests = new ContactInterest[registered.size()];
+        for (int i = 0; i < interests.length; i++) {
+            ContactInterest interest = registered.get(i).getInterest();
+            interests[i] = interest == null ? ContactInterest.all() : interest;
+        }
+
+        List<SubContactListener>
+            immediateListeners = new ArrayList<>(),
+            deferredListeners = new ArrayList<>();
+        List<Short>
+            immediateMasks = new ArrayList<>(),
+            deferredMasks = new ArrayList<>();
+
+        for (int slot = 0; slot < PHASE_COUNT; slot++) {
+            int phase = 1 << slot;
+            boolean canDefer = isDeferringEvents() && slot != PRE_SOLVE_SLOT;
+
+            for (int pair = 0; pair < dispatchTable[slot].length; pair++) {
+                immediateListeners.clear();
+                immediateMasks.clear();
+                deferredListeners.clear();
+                deferredMasks.clear();
+
+                for (int i = 0; i < interests.length; i++) {
+                    if (!interests[i].listensTo(phase) || !interests[i].accepts(pair)) continue;
+
+                    SubContactListener listener = registered.get(i);
+
+                    if (canDefer && listener instanceof DeferredSubContactListener) {
+                        deferredListeners.add(listener);
+                        deferredMasks.add(interests[i].getCategoryMask());
+                    } else {
+                        immediateListeners.add(listener);
+                        immediateMasks.add(interests[i].getCategoryMask());
+                    }
+                }
+
+                dispatchTable[slot][pair] = toListenerArray(immediateListeners);
+                categoryMaskTable[slot][pair] = toMaskArray(immediateMasks);
+                deferredTable[slot][pair] = toListenerArray(deferredListeners);
+                deferredMaskTable[slot][pair] = toMaskArray(deferredMasks);
+            }
+        }
+    }
+
+    private static SubContactListener[] toListenerArray(List<SubContactListener> list) {
+        return list.isEmpty() ? NO_LISTENERS : list.toArray(new SubContactListener[0]);
+    }
+
+    private static short[] toMaskArray(List<Short> list) {
+        if (list.isEmpty()) return NO_MASKS;
+
+        short[] masks = new short[list.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = list.get(i);
+        }
+        return masks;
     }
 
     @Override
@@ -30,8 +169,30 @@ public class MultiContactListener implements ContactListener {
         GameObjectTag tagA = getFromBodyTag(contact.getFixtureA());
         GameObjectTag tagB = getFromBodyTag(contact.getFixtureB());
         if (tagA == null || tagB == null) return;
-        for (Map.Entry<String, SubContactListener> entry : listeners.entrySet()) {
-            entry.getValue().beginContact(contact, tagA, tagB);
+
+        //Todos os listeners deste callback compartilham uma única leitura do manifold
+        ContactInfoCache.bind(contact);
+        try {
+            dispatchBegin(contact, tagA, tagB);
+        } finally {
+            ContactInfoCache.unbind();
+        }
+    }
+
+    private void dispatchBegin(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
+        int pair = pairIndex(tagA, tagB);
+
+        if (deferredBuffer != null && deferredTable[BEGIN_SLOT][pair].length > 0) {
+            deferredBuffer.record(DeferredContactBuffer.BEGIN, contact, tagA, tagB);
+        }
+
+        SubContactListener[] targets = dispatchTable[BEGIN_SLOT][pair];
+        if (targets.length == 0) return;
+
+        short[] masks = categoryMaskTable[BEGIN_SLOT][pair];
+        for (int i = 0; i < targets.length; i++) {
+            if (!matchesCategory(contact, masks[i])) continue;
+            targets[i].beginContact(contact, tagA, tagB);
         }
     }
 
@@ -40,8 +201,30 @@ public class MultiContactListener implements ContactListener {
         GameObjectTag tagA = getFromBodyTag(contact.getFixtureA());
         GameObjectTag tagB = getFromBodyTag(contact.getFixtureB());
         if (tagA == null || tagB == null) return;
-        for (Map.Entry<String, SubContactListener> entry : listeners.entrySet()) {
-            entry.getValue().endContact(contact, tagA, tagB);
+
+        //Todos os listeners deste callback compartilham uma única leitura do manifold
+        ContactInfoCache.bind(contact);
+        try {
+            dispatchEnd(contact, tagA, tagB);
+        } finally {
+            ContactInfoCache.unbind();
+        }
+    }
+
+    private void dispatchEnd(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
+        int pair = pairIndex(tagA, tagB);
+
+        if (deferredBuffer != null && deferredTable[END_SLOT][pair].length > 0) {
+            deferredBuffer.record(DeferredContactBuffer.END, contact, tagA, tagB);
+        }
+
+        SubContactListener[] targets = dispatchTable[END_SLOT][pair];
+        if (targets.length == 0) return;
+
+        short[] masks = categoryMaskTable[END_SLOT][pair];
+        for (int i = 0; i < targets.length; i++) {
+            if (!matchesCategory(contact, masks[i])) continue;
+            targets[i].endContact(contact, tagA, tagB);
         }
     }
 
@@ -50,8 +233,25 @@ public class MultiContactListener implements ContactListener {
         GameObjectTag tagA = getFromBodyTag(contact.getFixtureA());
         GameObjectTag tagB = getFromBodyTag(contact.getFixtureB());
         if (tagA == null || tagB == null) return;
-        for (Map.Entry<String, SubContactListener> entry : listeners.entrySet()) {
-            entry.getValue().preSolve(contact, oldManifold, tagA, tagB);
+
+        //Todos os listeners deste callback compartilham uma única leitura do manifold
+        ContactInfoCache.bind(contact);
+        try {
+            dispatchPreSolve(contact, oldManifold, tagA, tagB);
+        } finally {
+            ContactInfoCache.unbind();
+        }
+    }
+
+    private void dispatchPreSolve(Contact contact, Manifold oldManifold, GameObjectTag tagA, GameObjectTag tagB) {
+        int pair = pairIndex(tagA, tagB);
+        SubContactListener[] targets = dispatchTable[PRE_SOLVE_SLOT][pair];
+        if (targets.length == 0) return;
+
+        short[] masks = categoryMaskTable[PRE_SOLVE_SLOT][pair];
+        for (int i = 0; i < targets.length; i++) {
+            if (!matchesCategory(contact, masks[i])) continue;
+            targets[i].preSolve(contact, oldManifold, tagA, tagB);
         }
     }
 
@@ -60,16 +260,137 @@ public class MultiContactListener implements ContactListener {
         GameObjectTag tagA = getFromBodyTag(contact.getFixtureA());
         GameObjectTag tagB = getFromBodyTag(contact.getFixtureB());
         if (tagA == null || tagB == null) return;
-        for (Map.Entry<String, SubContactListener> entry : listeners.entrySet()) {
-            entry.getValue().postSolve(contact, impulse, tagA, tagB);
+
+        //Todos os listeners deste callback compartilham uma única leitura do manifold
+        ContactInfoCache.bind(contact);
+        try {
+            dispatchPostSolve(contact, impulse, tagA, tagB);
+        } finally {
+            ContactInfoCache.unbind();
+        }
+    }
+
+    private void dispatchPostSolve(Contact contact, ContactImpulse impulse, GameObjectTag tagA, GameObjectTag tagB) {
+        int pair = pairIndex(tagA, tagB);
+
+        if (deferredBuffer != null && deferredTable[POST_SOLVE_SLOT][pair].length > 0) {
+            deferredBuffer.recordPostSolve(contact, impulse, tagA, tagB);
+        }
+
+        SubContactListener[] targets = dispatchTable[POST_SOLVE_SLOT][pair];
+        if (targets.length == 0) return;
+
+        short[] masks = categoryMaskTable[POST_SOLVE_SLOT][pair];
+        for (int i = 0; i < targets.length; i++) {
+            if (!matchesCategory(contact, masks[i])) continue;
+            targets[i].postSolve(contact, impulse, tagA, tagB);
+        }
+    }
+
+    /**
+     * Entrega, na ordem em que aconteceram, os eventos gravados durante o step.
+     * Deve ser chamado logo após o World.step, pela mesma thread.
+     * Eventos gerados pelos próprios handlers (ex: destroyBody) entram no mesmo drain
+     *
+     * @return quantidade de eventos entregues
+     */
+    public int processDeferredEvents() {
+        if (deferredBuffer == null) return 0;
+
+        int processed = 0;
+
+        for (
+            DeferredContactBuffer.ContactEvent event = deferredBuffer.poll();
+            event != null;
+            event = deferredBuffer.poll()
+        ) {
+            int slot = slotOf(event.getKind());
+            int pair = pairIndex(event.getTagA(), event.getTagB());
+
+            SubContactListener[] targets = deferredTable[slot][pair];
+            short[] masks = deferredMaskTable[slot][pair];
+
+            for (int i = 0; i < targets.length; i++) {
+                if (!matchesCategory(event.getCategoryBitsA(), event.getCategoryBitsB(), masks[i])) continue;
+
+                DeferredSubContactListener target = (DeferredSubContactListener) targets[i];
+                switch (slot) {
+                    case BEGIN_SLOT:
+                        target.deferredBeginContact(event);
+                        break;
+                    case END_SLOT:
+                        target.deferredEndContact(event);
+                        break;
+                    default:
+                        target.deferredPostSolve(event);
+                        break;
+                }
+            }
+
+            processed++;
+        }
+
+        deferredBuffer.finishDrain();
+        return processed;
+    }
+
+    /// Descarta os eventos ainda não entregues, usado na destruição do mundo
+    public void clearDeferredEvents() {
+        if (deferredBuffer != null) deferredBuffer.clear();
+    }
+
+    private static int slotOf(byte kind) {
+        switch (kind) {
+            case DeferredContactBuffer.BEGIN:
+                return BEGIN_SLOT;
+            case DeferredContactBuffer.END:
+                return END_SLOT;
+            default:
+                return POST_SOLVE_SLOT;
         }
     }
 
+    private static int pairIndex(GameObjectTag tagA, GameObjectTag tagB) {
+        return ContactInterest.index(
+            typeOf(tagA).ordinal(),
+            typeOf(tagB).ordinal()
+        );
+    }
+
+    private static ObjectType typeOf(GameObjectTag tag) {
+        return tag.type == null ? ObjectType.NONE : tag.type;
+    }
+
+    /// Só consulta o filtro das fixtures (chamada nativa) quando o listener exige alguma categoria
+    private static boolean matchesCategory(Contact contact, short mask) {
+        if (mask == 0) return true;
+
+        return matchesCategory(
+            contact.getFixtureA().getFilterData().categoryBits,
+            contact.getFixtureB().getFilterData().categoryBits,
+            mask
+        );
+    }
+
+    private static boolean matchesCategory(short categoryBitsA, short categoryBitsB, short mask) {
+        if (mask == 0) return true;
+        return (categoryBitsA & mask) != 0 || (categoryBitsB & mask) != 0;
+    }
+
     public boolean existListener(String key) {
         return listeners.containsKey(key);
     }
 
     public interface SubContactListener{
+
+        /**
+         * Contatos que interessam ao listener, consultado apenas ao registrar.
+         * O padrão recebe todos os contatos em todas as fases
+         */
+        default ContactInterest getInterest() {
+            return ContactInterest.all();
+        }
+
         /**
          * @param contact contato
          * @param tagA tag A vinda da body
@@ -98,4 +419,21 @@ public class MultiContactListener implements ContactListener {
          */
         void postSolve(Contact contact, ContactImpulse impulse, GameObjectTag tagA, GameObjectTag tagB);
     }
+
+    /**
+     * Listener capaz de receber begin, end e postSolve depois do step, a partir do buffer.
+     * Com o modo adiado desligado ele recebe os callbacks normais como qualquer outro.
+     * O evento só é válido durante a chamada.
+     * Só recebe as fases declaradas no interesse, as demais ficam sem implementação
+     */
+    public interface DeferredSubContactListener extends SubContactListener {
+        default void deferredBeginContact(DeferredContactBuffer.ContactEvent event) {
+        }
+
+        default void deferredEndContact(DeferredContactBuffer.ContactEvent event) {
+        }
+
+        default void deferredPostSolve(DeferredContactBuffer.ContactEvent event) {
+        }
+    }
 }
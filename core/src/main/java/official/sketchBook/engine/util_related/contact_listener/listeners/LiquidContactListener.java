@@ -2,23 +2,73 @@ package official.sketchBook.engine.util_related.contact_listener.listeners;
 
 import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
-import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.Manifold;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.liquid.LIOBase;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.liquid.MultiLiquidInteractableObjectII;
 import official.sketchBook.engine.liquid_related.model.Liquid;
 import official.sketchBook.engine.liquid_related.model.LiquidData;
 import official.sketchBook.engine.liquid_related.util.LiquidRegion;
+import official.sketchBook.engine.util_related.contact_listener.ContactInterest;
+import official.sketchBook.engine.util_related.contact_listener.DeferredContactBuffer;
 import official.sketchBook.engine.util_related.contact_listener.MultiContactListener;
+import official.sketchBook.engine.util_related.enumerators.ObjectType;
 import official.sketchBook.engine.util_related.helper.GameObjectTag;
 import official.sketchBook.engine.util_related.helper.body.BodyTagHelper;
 
 import java.util.List;
 
-public class LiquidContactListener implements MultiContactListener.SubContactListener {
+public class LiquidContactListener implements MultiContactListener.DeferredSubContactListener {
+
+    /// Só contatos com o corpo de um líquido, na entrada e na saída
+    private static final ContactInterest INTEREST = new ContactInterest()
+        .any(ObjectType.LIQUID)
+        .onPhases(ContactInterest.BEGIN | ContactInterest.END);
+
+    @Override
+    public ContactInterest getInterest() {
+        return INTEREST;
+    }
 
     @Override
     public void beginContact(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
+        handle(
+            BodyTagHelper.getFromFixtureTag(contact.getFixtureA()),
+            BodyTagHelper.getFromFixtureTag(contact.getFixtureB()),
+            tagA,
+            tagB,
+            true
+        );
+    }
+
+    @Override
+    public void endContact(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
+        handle(
+            BodyTagHelper.getFromFixtureTag(contact.getFixtureA()),
+            BodyTagHelper.getFromFixtureTag(contact.getFixtureB()),
+            tagA,
+            tagB,
+            false
+        );
+    }
+
+    @Override
+    public void deferredBeginContact(DeferredContactBuffer.ContactEvent event) {
+        handle(event.getFixtureTagA(), event.getFixtureTagB(), event.getTagA(), event.getTagB(), true);
+    }
+
+    @Override
+    public void deferredEndContact(DeferredContactBuffer.ContactEvent event) {
+        handle(event.getFixtureTagA(), event.getFixtureTagB(), event.getTagA(), event.getTagB(), false);
+    }
+
+    /// Adiciona ou remove o líquido da região tocada dos objetos interativos envolvidos
+    private void handle(
+        GameObjectTag fixtureTagA,
+        GameObjectTag fixtureTagB,
+        GameObjectTag tagA,
+        GameObjectTag tagB,
+        boolean entering
+    ) {
         LiquidData liquidData =
             extractLiquidData(
                 tagA,
@@ -29,7 +79,10 @@ public class LiquidContactListener implements MultiContactListener.SubContactLis
             return;
 
         LiquidRegion region =
-            extractLiquidRegion(contact);
+            extractLiquidRegion(
+                fixtureTagA,
+                fixtureTagB
+            );
 
         if(region == null)
             return;
@@ -37,10 +90,7 @@ public class LiquidContactListener implements MultiContactListener.SubContactLis
         // Tenta interativo simples primeiro
         LIOBase simple = extractSimpleInteractable(tagA, tagB);
         if (simple != null) {
-            simple.getLiquidInteractionC().addLiquid(
-                liquidData,
-                region
-            );
+            apply(simple, liquidData, region, entering);
             return;
         }
 
@@ -50,43 +100,23 @@ public class LiquidContactListener implements MultiContactListener.SubContactLis
 
         List<? extends LIOBase> list = multi.getLiquidIObj();
         for (int i = 0; i < list.size(); i++) {
-            list.get(i).getLiquidInteractionC().addLiquid(
-                liquidData,
-                region
-            );
+            apply(list.get(i), liquidData, region, entering);
         }
     }
 
-    @Override
-    public void endContact(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
-        LiquidData liquidData = extractLiquidData(tagA, tagB);
-
-        if (liquidData == null)
-            return;
-
-        LiquidRegion region =
-            extractLiquidRegion(
-                contact
-            );
-
-        if(region == null)
-            return;
-
-        LIOBase simple = extractSimpleInteractable(tagA, tagB);
-        if (simple != null) {
-            simple.getLiquidInteractionC().removeLiquid(
+    private void apply(
+        LIOBase interactable,
+        LiquidData liquidData,
+        LiquidRegion region,
+        boolean entering
+    ) {
+        if (entering) {
+            interactable.getLiquidInteractionC().addLiquid(
                 liquidData,
                 region
             );
-            return;
-        }
-
-        MultiLiquidInteractableObjectII multi = extractMultiInteractable(tagA, tagB);
-        if (multi == null) return;
-
-        List<? extends LIOBase> list = multi.getLiquidIObj();
-        for (int i = 0; i < list.size(); i++) {
-            list.get(i).getLiquidInteractionC().removeLiquid(
+        } else {
+            interactable.getLiquidInteractionC().removeLiquid(
                 liquidData,
                 region
             );
@@ -119,14 +149,9 @@ public class LiquidContactListener implements MultiContactListener.SubContactLis
     }
 
     private LiquidRegion extractLiquidRegion(
-        Fixture fixture
+        GameObjectTag tag
     ){
 
-        GameObjectTag tag =
-            BodyTagHelper.getFromFixtureTag(
-                fixture
-            );
-
         if(
             tag == null
                 ||
@@ -141,12 +166,13 @@ public class LiquidContactListener implements MultiContactListener.SubContactLis
 
 
     private LiquidRegion extractLiquidRegion(
-        Contact contact
+        GameObjectTag fixtureTagA,
+        GameObjectTag fixtureTagB
     ){
 
         LiquidRegion region =
             extractLiquidRegion(
-                contact.getFixtureA()
+                fixtureTagA
             );
 
         if(region != null)
@@ -154,7 +180,7 @@ public class LiquidContactListener implements MultiContactListener.SubContactLis
 
 
         return extractLiquidRegion(
-            contact.getFixtureB()
+            fixtureTagB
         );
 
     }
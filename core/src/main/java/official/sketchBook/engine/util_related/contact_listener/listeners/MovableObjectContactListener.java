@@ -5,6 +5,7 @@ import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.Manifold;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.physics.MovableObjectII;
 import official.sketchBook.engine.util_related.contact_listener.ContactActions;
+import official.sketchBook.engine.util_related.contact_listener.ContactInterest;
 import official.sketchBook.engine.util_related.contact_listener.MultiContactListener;
 import official.sketchBook.engine.util_related.enumerators.Direction;
 import official.sketchBook.engine.util_related.helper.GameObjectTag;
@@ -13,6 +14,14 @@ import static official.sketchBook.engine.util_related.contact_listener.ContactAc
 
 public class MovableObjectContactListener implements MultiContactListener.SubContactListener {
 
+    /// O atrito padrão vale para qualquer par, mas só é aplicado no preSolve
+    private static final ContactInterest INTEREST = ContactInterest.phases(ContactInterest.PRE_SOLVE);
+
+    @Override
+    public ContactInterest getInterest() {
+        return INTEREST;
+    }
+
     @Override
     public void beginContact(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
 //        handle(contact, tagA, tagB);
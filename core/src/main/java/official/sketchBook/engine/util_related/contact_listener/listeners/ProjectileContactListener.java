@@ -5,14 +5,31 @@ import com.badlogic.gdx.physics.box2d.*;
 import official.sketchBook.engine.components_related.projectile.ProjectileControllerComponent;
 import official.sketchBook.engine.game_object_related.projectile_related.models.PhysicalProjectile;
 import official.sketchBook.engine.util_related.contact_listener.ContactActions;
+import official.sketchBook.engine.util_related.contact_listener.ContactInfoCache;
+import official.sketchBook.engine.util_related.contact_listener.ContactInterest;
+import official.sketchBook.engine.util_related.contact_listener.DeferredContactBuffer;
 import official.sketchBook.engine.util_related.contact_listener.MultiContactListener;
 import official.sketchBook.engine.util_related.enumerators.Direction;
+import official.sketchBook.engine.util_related.enumerators.ObjectType;
 import official.sketchBook.engine.util_related.helper.GameObjectTag;
 
-public class ProjectileContactListener implements MultiContactListener.SubContactListener {
+public class ProjectileContactListener implements MultiContactListener.DeferredSubContactListener {
+
+    /// Só contatos com projéteis, o postSolve não é usado
+    private static final ContactInterest INTEREST = new ContactInterest()
+        .any(ObjectType.PROJECTILE)
+        .onPhases(ContactInterest.BEGIN | ContactInterest.END | ContactInterest.PRE_SOLVE);
+
+    @Override
+    public ContactInterest getInterest() {
+        return INTEREST;
+    }
 
     // Cache de buffers para evitar alocação
-    private final Vector2 tmpNormal = new Vector2();
+    private final Vector2
+        tmpNormal = new Vector2(),
+        tmpPositionA = new Vector2(),
+        tmpPositionB = new Vector2();
 
     @Override
     public void beginContact(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
@@ -36,6 +53,33 @@ public class ProjectileContactListener implements MultiContactListener.SubContac
     public void postSolve(Contact contact, ContactImpulse impulse, GameObjectTag tagA, GameObjectTag tagB) {
     }
 
+    @Override
+    public void deferredBeginContact(DeferredContactBuffer.ContactEvent event) {
+        //A detecção contínua continua no preSolve, que nunca é adiado
+        //Posições gravadas junto do evento, o corpo pode ter sido destruído antes da entrega
+        dispatchBegin(
+            event.getTagA(),
+            event.getTagB(),
+            event.getBodyPositionA(tmpPositionA),
+            event.getBodyPositionB(tmpPositionB),
+            ContactActions.getCollisionDirection(event),
+            event.getNormal(tmpNormal),
+            false
+        );
+    }
+
+    @Override
+    public void deferredEndContact(DeferredContactBuffer.ContactEvent event) {
+        dispatchEnd(
+            event.getTagA(),
+            event.getTagB(),
+            event.getBodyPositionA(tmpPositionA),
+            event.getBodyPositionB(tmpPositionB),
+            ContactActions.getCollisionDirection(event),
+            event.getNormal(tmpNormal)
+        );
+    }
+
     private void disableRestitutionIfLocked(Contact contact) {
         Fixture fixtureA = contact.getFixtureA();
         PhysicalProjectile projectileA = extractProjectile(fixtureA);
@@ -65,129 +109,118 @@ public class ProjectileContactListener implements MultiContactListener.SubContac
         GameObjectTag tagB,
         boolean isContinuous
     ) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
+        // Normal e direção vêm do cache do callback, compartilhado com os outros listeners
+        ContactInfoCache.ContactInfo info = ContactInfoCache.get(contact);
+        tmpNormal.set(info.getNormal());
+
+        dispatchBegin(
+            tagA,
+            tagB,
+            contact.getFixtureA().getBody().getPosition(),
+            contact.getFixtureB().getBody().getPosition(),
+            info.getDirection(),
+            tmpNormal,
+            isContinuous
+        );
+    }
 
-        Direction collDir = getCollisionDirection(contact);
-        Body bodyA = fixtureA.getBody();
-        Body bodyB = fixtureB.getBody();
+    private void processContactEnd(
+        Contact contact,
+        GameObjectTag tagA,
+        GameObjectTag tagB
+    ) {
+        ContactInfoCache.ContactInfo info = ContactInfoCache.get(contact);
+        tmpNormal.set(info.getNormal());
+
+        dispatchEnd(
+            tagA,
+            tagB,
+            contact.getFixtureA().getBody().getPosition(),
+            contact.getFixtureB().getBody().getPosition(),
+            info.getDirection(),
+            tmpNormal
+        );
+    }
 
+    /// Tags dos corpos e posições dos corpos A e B em metros
+    private void dispatchBegin(
+        GameObjectTag tagA,
+        GameObjectTag tagB,
+        Vector2 positionA,
+        Vector2 positionB,
+        Direction collDir,
+        Vector2 normal,
+        boolean isContinuous
+    ) {
         // Cache de projéteis
-        PhysicalProjectile projectileA = extractProjectile(fixtureA);
+        PhysicalProjectile projectileA = extractProjectile(tagA);
         if (projectileA != null) {
             ProjectileControllerComponent controllerA = projectileA.getControllerC();
             if (isContinuous == controllerA.isContinuousDetection()) {
-                handleBegin(
-                    projectileA,
-                    controllerA,
-                    collDir,
-                    bodyB,
+                controllerA.markStartOfCollision(
                     tagB,
-                    contact
+                    collDir,
+                    positionA,
+                    positionB,
+                    normal
                 );
             }
         }
 
-        PhysicalProjectile projectileB = extractProjectile(fixtureB);
+        PhysicalProjectile projectileB = extractProjectile(tagB);
         if (projectileB != null) {
             ProjectileControllerComponent controllerB = projectileB.getControllerC();
             if (isContinuous == controllerB.isContinuousDetection()) {
-                handleBegin(
-                    projectileB,
-                    controllerB,
-                    collDir,
-                    bodyA,
+                controllerB.markStartOfCollision(
                     tagA,
-                    contact
+                    collDir,
+                    positionB,
+                    positionA,
+                    normal
                 );
             }
         }
     }
 
-    private void processContactEnd(
-        Contact contact,
+    private void dispatchEnd(
         GameObjectTag tagA,
-        GameObjectTag tagB
+        GameObjectTag tagB,
+        Vector2 positionA,
+        Vector2 positionB,
+        Direction collDir,
+        Vector2 normal
     ) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-
-        Direction collDir = getCollisionDirection(contact);
-        Body bodyA = fixtureA.getBody();
-        Body bodyB = fixtureB.getBody();
-
-        PhysicalProjectile projectileA = extractProjectile(fixtureA);
+        PhysicalProjectile projectileA = extractProjectile(tagA);
         if (projectileA != null) {
-            handleEnd(
-                projectileA,
-                projectileA.getControllerC(),
-                collDir,
-                bodyB,
+            projectileA.getControllerC().markEndOfCollision(
                 tagB,
-                contact
+                collDir,
+                positionA,
+                positionB,
+                normal
             );
         }
 
-        PhysicalProjectile projectileB = extractProjectile(fixtureB);
+        PhysicalProjectile projectileB = extractProjectile(tagB);
         if (projectileB != null) {
-            handleEnd(
-                projectileB,
-                projectileB.getControllerC(),
-                collDir,
-                bodyA,
+            projectileB.getControllerC().markEndOfCollision(
                 tagA,
-                contact
+                collDir,
+                positionB,
+                positionA,
+                normal
             );
         }
     }
 
-    private void handleBegin(
-        PhysicalProjectile projectile,
-        ProjectileControllerComponent controller,
-        Direction collDir,
-        Body targetBody,
-        GameObjectTag targetTag,
-        Contact contact
-    ) {
-        // Cache de normal
-        tmpNormal.set(contact.getWorldManifold().getNormal());
-
-        controller.markStartOfCollision(
-            targetTag,
-            collDir,
-            projectile.getBody().getPosition(),
-            targetBody.getPosition(),
-            tmpNormal
-        );
-    }
-
-    private void handleEnd(
-        PhysicalProjectile projectile,
-        ProjectileControllerComponent controller,
-        Direction collDir,
-        Body targetBody,
-        GameObjectTag targetTag,
-        Contact contact
-    ) {
-        // Cache de normal
-        tmpNormal.set(contact.getWorldManifold().getNormal());
-
-        controller.markEndOfCollision(
-            targetTag,
-            collDir,
-            projectile.getBody().getPosition(),
-            targetBody.getPosition(),
-            tmpNormal
-        );
-    }
-
     private PhysicalProjectile extractProjectile(Fixture fixture) {
         Object userData = fixture.getBody().getUserData();
-        if (userData instanceof GameObjectTag) {
-            GameObjectTag tag = (GameObjectTag) userData;
-            if (tag.owner instanceof PhysicalProjectile) {
-                return (PhysicalProjectile) tag.owner;
-            }
+        return userData instanceof GameObjectTag ? extractProjectile((GameObjectTag) userData) : null;
+    }
+
+    private PhysicalProjectile extractProjectile(GameObjectTag bodyTag) {
+        if (bodyTag != null && bodyTag.owner instanceof PhysicalProjectile) {
+            return (PhysicalProjectile) bodyTag.owner;
         }
         return null;
     }
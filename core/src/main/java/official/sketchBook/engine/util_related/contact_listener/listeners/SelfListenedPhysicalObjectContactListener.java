@@ -4,10 +4,11 @@ import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.Manifold;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.object_tree.physics.SelfListenedPhysicalObjectII;
+import official.sketchBook.engine.util_related.contact_listener.DeferredContactBuffer;
 import official.sketchBook.engine.util_related.contact_listener.MultiContactListener;
 import official.sketchBook.engine.util_related.helper.GameObjectTag;
 
-public class SelfListenedPhysicalObjectContactListener implements MultiContactListener.SubContactListener {
+public class SelfListenedPhysicalObjectContactListener implements MultiContactListener.DeferredSubContactListener {
     @Override
     public void beginContact(Contact contact, GameObjectTag tagA, GameObjectTag tagB) {
         if (tagA.owner instanceof SelfListenedPhysicalObjectII)
@@ -43,4 +44,40 @@ public class SelfListenedPhysicalObjectContactListener implements MultiContactLi
         if (tagB.owner instanceof SelfListenedPhysicalObjectII)
             ((SelfListenedPhysicalObjectII) tagB.owner).postSolve(contact, impulse, tagB, tagA);
     }
+
+    @Override
+    public void deferredBeginContact(DeferredContactBuffer.ContactEvent event) {
+        GameObjectTag tagA = event.getTagA();
+        GameObjectTag tagB = event.getTagB();
+
+        if (tagA.owner instanceof SelfListenedPhysicalObjectII)
+            ((SelfListenedPhysicalObjectII) tagA.owner).deferredBeginContact(event, tagA, tagB);
+
+        if (tagB.owner instanceof SelfListenedPhysicalObjectII)
+            ((SelfListenedPhysicalObjectII) tagB.owner).deferredBeginContact(event, tagB, tagA);
+    }
+
+    @Override
+    public void deferredEndContact(DeferredContactBuffer.ContactEvent event) {
+        GameObjectTag tagA = event.getTagA();
+        GameObjectTag tagB = event.getTagB();
+
+        if (tagA.owner instanceof SelfListenedPhysicalObjectII)
+            ((SelfListenedPhysicalObjectII) tagA.owner).deferredEndContact(event, tagA, tagB);
+
+        if (tagB.owner instanceof SelfListenedPhysicalObjectII)
+            ((SelfListenedPhysicalObjectII) tagB.owner).deferredEndContact(event, tagB, tagA);
+    }
+
+    @Override
+    public void deferredPostSolve(DeferredContactBuffer.ContactEvent event) {
+        GameObjectTag tagA = event.getTagA();
+        GameObjectTag tagB = event.getTagB();
+
+        if (tagA.owner instanceof SelfListenedPhysicalObjectII)
+            ((SelfListenedPhysicalObjectII) tagA.owner).deferredPostSolve(event, tagA, tagB);
+
+        if (tagB.owner instanceof SelfListenedPhysicalObjectII)
+            ((SelfListenedPhysicalObjectII) tagB.owner).deferredPostSolve(event, tagB, tagA);
+    }
 }
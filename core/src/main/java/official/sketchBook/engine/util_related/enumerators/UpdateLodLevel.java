@@ -0,0 +1,8 @@
+package official.sketchBook.engine.util_related.enumerators;
+
+/// Nível de simulação de um objeto, definido pela distância até a área visível
+public enum UpdateLodLevel {
+    FULL,       //Em tela, atualiza todo passo
+    REDUCED,    //Perto da tela, atualiza na taxa reduzida da política
+    SLEEPING    //Longe da tela, não atualiza até acordar
+}
@@ -54,23 +54,57 @@ public class RoomBodyFactoryHelper {
         //Obtém a quantidade das colunas, também conhecida como largura do mundo
         int cols = tiles[0].length;
 
-        //Matriz contendo uma validação para saber se já visitamos aquela tile
-        boolean[][] visited = new boolean[rows][cols];
+        //Retângulos fundidos da sala inteira
+        List<TileRect> rects = new ArrayList<>();
+        mergeTileRects(tiles, 0, 0, cols, rows, rects);
 
         //Lista das bodies que criamos
         List<Body> bodies = new ArrayList<>();
 
+        for (int i = 0; i < rects.size(); i++) {
+            createRectBodies(rects.get(i), world, rows, bodies);
+        }
+
+        return bodies;
+    }
+
+    /**
+     * Funde as tiles sólidas de um trecho da grid em retângulos, sem tocar no mundo físico.
+     * Não usa estado compartilhado, pode rodar fora da thread de simulação.
+     * <p>
+     * Os retângulos nunca passam dos limites do trecho, mas a validação de vizinhas
+     * olha a grid inteira, então trechos vizinhos geram o mesmo resultado que a sala inteira
+     * geraria nas bordas entre eles
+     *
+     * @param tiles  dados das bodys das tiles da sala inteira
+     * @param startX primeira coluna do trecho
+     * @param startY primeira linha do trecho
+     * @param endX   coluna final do trecho (exclusiva)
+     * @param endY   linha final do trecho (exclusiva)
+     * @param out    lista onde os retângulos são adicionados, em coordenadas da grid
+     */
+    public static void mergeTileRects(
+        TileBodyType[][] tiles,
+        int startX,
+        int startY,
+        int endX,
+        int endY,
+        List<TileRect> out
+    ) {
+        //Matriz contendo uma validação para saber se já visitamos aquela tile, relativa ao trecho
+        boolean[][] visited = new boolean[endY - startY][endX - startX];
+
         /*
          *   Vale lembrar que temos uma body para cada tipo de body de tile,
          *  ou seja uma slope corresponderá a uma body diferente de um bloco quadrado comum
          */
 
         // Percorre o mapa de cima para baixo
-        for (int y = 0; y < rows; y++) {    //Da esquerda para direita
-            for (int x = 0; x < cols; x++) {
+        for (int y = startY; y < endY; y++) {    //Da esquerda para direita
+            for (int x = startX; x < endX; x++) {
 
                 // Verifica se ainda não visitou e se é sólida e se devemos criar ela
-                if (!visited[y][x]
+                if (!visited[y - startY][x - startX]
                     && tiles[y][x].isSolid()
                     && shouldCreateBody(
                     x,
@@ -87,9 +121,9 @@ public class RoomBodyFactoryHelper {
                     // Se a tile pode ser merged, tenta encontrar o maior retângulo
                     if (currentType.isMergeable()) {
                         // Encontra a largura
-                        while (x + width < cols &&
+                        while (x + width < endX &&
                             tiles[y][x + width] == currentType &&
-                            !visited[y][x + width]
+                            !visited[y - startY][x + width - startX]
                         ) {
                             width++;
                         }
@@ -97,11 +131,11 @@ public class RoomBodyFactoryHelper {
                         // Encontra a altura
                         boolean done = false;
                         while (!done &&
-                            y + height < rows
+                            y + height < endY
                         ) {
                             for (int dx = 0; dx < width; dx++) {
                                 if (tiles[y + height][x + dx] != currentType ||
-                                    visited[y + height][x + dx]
+                                    visited[y + height - startY][x + dx - startX]
                                 ) {
                                     done = true;
                                     break;
@@ -117,30 +151,53 @@ public class RoomBodyFactoryHelper {
                     // Marca como visitado
                     for (int dy = 0; dy < height; dy++) {
                         for (int dx = 0; dx < width; dx++) {
-                            visited[y + dy][x + dx] = true;
+                            visited[y + dy - startY][x + dx - startX] = true;
                         }
                     }
 
-                    // Obtém a factory e cria as bodies
-                    TileBodyFactory factory = getFactory(currentType);
-                    List<Body> createdBodies = factory.createBodies(
-                        world,
-                        currentType,
-                        x,
-                        y,
-                        width,
-                        height,
-                        rows
+                    out.add(
+                        new TileRect(
+                            currentType,
+                            x,
+                            y,
+                            width,
+                            height
+                        )
                     );
-
-                    bodies.addAll(createdBodies);
                 }
 
             }
 
         }
+    }
 
-        return bodies;
+    /**
+     * Cria as bodies de um retângulo fundido, deve rodar na thread de simulação
+     *
+     * @param rect      retângulo vindo de mergeTileRects
+     * @param world     mundo onde iremos instanciar as body
+     * @param totalRows total de linhas da grid da sala, usado para inverter o eixo y
+     * @param out       lista onde as bodies criadas são adicionadas
+     */
+    public static void createRectBodies(
+        TileRect rect,
+        World world,
+        int totalRows,
+        List<Body> out
+    ) {
+        // Obtém a factory e cria as bodies
+        TileBodyFactory factory = getFactory(rect.type);
+        List<Body> createdBodies = factory.createBodies(
+            world,
+            rect.type,
+            rect.x,
+            rect.y,
+            rect.width,
+            rect.height,
+            totalRows
+        );
+
+        out.addAll(createdBodies);
     }
 
     /**
@@ -186,4 +243,28 @@ public class RoomBodyFactoryHelper {
 
         return tileIds;
     }
+
+    /// Retângulo de tiles do mesmo tipo já fundidas, em coordenadas da grid, ainda sem body
+    public static final class TileRect {
+        public final TileBodyType type;
+        public final int
+            x,
+            y,
+            width,
+            height;
+
+        public TileRect(
+            TileBodyType type,
+            int x,
+            int y,
+            int width,
+            int height
+        ) {
+            this.type = type;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+    }
 }
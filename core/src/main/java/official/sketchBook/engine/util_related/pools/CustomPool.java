@@ -4,6 +4,9 @@ import com.badlogic.gdx.utils.Array;
 
 public abstract class CustomPool<T extends CustomPool.Poolable> {
 
+    /// Slot de um objeto que não está em nenhuma das listas da pool
+    public static final int NO_SLOT = -1;
+
     public final int max;
     public int peak;
     protected final Array<T>
@@ -31,10 +34,64 @@ public abstract class CustomPool<T extends CustomPool.Poolable> {
     /// retorna um novo objeto ou um objeto da lista livre
     public final T obtain() {
         T obj = freeObjects.isEmpty() ? newObject() : freeObjects.pop();
-        activeObjects.add(obj);
+        pushActive(obj);
         return obj;
     }
 
+    /**
+     * Passa um objeto da lista livre para a lista de ativos sem passar pelo obtain.
+     * Não faz nada caso o objeto já esteja ativo
+     */
+    protected final void moveToActive(T object) {
+        int slot = object.getPoolSlot();
+        if (slot >= 0) return;
+
+        if (slot != NO_SLOT) removeFree(object);
+        pushActive(object);
+    }
+
+    /// Adiciona no fim da lista de ativos guardando a posição no objeto
+    private void pushActive(T object) {
+        object.setPoolSlot(activeObjects.size);
+        activeObjects.add(object);
+    }
+
+    /// Adiciona no fim da lista livre guardando a posição no objeto
+    private void pushFree(T object) {
+        object.setPoolSlot(toFreeSlot(freeObjects.size));
+        freeObjects.add(object);
+    }
+
+    /// Remove da lista de ativos trocando com o último, O(1)
+    private void removeActive(T object) {
+        removeAt(activeObjects, object.getPoolSlot(), false);
+        object.setPoolSlot(NO_SLOT);
+    }
+
+    /// Remove da lista livre trocando com o último, O(1)
+    private void removeFree(T object) {
+        removeAt(freeObjects, toFreeIndex(object.getPoolSlot()), true);
+        object.setPoolSlot(NO_SLOT);
+    }
+
+    private static <T extends Poolable> void removeAt(Array<T> list, int index, boolean freeList) {
+        //A Array não ordenada move o último item para a posição removida
+        list.removeIndex(index);
+
+        if (index < list.size) {
+            list.get(index).setPoolSlot(freeList ? toFreeSlot(index) : index);
+        }
+    }
+
+    /// Posições na lista livre são guardadas como negativos a partir de -2, -1 indica fora da pool
+    private static int toFreeSlot(int index) {
+        return -index - 2;
+    }
+
+    private static int toFreeIndex(int slot) {
+        return -slot - 2;
+    }
+
     /// Destrói o objeto
     protected void destroy(T object) {
         object.destroy();
@@ -48,7 +105,7 @@ public abstract class CustomPool<T extends CustomPool.Poolable> {
     /// Destrói o objeto e remove ele da lista
     protected void discard(T object) {
         destroy(object);
-        this.freeObjects.removeValue(object, true);
+        if (object.getPoolSlot() < NO_SLOT) removeFree(object);
     }
 
     /// Realiza uma liberação dos objetos, ou seja passamos eles para uma lista de objetos para serem reutilizados
@@ -56,22 +113,29 @@ public abstract class CustomPool<T extends CustomPool.Poolable> {
         if (object == null)
             throw new IllegalArgumentException("object cannot be null.");
 
-        activeObjects.removeValue(object, true);
+        //Já está livre, liberar de novo duplicaria o objeto na lista livre
+        if (object.getPoolSlot() < NO_SLOT) return;
+
+        release(object);
+        peak = Math.max(peak, freeObjects.size);
+    }
+
+    /// Tira o objeto dos ativos e manda para a lista livre, ou descarta caso ela esteja cheia
+    private void release(T object) {
+        if (object.getPoolSlot() >= 0) removeActive(object);
 
         if (freeObjects.size < max) {
-            freeObjects.add(object);
-            peak = Math.max(peak, freeObjects.size);
+            pushFree(object);
             reset(object);
         } else {
             this.discard(object);
         }
-
     }
 
     /// Preenche todos os espaços livres com objetos novos desejados
     public void fill(int size) {
         for (int i = 0; i < size && freeObjects.size < max; ++i) {
-            freeObjects.add(newObject());
+            pushFree(newObject());
         }
         peak = Math.max(peak, freeObjects.size);
     }
@@ -86,19 +150,12 @@ public abstract class CustomPool<T extends CustomPool.Poolable> {
         if (objects == null) {
             throw new IllegalArgumentException("objects cannot be null.");
         } else {
-            Array<T> freeObjects = this.freeObjects;
-            int max = this.max;
             int i = 0;
 
             for (int n = objects.size; i < n; ++i) {
                 T object = objects.get(i);
-                if (object != null) {
-                    if (freeObjects.size < max) {
-                        freeObjects.add(object);
-                        reset(object);
-                    } else {
-                        this.discard(object);
-                    }
+                if (object != null && object.getPoolSlot() >= NO_SLOT) {
+                    release(object);
                 }
             }
 
@@ -139,5 +196,14 @@ public abstract class CustomPool<T extends CustomPool.Poolable> {
 
         /// Verifica se estamos limpos e prontos para sermos usados, é mais para uso interno do que da lógica da pool mesmo
         boolean isReset();
+
+        /**
+         * Posição do objeto dentro da pool, mantida apenas pela própria pool.
+         * Permite remover das listas sem busca linear.
+         * Deve começar como {@link CustomPool#NO_SLOT}
+         */
+        int getPoolSlot();
+
+        void setPoolSlot(int slot);
     }
 }
@@ -7,8 +7,7 @@ import official.sketchBook.game.util_related.pools.ProjectilePool;
 import java.util.HashMap;
 import java.util.Map;
 
-import static official.sketchBook.game.util_related.constants.WorldConstants.ProjectilePoolConstants.POOL_CLEAN_INTERVAL_S;
-import static official.sketchBook.game.util_related.constants.WorldConstants.ProjectilePoolConstants.POOL_REMOVE_INTERVAL_S;
+import static official.sketchBook.game.util_related.constants.WorldConstants.ProjectilePoolConstants.*;
 
 public class GlobalProjectilePool {
     /// Mapa de pools de projéteis por tipo
@@ -22,6 +21,12 @@ public class GlobalProjectilePool {
     /// Tempo de destruição de pools
     private final TimerComponent poolDeleteTimer;
 
+    /// Pedidos de projéteis vindos de outras threads, processados antes do step do mundo
+    private final ProjectileSpawnQueue spawnQueue;
+
+    /// Handler do drain guardado em campo para não alocar uma lambda por passo
+    private final ProjectileSpawnQueue.SpawnHandler spawnHandler = this::spawnRequested;
+
     private boolean disposed = false;
 
     public GlobalProjectilePool() {
@@ -33,6 +38,8 @@ public class GlobalProjectilePool {
 
         this.poolDeleteTimer = new TimerComponent(POOL_REMOVE_INTERVAL_S);
         this.poolDeleteTimer.start();
+
+        this.spawnQueue = new ProjectileSpawnQueue(SPAWN_QUEUE_CAPACITY);
     }
 
     public void update(float delta) {
@@ -132,9 +139,56 @@ public class GlobalProjectilePool {
         return pool.obtain();
     }
 
+    /**
+     * Pede um projétil de forma assíncrona, pode ser chamado de qualquer thread.
+     * O projétil é obtido, ativado e (opcionalmente) disparado pela thread de
+     * simulação no próximo processSpawnRequests, antes do step do mundo
+     *
+     * @return false caso a fila esteja cheia e o pedido tenha sido descartado
+     */
+    public boolean requestProjectile(
+        Class<? extends BaseProjectile> type,
+        float x,
+        float y,
+        float rotation,
+        boolean launch
+    ) {
+        if (disposed) return false;
+        return spawnQueue.request(type, x, y, rotation, launch);
+    }
+
+    /**
+     * Ativa os projéteis pedidos por outras threads, até o limite por passo.
+     * Deve ser chamado pela thread de simulação antes do World.step, para todas
+     * as bodies novas entrarem juntas no mesmo step
+     *
+     * @return quantidade de pedidos processados
+     */
+    public int processSpawnRequests() {
+        if (disposed) return 0;
+        return spawnQueue.drain(spawnHandler, MAX_SPAWN_REQUESTS_PER_STEP);
+    }
+
+    private void spawnRequested(
+        Class<? extends BaseProjectile> type,
+        float x,
+        float y,
+        float rotation,
+        boolean launch
+    ) {
+        BaseProjectile projectile = returnProjectileRequested(type);
+        //Pool cheia, o pedido é descartado como aconteceria com um obtain direto
+        if (projectile == null) return;
+
+        projectile.activate(x, y, rotation);
+        if (launch) projectile.launch();
+    }
+
     public void dispose() {
         if (disposed) return;
 
+        spawnQueue.clear();
+
         for (ProjectilePool<?> pool : poolMap.values()) {
             pool.dispose();
         }
@@ -171,6 +225,10 @@ public class GlobalProjectilePool {
         return poolMap.size();
     }
 
+    public int getPendingSpawnRequests() {
+        return spawnQueue.getPendingCount();
+    }
+
     public void setFactories(Map<Class<? extends BaseProjectile>, ProjectilePoolFactory<?>> factories) {
         this.factories = factories;
     }
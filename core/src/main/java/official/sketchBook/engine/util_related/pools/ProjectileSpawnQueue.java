@@ -0,0 +1,223 @@
+package official.sketchBook.engine.util_related.pools;
+
+import official.sketchBook.engine.game_object_related.projectile_related.models.BaseProjectile;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fila de pedidos de spawn de projéteis, com vários produtores e um único consumidor.
+ * <p>
+ * Qualquer thread (IA, script, rede) pode pedir um projétil com request(), sem
+ * travas e sem alocar depois do aquecimento. Apenas a thread de simulação
+ * chama drain(), já que obter o projétil e ativar a body mexe na pool e no
+ * mundo do Box2D, que não são thread-safe.
+ * <p>
+ * A fila é intrusiva (o próprio pedido é o nó) e cada thread produtora tem
+ * seu cache de pedidos livres. O consumidor devolve cada pedido processado
+ * para o cache da thread que o criou por uma pilha atômica, então nenhuma
+ * das pontas disputa uma lista compartilhada de nós.
+ */
+public class ProjectileSpawnQueue {
+
+    /// Quantidade máxima de pedidos aguardando processamento, pedidos acima disso são recusados
+    private final int capacity;
+
+    /// Pedidos ainda não consumidos
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /// Último nó da fila, disputado pelos produtores
+    private final AtomicReference<SpawnRequest> tail;
+
+    /// Último nó já consumido, só a thread de simulação acessa
+    private SpawnRequest head;
+
+    /// Cache de pedidos livres de cada thread produtora
+    private final ThreadLocal<RequestCache> caches = new ThreadLocal<RequestCache>() {
+        @Override
+        protected RequestCache initialValue() {
+            return new RequestCache();
+        }
+    };
+
+    public ProjectileSpawnQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacidade da fila de spawn deve ser maior que 0");
+        }
+
+        this.capacity = capacity;
+
+        //Nó sentinela, nunca volta para nenhum cache
+        SpawnRequest stub = new SpawnRequest(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Pede um projétil, pode ser chamado de qualquer thread.
+     *
+     * @param type     tipo do projétil
+     * @param x        posição x de ativação em pixels
+     * @param y        posição y de ativação em pixels
+     * @param rotation rotação de ativação
+     * @param launch   se o projétil deve ser disparado logo após a ativação
+     * @return false caso a fila esteja cheia e o pedido tenha sido descartado
+     */
+    public boolean request(
+        Class<? extends BaseProjectile> type,
+        float x,
+        float y,
+        float rotation,
+        boolean launch
+    ) {
+        if (type == null) {
+            throw new IllegalArgumentException("Tipo do projétil não pode ser null");
+        }
+
+        //Reserva a vaga antes de publicar, assim a capacidade nunca é ultrapassada
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            return false;
+        }
+
+        SpawnRequest request = caches.get().obtain();
+        request.type = type;
+        request.x = x;
+        request.y = y;
+        request.rotation = rotation;
+        request.launch = launch;
+        request.next = null;
+
+        //Publica o nó: primeiro tomamos a cauda, depois ligamos a antiga a ele
+        SpawnRequest previous = tail.getAndSet(request);
+        previous.next = request;
+
+        return true;
+    }
+
+    /**
+     * Processa até maxRequests pedidos na ordem em que foram publicados.
+     * Só pode ser chamado pela thread de simulação
+     *
+     * @return quantidade de pedidos processados
+     */
+    public int drain(SpawnHandler handler, int maxRequests) {
+        int processed = 0;
+
+        while (processed < maxRequests) {
+            SpawnRequest next = head.next;
+            //Fila vazia, ou um produtor tomou a cauda mas ainda não ligou o nó
+            if (next == null) break;
+
+            //O nó anterior não é mais alcançável por ninguém, pode voltar para o cache dele
+            SpawnRequest consumed = head;
+            head = next;
+            recycle(consumed);
+
+            pending.decrementAndGet();
+            processed++;
+
+            handler.spawn(
+                next.type,
+                next.x,
+                next.y,
+                next.rotation,
+                next.launch
+            );
+
+            //Solta a referência da classe, o nó continua como sentinela até o próximo drain
+            next.type = null;
+        }
+
+        return processed;
+    }
+
+    /// Descarta todos os pedidos pendentes sem processar
+    public void clear() {
+        while (head.next != null) {
+            SpawnRequest consumed = head;
+            head = head.next;
+            head.type = null;
+            recycle(consumed);
+            pending.decrementAndGet();
+        }
+    }
+
+    private static void recycle(SpawnRequest request) {
+        if (request.owner != null) request.owner.giveBack(request);
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /// Recebe os pedidos na thread de simulação
+    public interface SpawnHandler {
+        void spawn(
+            Class<? extends BaseProjectile> type,
+            float x,
+            float y,
+            float rotation,
+            boolean launch
+        );
+    }
+
+    /// Pedido de spawn, também é o nó da fila
+    private static final class SpawnRequest {
+        /// Cache da thread que criou o pedido, null no sentinela inicial
+        private final RequestCache owner;
+
+        /// Próximo nó da fila, escrito pelo produtor e lido pelo consumidor
+        private volatile SpawnRequest next;
+
+        /// Próximo nó livre, na lista local do cache ou na pilha de devolução
+        private SpawnRequest nextFree;
+
+        private Class<? extends BaseProjectile> type;
+        private float
+            x,
+            y,
+            rotation;
+        private boolean launch;
+
+        private SpawnRequest(RequestCache owner) {
+            this.owner = owner;
+        }
+    }
+
+    /// Pedidos livres de uma thread produtora
+    private static final class RequestCache {
+        /// Lista livre acessada só pela thread dona
+        private SpawnRequest localFree;
+
+        /// Pedidos devolvidos pelo consumidor, esvaziada de uma vez pela thread dona
+        private final AtomicReference<SpawnRequest> returned = new AtomicReference<>();
+
+        private SpawnRequest obtain() {
+            if (localFree == null) {
+                //Pega tudo que o consumidor devolveu desde a última vez
+                localFree = returned.getAndSet(null);
+            }
+
+            if (localFree == null) return new SpawnRequest(this);
+
+            SpawnRequest request = localFree;
+            localFree = request.nextFree;
+            request.nextFree = null;
+            return request;
+        }
+
+        /// Chamado pelo consumidor, empilha o pedido sem travar
+        private void giveBack(SpawnRequest request) {
+            SpawnRequest top;
+            do {
+                top = returned.get();
+                request.nextFree = top;
+            } while (!returned.compareAndSet(top, request));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package official.sketchBook.engine.util_related.texture;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import official.sketchBook.engine.animation_rendering_related.SpriteRegionCache;
+
+import static official.sketchBook.engine.util_related.path.AssetsPaths.BasePath.ATLASES;
+import static official.sketchBook.engine.util_related.path.AssetsPaths.SpriteSheetPath.BASE_SS_PATH;
+import static official.sketchBook.game.util_related.constants.RenderingConstants.ATLAS_PAGE_PADDING;
+import static official.sketchBook.game.util_related.constants.RenderingConstants.ATLAS_PAGE_SIZE;
+
+/**
+ * Atlas único de todas as sprite sheets do jogo.
+ * <p>
+ * Se o atlas pré-empacotado (gerado pela task packTextures do módulo lwjgl3)
+ * existir em ATLAS_PATH, ele é usado direto. Caso contrário as sheets são
+ * empacotadas em tempo de carregamento, conforme forem pedidas, em páginas
+ * compartilhadas de um PixmapPacker.
+ * <p>
+ * Em ambos os casos todas as sheets caem em poucas texturas, então o
+ * SpriteBatch quase não precisa trocar de textura (e dar flush) entre objetos.
+ * As regiões são nomeadas pelo caminho relativo a BASE_SS_PATH sem extensão,
+ * mesma convenção do TexturePacker (ex: "entities/duck-sheet").
+ * <p>
+ * Precisa ser usado na thread do GL.
+ */
+public final class SpriteSheetAtlas {
+
+    /// Caminho do atlas pré-empacotado
+    public static final String ATLAS_PATH = ATLASES + "sprite_sheets.atlas";
+
+    private static TextureAtlas atlas;
+
+    /// Empacotador usado apenas quando não existe atlas pré-empacotado
+    private static PixmapPacker runtimePacker;
+
+    private SpriteSheetAtlas() {
+    }
+
+    /**
+     * Obtém a região do atlas correspondente a uma sprite sheet
+     *
+     * @param sheetPath caminho da sheet original, dentro de BASE_SS_PATH
+     */
+    public static TextureRegion getRegion(String sheetPath) {
+        ensureLoaded();
+
+        String regionName = toRegionName(sheetPath);
+
+        TextureRegion region = atlas.findRegion(regionName);
+        if (region != null) return region;
+
+        if (runtimePacker == null) {
+            throw new IllegalStateException(
+                "Sheet '" + regionName + "' não existe no atlas pré-empacotado, rode a task packTextures"
+            );
+        }
+
+        return packAtRuntime(sheetPath, regionName);
+    }
+
+    private static void ensureLoaded() {
+        if (atlas != null) return;
+
+        FileHandle packedAtlas = Gdx.files.internal(ATLAS_PATH);
+        if (packedAtlas.exists()) {
+            atlas = new TextureAtlas(packedAtlas);
+            return;
+        }
+
+        runtimePacker = new PixmapPacker(
+            ATLAS_PAGE_SIZE,
+            ATLAS_PAGE_SIZE,
+            Pixmap.Format.RGBA8888,
+            ATLAS_PAGE_PADDING,
+            false
+        );
+        atlas = new TextureAtlas();
+    }
+
+    private static TextureRegion packAtRuntime(String sheetPath, String regionName) {
+        Pixmap sheet = new Pixmap(Gdx.files.internal(sheetPath));
+
+        try {
+            runtimePacker.pack(regionName, sheet);
+        } finally {
+            sheet.dispose();
+        }
+
+        //Reenvia apenas as páginas alteradas, regiões já entregues continuam válidas
+        runtimePacker.updateTextureAtlas(
+            atlas,
+            Texture.TextureFilter.Nearest,
+            Texture.TextureFilter.Nearest,
+            false
+        );
+
+        return atlas.findRegion(regionName);
+    }
+
+    /// Converte o caminho da sheet para o nome da região no atlas
+    static String toRegionName(String sheetPath) {
+        if (sheetPath == null) {
+            throw new IllegalArgumentException("Caminho da sheet não pode ser null");
+        }
+
+        String name = sheetPath.startsWith(BASE_SS_PATH) ?
+            sheetPath.substring(BASE_SS_PATH.length()) :
+            sheetPath;
+
+        int extension = name.lastIndexOf('.');
+        return extension > 0 ? name.substring(0, extension) : name;
+    }
+
+    /// Libera as páginas do atlas e as regiões em cache que apontam para elas
+    public static void dispose() {
+        if (atlas == null) return;
+
+        for (Texture page : atlas.getTextures()) {
+            SpriteRegionCache.evict(page);
+        }
+
+        atlas.dispose();
+        atlas = null;
+
+        if (runtimePacker != null) {
+            runtimePacker.dispose();
+            runtimePacker = null;
+        }
+    }
+}
@@ -4,12 +4,16 @@ import official.sketchBook.engine.components_related.intefaces.base_interfaces.M
 import official.sketchBook.engine.game_object_related.base_game_object.BaseGameObject;
 import official.sketchBook.engine.game_object_related.base_game_object.BaseRoomGameObject;
 import official.sketchBook.engine.util_related.enumerators.RoomObjectScope;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper.TileRect;
 import official.sketchBook.engine.world_gen.model.PlayableRoom;
 import official.sketchBook.engine.world_gen.model.TileModel;
 import official.sketchBook.game.util_related.body.world_gen.RoomBodyFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static official.sketchBook.game.util_related.constants.WorldConstants.RoomStreamingConstants.*;
 import static official.sketchBook.game.util_related.constants.WorldConstants.TILE_SIZE_PX;
 
 public class PlayableRoomManager {
@@ -66,14 +70,82 @@ public class PlayableRoomManager {
         //Determina a altura da sala em pixels com base na constante de dimensões do sistema de grid
         room.roomHeightPx = room.gridHeight * TILE_SIZE_PX;
 
+        initRoomBodies(room);
+    }
+
+    /**
+     * Inicializa uma sala lida pelo RoomFileReader, cujas dimensões, modelos de tile e grid mapeada já vieram do arquivo
+     *
+     * @param room sala carregada
+     */
+    public void initLoadedRoom(PlayableRoom room) {
+        if (room.mappedGrid == null) {
+            throw new IllegalArgumentException("A sala não foi carregada de um arquivo");
+        }
+
+        initRoomBodies(room);
+    }
+
+    /// Cria as bodies das tiles de uma vez ou prepara o streaming por chunks
+    private void initRoomBodies(PlayableRoom room) {
         //Se não temos um mundo físico não podemos prosseguir nesse ponto
         if (!room.isPhysicsWorldAccessible()) return;
 
+        //Com streaming as bodies são criadas por chunk, ao redor da câmera
+        if (ROOM_STREAMING) {
+            room.chunkStreamer = new RoomChunkStreamer(
+                room,
+                ROOM_CHUNK_SIZE_TILES
+            );
+            return;
+        }
+
         createTileBodies(room);
     }
 
+    /**
+     * Carrega e descarrega os chunks da sala com base na área da câmera, sem efeito em salas sem streaming.
+     * Deve ser chamado pela thread de simulação, antes do step
+     *
+     * @param room sala atual
+     */
+    public void updateRoomStreaming(
+        PlayableRoom room,
+        float viewMinX,
+        float viewMinY,
+        float viewMaxX,
+        float viewMaxY
+    ) {
+        if (room == null || room.chunkStreamer == null) return;
+
+        room.chunkStreamer.update(
+            viewMinX,
+            viewMinY,
+            viewMaxX,
+            viewMaxY,
+            (long) (ROOM_CHUNK_APPLY_BUDGET_MS * 1_000_000L)
+        );
+    }
+
     /// Cria as bodies das tiles
     public void createTileBodies(PlayableRoom room) {
+        //Retângulos já fundidos no arquivo da sala, não precisamos percorrer a grid
+        if (room.premergedRects != null) {
+            List<TileRect> rects = new ArrayList<>(room.premergedRects.getRectCount());
+            room.premergedRects.collectAll(rects);
+
+            room.nativeBodies = new ArrayList<>();
+            for (int i = 0; i < rects.size(); i++) {
+                RoomBodyFactoryHelper.createRectBodies(
+                    rects.get(i),
+                    room.getPhysicsWorld(),
+                    room.gridHeight,
+                    room.nativeBodies
+                );
+            }
+            return;
+        }
+
         //Criamos as bodies das tiles da sala e armazenamos como bodies nativas da sala
         room.nativeBodies = RoomBodyFactory.createRoomBodies(
             prepareBodyIdGrid(room),
@@ -81,19 +153,20 @@ public class PlayableRoomManager {
         );
     }
 
-    /// Percorre a grid e insere dentro da grid de body a id correspondente
-    private int[][] prepareBodyIdGrid(
+    /// Percorre a grid e insere dentro da grid de body a id correspondente.
+    /// Apenas lê a sala, o RoomChunkStreamer chama fora da thread de simulação
+    public static int[][] prepareBodyIdGrid(
         PlayableRoom room
     ) {
         //Inicializa a grid das body
         int[][] bodyIdGrid = new int[room.gridHeight][room.gridWidth];
 
-        for (int h = 0; h < room.grid.length; h++) {
-            for (int w = 0; w < room.grid[0].length; w++) {
+        for (int h = 0; h < room.gridHeight; h++) {
+            for (int w = 0; w < room.gridWidth; w++) {
 
                 //Obtemos a tile da coordenada passada
                 TileModel currentTile = room.tileModelIdMap.get(
-                    room.grid[h][w]
+                    room.getTileId(w, h)
                 );
 
                 //Se houver uma tile e sua id de body tiver sido passada
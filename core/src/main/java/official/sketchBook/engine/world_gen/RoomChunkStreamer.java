@@ -0,0 +1,462 @@
+package official.sketchBook.engine.world_gen;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper.TileRect;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
+import official.sketchBook.engine.world_gen.model.PremergedRoomRects;
+import official.sketchBook.engine.world_gen.model.RoomChunk;
+import official.sketchBook.game.util_related.enumerators.TileBodyType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.PPM;
+import static official.sketchBook.game.util_related.constants.WorldConstants.RoomStreamingConstants.ROOM_CHUNK_LOAD_MARGIN;
+import static official.sketchBook.game.util_related.constants.WorldConstants.RoomStreamingConstants.ROOM_CHUNK_UNLOAD_MARGIN;
+import static official.sketchBook.game.util_related.constants.WorldConstants.TILE_SIZE_PX;
+
+/**
+ * Carrega as bodies das tiles de uma sala por chunks, ao redor da câmera.
+ * <p>
+ * A parte pesada e sem Box2D (converter os ids e fundir as tiles em retângulos,
+ * ou apenas ler os retângulos do arquivo da sala) roda em uma thread de construção própria. A criação das bodies, que só pode
+ * acontecer na thread de simulação, é feita em fatias limitadas por tempo a cada
+ * passo. Chunks que saem da área da câmera (com folga) têm as bodies destruídas,
+ * então a quantidade de bodies vivas não depende do tamanho da sala.
+ * Um chunk com algum corpo dinâmico sobre ele continua carregado até o corpo sair,
+ * assim nada cai pelo chão fora da tela.
+ * <p>
+ * Com exceção da thread interna, tudo deve ser chamado pela thread de simulação.
+ */
+public class RoomChunkStreamer {
+
+    /// Tempo máximo esperando a thread de construção terminar no dispose
+    private static final long SHUTDOWN_TIMEOUT_MS = 500;
+
+    private final PlayableRoom room;
+    private final World world;
+
+    /// Lado de cada chunk em tiles e quantidade de chunks em cada eixo
+    private final int
+        chunkSize,
+        chunksX,
+        chunksY;
+
+    private final RoomChunk[] chunks;
+
+    /// Chunks que não estão descarregados, percorridos para decidir o que sai
+    private final List<RoomChunk> activeChunks = new ArrayList<>();
+
+    /// Chunks com retângulos prontos aguardando as bodies, em ordem de chegada
+    private final ArrayDeque<RoomChunk> applyQueue = new ArrayDeque<>();
+
+    /// Montagens concluídas pela thread de construção, consumidas na thread de simulação
+    private final ConcurrentLinkedQueue<ChunkBuild> finishedBuilds = new ConcurrentLinkedQueue<>();
+
+    /// Executor de uma única thread, as montagens rodam na ordem dos pedidos
+    private final ExecutorService builder;
+
+    /// Tipos de body da grid inteira, só acessados pela thread de construção
+    private TileBodyType[][] bodyTypes;
+
+    /// Retângulos já fundidos no arquivo da sala com o mesmo tamanho de chunk, null quando montamos a partir da grid
+    private final PremergedRoomRects premergedRects;
+
+    /// Área da câmera do último update, em chunks
+    private int
+        viewMinChunkX,
+        viewMinChunkY,
+        viewMaxChunkX,
+        viewMaxChunkY;
+
+    private int loadedBodyCount = 0;
+
+    /// Resultado da consulta de corpos dinâmicos, preenchido pelo callback abaixo
+    private boolean dynamicBodyFound;
+
+    /// Callback reutilizado na consulta de cada chunk, para ao achar o primeiro corpo dinâmico
+    private final QueryCallback dynamicBodyQuery = fixture -> {
+        Body body = fixture.getBody();
+        if (body.getType() != BodyDef.BodyType.DynamicBody) return true;
+
+        dynamicBodyFound = true;
+        return false;
+    };
+
+    /// Os chunks visíveis no primeiro update são montados antes do primeiro step
+    private boolean primed = false;
+    private boolean disposed = false;
+
+    public RoomChunkStreamer(
+        PlayableRoom room,
+        int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Tamanho do chunk deve ser maior que 0");
+        }
+
+        if (!room.isPhysicsWorldAccessible()) {
+            throw new IllegalArgumentException("A sala precisa de um mundo físico para carregar chunks");
+        }
+
+        this.room = room;
+        this.world = room.getPhysicsWorld();
+        this.chunkSize = chunkSize;
+        this.chunksX = (room.gridWidth + chunkSize - 1) / chunkSize;
+        this.chunksY = (room.gridHeight + chunkSize - 1) / chunkSize;
+
+        this.chunks = new RoomChunk[chunksX * chunksY];
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                chunks[cy * chunksX + cx] = new RoomChunk(
+                    cx,
+                    cy,
+                    cx * chunkSize,
+                    cy * chunkSize,
+                    Math.min(room.gridWidth, (cx + 1) * chunkSize),
+                    Math.min(room.gridHeight, (cy + 1) * chunkSize)
+                );
+            }
+        }
+
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-chunk-builder");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        //Com os retângulos do arquivo as montagens apenas leem o buffer, a grid nem é convertida
+        this.premergedRects = room.premergedRects != null && room.premergedRects.getChunkSize() == chunkSize
+            ? room.premergedRects
+            : null;
+
+        //Primeira tarefa da fila, todas as montagens rodam depois dela na mesma thread
+        if (premergedRects == null) {
+            builder.execute(() -> bodyTypes = RoomBodyFactoryHelper.convertToBodyTypeMap(
+                PlayableRoomManager.prepareBodyIdGrid(room)
+            ));
+        }
+    }
+
+    /**
+     * Atualiza os chunks carregados a partir da área da câmera e cria as bodies pendentes
+     *
+     * @param budgetNanos tempo máximo gasto criando bodies neste passo, ao menos um retângulo é criado
+     */
+    public void update(
+        float viewMinX,
+        float viewMinY,
+        float viewMaxX,
+        float viewMaxY,
+        long budgetNanos
+    ) {
+        if (disposed) return;
+
+        updateViewChunks(viewMinX, viewMinY, viewMaxX, viewMaxY);
+
+        unloadFarChunks();
+
+        if (!primed) {
+            primeVisibleChunks();
+            primed = true;
+        } else {
+            requestChunks(ROOM_CHUNK_LOAD_MARGIN);
+        }
+
+        collectFinishedBuilds();
+        applyPendingRects(budgetNanos);
+    }
+
+    /// Converte a área da câmera, em pixels, para o intervalo de chunks que ela cobre
+    private void updateViewChunks(
+        float viewMinX,
+        float viewMinY,
+        float viewMaxX,
+        float viewMaxY
+    ) {
+        int lastRow = room.gridHeight - 1;
+
+        int minCol = (int) Math.floor(viewMinX / TILE_SIZE_PX);
+        int maxCol = (int) Math.floor(viewMaxX / TILE_SIZE_PX);
+
+        //O eixo y da grid é invertido em relação ao mundo, e as tiles são centradas na própria linha
+        int minRow = lastRow - (int) Math.floor(viewMaxY / TILE_SIZE_PX + 0.5f);
+        int maxRow = lastRow - (int) Math.floor(viewMinY / TILE_SIZE_PX + 0.5f);
+
+        viewMinChunkX = Math.floorDiv(minCol, chunkSize);
+        viewMaxChunkX = Math.floorDiv(maxCol, chunkSize);
+        viewMinChunkY = Math.floorDiv(minRow, chunkSize);
+        viewMaxChunkY = Math.floorDiv(maxRow, chunkSize);
+    }
+
+    /// Destrói os chunks fora da área da câmera somada à margem de descarga
+    private void unloadFarChunks() {
+        for (int i = activeChunks.size() - 1; i >= 0; i--) {
+            RoomChunk chunk = activeChunks.get(i);
+
+            if (isInsideView(chunk, ROOM_CHUNK_UNLOAD_MARGIN)) continue;
+
+            //Corpos acordados cairiam sem o chão, e os que dormem também, o Box2D acorda quem perde um contato
+            if (hasDynamicBodies(chunk)) continue;
+
+            unloadChunk(chunk);
+
+            //Remoção por troca com o último, a ordem da lista não importa
+            int last = activeChunks.size() - 1;
+            activeChunks.set(i, activeChunks.get(last));
+            activeChunks.remove(last);
+        }
+    }
+
+    /// Consulta o AABB do chunk no mundo atrás de algum corpo dinâmico
+    private boolean hasDynamicBodies(RoomChunk chunk) {
+        //Sem bodies o chunk não segura nada
+        if (chunk.bodies.isEmpty()) return false;
+
+        int lastRow = room.gridHeight - 1;
+
+        float left = chunk.startX * TILE_SIZE_PX;
+        float right = chunk.endX * TILE_SIZE_PX;
+
+        //O eixo y da grid é invertido em relação ao mundo, e as tiles são centradas na própria linha
+        float top = (lastRow - chunk.startY + 0.5f) * TILE_SIZE_PX;
+        float bottom = (lastRow - (chunk.endY - 1) - 0.5f) * TILE_SIZE_PX;
+
+        dynamicBodyFound = false;
+        world.QueryAABB(
+            dynamicBodyQuery,
+            left / PPM,
+            bottom / PPM,
+            right / PPM,
+            top / PPM
+        );
+
+        return dynamicBodyFound;
+    }
+
+    private void unloadChunk(RoomChunk chunk) {
+        if (chunk.state == RoomChunk.State.READY) {
+            applyQueue.remove(chunk);
+        }
+
+        for (int i = chunk.bodies.size() - 1; i >= 0; i--) {
+            world.destroyBody(chunk.bodies.get(i));
+        }
+
+        loadedBodyCount -= chunk.bodies.size();
+        chunk.bodies.clear();
+
+        //Uma montagem ainda em andamento volta com a geração antiga e é descartada
+        chunk.generation++;
+        chunk.pendingRects = null;
+        chunk.nextRect = 0;
+        chunk.state = RoomChunk.State.UNLOADED;
+    }
+
+    /// Pede a montagem dos chunks descarregados dentro da área da câmera somada à margem
+    private Future<?> requestChunks(int margin) {
+        Future<?> lastRequest = null;
+
+        int minX = Math.max(0, viewMinChunkX - margin);
+        int minY = Math.max(0, viewMinChunkY - margin);
+        int maxX = Math.min(chunksX - 1, viewMaxChunkX + margin);
+        int maxY = Math.min(chunksY - 1, viewMaxChunkY + margin);
+
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                RoomChunk chunk = chunks[cy * chunksX + cx];
+                if (chunk.isActive()) continue;
+
+                chunk.generation++;
+                chunk.state = RoomChunk.State.BUILDING;
+                activeChunks.add(chunk);
+
+                lastRequest = builder.submit(new BuildTask(chunk, chunk.generation));
+            }
+        }
+
+        return lastRequest;
+    }
+
+    /**
+     * Monta e cria na hora os chunks que já estão na tela, para que o primeiro step
+     * não aconteça sem chão. Os da margem seguem pelo caminho normal
+     */
+    private void primeVisibleChunks() {
+        Future<?> lastVisible = requestChunks(0);
+        requestChunks(ROOM_CHUNK_LOAD_MARGIN);
+
+        if (lastVisible == null) return;
+
+        //A thread de construção segue a ordem dos pedidos, o último visível pronto indica todos os visíveis prontos
+        try {
+            lastVisible.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao montar os chunks iniciais da sala", e.getCause());
+        }
+
+        collectFinishedBuilds();
+        applyPendingRects(Long.MAX_VALUE);
+    }
+
+    /// Move as montagens concluídas e ainda válidas para a fila de criação de bodies
+    private void collectFinishedBuilds() {
+        ChunkBuild build;
+        while ((build = finishedBuilds.poll()) != null) {
+            RoomChunk chunk = build.chunk;
+
+            if (build.error != null) {
+                throw new IllegalStateException("Falha ao montar o chunk da sala", build.error);
+            }
+
+            //Chunk descarregado ou pedido de novo enquanto era montado
+            if (chunk.generation != build.generation || chunk.state != RoomChunk.State.BUILDING) continue;
+
+            chunk.pendingRects = build.rects;
+            chunk.nextRect = 0;
+            chunk.state = RoomChunk.State.READY;
+            applyQueue.add(chunk);
+        }
+    }
+
+    /// Cria as bodies dos retângulos pendentes até estourar o tempo do passo
+    private void applyPendingRects(long budgetNanos) {
+        if (applyQueue.isEmpty()) return;
+
+        long deadline = System.nanoTime() + budgetNanos;
+        int totalRows = room.gridHeight;
+
+        while (!applyQueue.isEmpty()) {
+            RoomChunk chunk = applyQueue.peek();
+
+            if (chunk.nextRect < chunk.pendingRects.size()) {
+                int before = chunk.bodies.size();
+
+                RoomBodyFactoryHelper.createRectBodies(
+                    chunk.pendingRects.get(chunk.nextRect++),
+                    world,
+                    totalRows,
+                    chunk.bodies
+                );
+
+                loadedBodyCount += chunk.bodies.size() - before;
+            }
+
+            if (chunk.nextRect >= chunk.pendingRects.size()) {
+                chunk.pendingRects = null;
+                chunk.state = RoomChunk.State.LOADED;
+                applyQueue.poll();
+            }
+
+            //Checado depois de criar, então todo passo avança ao menos um retângulo
+            if (budgetNanos != Long.MAX_VALUE && System.nanoTime() >= deadline) return;
+        }
+    }
+
+    private boolean isInsideView(RoomChunk chunk, int margin) {
+        return chunk.chunkX >= viewMinChunkX - margin
+            && chunk.chunkX <= viewMaxChunkX + margin
+            && chunk.chunkY >= viewMinChunkY - margin
+            && chunk.chunkY <= viewMaxChunkY + margin;
+    }
+
+    /// Destrói todas as bodies dos chunks e encerra a thread de construção
+    public void dispose() {
+        if (disposed) return;
+
+        builder.shutdownNow();
+        try {
+            builder.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (int i = activeChunks.size() - 1; i >= 0; i--) {
+            unloadChunk(activeChunks.get(i));
+        }
+
+        activeChunks.clear();
+        applyQueue.clear();
+        finishedBuilds.clear();
+        bodyTypes = null;
+
+        disposed = true;
+    }
+
+    public int getLoadedBodyCount() {
+        return loadedBodyCount;
+    }
+
+    public int getActiveChunkCount() {
+        return activeChunks.size();
+    }
+
+    public int getChunkCount() {
+        return chunks.length;
+    }
+
+    /// Funde as tiles de um chunk em retângulos, roda na thread de construção
+    private final class BuildTask implements Runnable {
+        private final RoomChunk chunk;
+        private final int generation;
+
+        private BuildTask(RoomChunk chunk, int generation) {
+            this.chunk = chunk;
+            this.generation = generation;
+        }
+
+        @Override
+        public void run() {
+            List<TileRect> rects = new ArrayList<>();
+            RuntimeException error = null;
+
+            try {
+                if (premergedRects != null) {
+                    premergedRects.collectChunk(chunk.chunkX, chunk.chunkY, rects);
+                } else {
+                    RoomBodyFactoryHelper.mergeTileRects(
+                        bodyTypes,
+                        chunk.startX,
+                        chunk.startY,
+                        chunk.endX,
+                        chunk.endY,
+                        rects
+                    );
+                }
+            } catch (RuntimeException e) {
+                error = e;
+            }
+
+            finishedBuilds.add(new ChunkBuild(chunk, generation, rects, error));
+        }
+    }
+
+    /// Resultado de uma montagem, os limites do chunk são imutáveis e os demais campos só a thread de simulação lê
+    private static final class ChunkBuild {
+        private final RoomChunk chunk;
+        private final int generation;
+        private final List<TileRect> rects;
+        private final RuntimeException error;
+
+        private ChunkBuild(
+            RoomChunk chunk,
+            int generation,
+            List<TileRect> rects,
+            RuntimeException error
+        ) {
+            this.chunk = chunk;
+            this.generation = generation;
+            this.rects = rects;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package official.sketchBook.engine.world_gen.io;
+
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
+import official.sketchBook.engine.world_gen.model.RoomLiquidRecord;
+import official.sketchBook.engine.world_gen.model.RoomSpawnRecord;
+
+import java.util.List;
+
+/// Conteúdo de um arquivo de sala: a sala com a grid mapeada, os líquidos e os pontos de criação de objetos
+public class RoomFileData {
+
+    public final PlayableRoom room;
+    public final List<RoomLiquidRecord> liquids;
+    public final List<RoomSpawnRecord> spawns;
+
+    RoomFileData(
+        PlayableRoom room,
+        List<RoomLiquidRecord> liquids,
+        List<RoomSpawnRecord> spawns
+    ) {
+        this.room = room;
+        this.liquids = liquids;
+        this.spawns = spawns;
+    }
+}
@@ -0,0 +1,45 @@
+package official.sketchBook.engine.world_gen.io;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout do arquivo binário de sala, compartilhado entre o RoomFileWriter e o RoomFileReader.
+ * <p>
+ * Todos os valores são little endian. Depois do cabeçalho fixo as seções vêm nesta ordem:
+ * <pre>
+ * modelos de tile   tileModelCount x (int id, int bodyId)
+ * grid              gridHeight x gridWidth x int id, linha por linha
+ * índice de chunks  chunksX x chunksY x (int primeiro retângulo, int quantidade)
+ * retângulos        rectCount x (int tipo de body, int x, int y, int largura, int altura)
+ * spawns            spawnCount x (int tipo, float x, float y, int parâmetro)
+ * líquidos          liquidCount x (int id, float densidade, float arrasto,
+ *                   int bytes do nome, nome em UTF-8, int regiões, regiões x (float x, y, largura, altura))
+ * </pre>
+ * As seções de tamanho fixo vêm antes dos líquidos, assim as views de int continuam alinhadas.
+ */
+public final class RoomFileFormat {
+
+    /// "SBRM" em ASCII
+    public static final int MAGIC = 0x5342524D;
+
+    /// Versão escrita pelo exportador, o leitor aceita qualquer versão até ela
+    public static final int CURRENT_VERSION = 1;
+
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /// magic, versão, id, x, y, largura, altura, chunk, modelos, retângulos, spawns, líquidos
+    public static final int HEADER_BYTES = 12 * Integer.BYTES;
+
+    public static final int TILE_MODEL_BYTES = 2 * Integer.BYTES;
+    public static final int SPAWN_BYTES = 4 * Integer.BYTES;
+    public static final int LIQUID_REGION_BYTES = 4 * Float.BYTES;
+
+    /// id, densidade, arrasto, bytes do nome e quantidade de regiões de cada líquido
+    public static final int LIQUID_HEADER_BYTES = 5 * Integer.BYTES;
+
+    /// Limite do nome de um líquido, um tamanho corrompido não pode pedir um array enorme
+    public static final int MAX_LIQUID_NAME_BYTES = 1024;
+
+    private RoomFileFormat() {
+    }
+}
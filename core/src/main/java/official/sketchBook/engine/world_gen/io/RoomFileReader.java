@@ -0,0 +1,271 @@
+package official.sketchBook.engine.world_gen.io;
+
+import com.badlogic.gdx.physics.box2d.World;
+import official.sketchBook.engine.liquid_related.model.LiquidData;
+import official.sketchBook.engine.liquid_related.util.LiquidRegion;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
+import official.sketchBook.engine.world_gen.model.PremergedRoomRects;
+import official.sketchBook.engine.world_gen.model.RoomLiquidRecord;
+import official.sketchBook.engine.world_gen.model.RoomSpawnRecord;
+import official.sketchBook.engine.world_gen.model.TileModel;
+import official.sketchBook.game.util_related.enumerators.TileBodyType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static official.sketchBook.engine.world_gen.io.RoomFileFormat.*;
+import static official.sketchBook.engine.world_gen.model.PremergedRoomRects.CHUNK_INDEX_INTS;
+import static official.sketchBook.engine.world_gen.model.PremergedRoomRects.RECT_INTS;
+import static official.sketchBook.game.util_related.constants.WorldConstants.TILE_SIZE_PX;
+
+/**
+ * Lê um arquivo de sala escrito pelo RoomFileWriter.
+ * <p>
+ * O arquivo é mapeado em memória e a grid e os retângulos de colisão continuam
+ * nele, como views de int, sem cópia para o heap e sem objeto por tile. Apenas
+ * modelos de tile, spawns e líquidos, que são poucos, viram objetos.
+ * <p>
+ * As bodies não são criadas aqui, a sala segue para PlayableRoomManager.initLoadedRoom.
+ * <p>
+ * Toda quantidade e tamanho lido do arquivo é conferido contra o que sobrou do buffer
+ * antes de alocar ou ler, um arquivo truncado ou corrompido gera IOException.
+ */
+public class RoomFileReader {
+
+    /**
+     * @param path         arquivo da sala
+     * @param physicsWorld mundo físico da sala, pode ser null
+     */
+    public static RoomFileData read(Path path, World physicsWorld) throws IOException {
+        MappedByteBuffer mapped;
+
+        //O mapeamento continua válido depois de fechar o canal
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        return read(mapped, physicsWorld);
+    }
+
+    /// Lê a sala a partir de um buffer já mapeado ou em memória
+    public static RoomFileData read(ByteBuffer source, World physicsWorld) throws IOException {
+        ByteBuffer buffer = source.duplicate().order(BYTE_ORDER);
+        buffer.position(0);
+
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("Arquivo não é uma sala válida");
+        }
+
+        int version = buffer.getInt();
+        if (version < 1 || version > CURRENT_VERSION) {
+            throw new IOException("Versão de sala não suportada: " + version);
+        }
+
+        int roomId = buffer.getInt();
+        float roomX = buffer.getFloat();
+        float roomY = buffer.getFloat();
+        int gridWidth = buffer.getInt();
+        int gridHeight = buffer.getInt();
+        int chunkSize = buffer.getInt();
+        int tileModelCount = buffer.getInt();
+        int rectCount = buffer.getInt();
+        int spawnCount = buffer.getInt();
+        int liquidCount = buffer.getInt();
+
+        if (gridWidth <= 0 || gridHeight <= 0 || chunkSize <= 0) {
+            throw new IOException("Dimensões de sala inválidas");
+        }
+
+        int chunksX = (gridWidth + chunkSize - 1) / chunkSize;
+        int chunksY = (gridHeight + chunkSize - 1) / chunkSize;
+
+        PlayableRoom room = new PlayableRoom(
+            roomId,
+            roomX,
+            roomY,
+            physicsWorld
+        );
+
+        requireSection(buffer, tileModelCount, TILE_MODEL_BYTES, "modelos de tile");
+        for (int i = 0; i < tileModelCount; i++) {
+            int id = buffer.getInt();
+            int bodyId = buffer.getInt();
+
+            room.tileModelIdMap.put(id, new TileModel(id, bodyId));
+        }
+
+        room.gridWidth = gridWidth;
+        room.gridHeight = gridHeight;
+        room.roomWidthPx = gridWidth * TILE_SIZE_PX;
+        room.roomHeightPx = gridHeight * TILE_SIZE_PX;
+        room.mappedGrid = sliceInts(buffer, (long) gridWidth * gridHeight);
+
+        IntBuffer chunkIndex = sliceInts(buffer, (long) chunksX * chunksY * CHUNK_INDEX_INTS);
+        IntBuffer rects = sliceInts(buffer, (long) rectCount * RECT_INTS);
+        validateChunkIndex(chunkIndex, rectCount);
+        validateRects(rects, gridWidth, gridHeight);
+        room.premergedRects = new PremergedRoomRects(
+            chunkSize,
+            chunksX,
+            chunksY,
+            chunkIndex,
+            rects
+        );
+
+        requireSection(buffer, spawnCount, SPAWN_BYTES, "spawns");
+        List<RoomSpawnRecord> spawns = new ArrayList<>(spawnCount);
+        for (int i = 0; i < spawnCount; i++) {
+            spawns.add(
+                new RoomSpawnRecord(
+                    buffer.getInt(),
+                    buffer.getFloat(),
+                    buffer.getFloat(),
+                    buffer.getInt()
+                )
+            );
+        }
+
+        //Cada líquido ocupa ao menos o cabeçalho, o resto é conferido ao ler cada um
+        requireSection(buffer, liquidCount, LIQUID_HEADER_BYTES, "líquidos");
+        List<RoomLiquidRecord> liquids = new ArrayList<>(liquidCount);
+        for (int i = 0; i < liquidCount; i++) {
+            liquids.add(readLiquid(buffer));
+        }
+
+        return new RoomFileData(room, liquids, spawns);
+    }
+
+    /// Confere que count itens de itemBytes cabem no resto do buffer, sem estourar o int
+    private static void requireSection(
+        ByteBuffer buffer,
+        int count,
+        int itemBytes,
+        String section
+    ) throws IOException {
+        if (count < 0) {
+            throw new IOException("Quantidade negativa de " + section + ": " + count);
+        }
+
+        if ((long) count * itemBytes > buffer.remaining()) {
+            throw new IOException("Arquivo de sala truncado na seção de " + section);
+        }
+    }
+
+    /// View de int sobre a próxima seção, avançando o buffer até o fim dela
+    private static IntBuffer sliceInts(ByteBuffer buffer, long count) throws IOException {
+        long bytes = count * Integer.BYTES;
+        if (count < 0 || buffer.remaining() < bytes) {
+            throw new IOException("Arquivo de sala truncado");
+        }
+
+        ByteBuffer section = buffer.slice().order(BYTE_ORDER);
+        section.limit((int) bytes);
+        buffer.position(buffer.position() + (int) bytes);
+
+        return section.asIntBuffer();
+    }
+
+    /// Todo chunk precisa apontar para um intervalo dentro dos retângulos lidos
+    private static void validateChunkIndex(IntBuffer chunkIndex, int rectCount) throws IOException {
+        for (int pos = 0; pos < chunkIndex.limit(); pos += CHUNK_INDEX_INTS) {
+            int first = chunkIndex.get(pos);
+            int count = chunkIndex.get(pos + 1);
+
+            if (first < 0 || count < 0 || (long) first + count > rectCount) {
+                throw new IOException(
+                    "Índice de chunk " + (pos / CHUNK_INDEX_INTS) + " fora dos " + rectCount + " retângulos da sala"
+                );
+            }
+        }
+    }
+
+    /// Todo retângulo precisa ter um tipo de body conhecido e caber inteiro na grid
+    private static void validateRects(IntBuffer rects, int gridWidth, int gridHeight) throws IOException {
+        for (int pos = 0; pos < rects.limit(); pos += RECT_INTS) {
+            int index = pos / RECT_INTS;
+
+            //Ids desconhecidos também viram EMPTY, que não gera body
+            int typeId = rects.get(pos);
+            if (TileBodyType.fromId(typeId) == TileBodyType.EMPTY) {
+                throw new IOException("Retângulo " + index + " com tipo de body inválido: " + typeId);
+            }
+
+            int x = rects.get(pos + 1);
+            int y = rects.get(pos + 2);
+            int width = rects.get(pos + 3);
+            int height = rects.get(pos + 4);
+
+            if (width <= 0 || height <= 0) {
+                throw new IOException("Retângulo " + index + " com tamanho inválido: " + width + "x" + height);
+            }
+
+            if (x < 0 || y < 0 || (long) x + width > gridWidth || (long) y + height > gridHeight) {
+                throw new IOException(
+                    "Retângulo " + index + " fora da grid de " + gridWidth + "x" + gridHeight + " tiles"
+                );
+            }
+        }
+    }
+
+    private static RoomLiquidRecord readLiquid(ByteBuffer buffer) throws IOException {
+        requireSection(buffer, 1, LIQUID_HEADER_BYTES, "líquidos");
+
+        int id = buffer.getInt();
+        float density = buffer.getFloat();
+        float drag = buffer.getFloat();
+
+        int nameBytes = buffer.getInt();
+        if (nameBytes < 0 || nameBytes > MAX_LIQUID_NAME_BYTES) {
+            throw new IOException("Tamanho de nome inválido no líquido " + id + ": " + nameBytes);
+        }
+
+        //O nome e a quantidade de regiões que vem depois dele
+        if (buffer.remaining() < nameBytes + Integer.BYTES) {
+            throw new IOException("Arquivo de sala truncado no líquido " + id);
+        }
+
+        byte[] name = new byte[nameBytes];
+        buffer.get(name);
+
+        int regionCount = buffer.getInt();
+        requireSection(buffer, regionCount, LIQUID_REGION_BYTES, "regiões do líquido " + id);
+        List<LiquidRegion> regions = new ArrayList<>(regionCount);
+        for (int i = 0; i < regionCount; i++) {
+            float x = buffer.getFloat();
+            float y = buffer.getFloat();
+            float width = buffer.getFloat();
+            float height = buffer.getFloat();
+
+            //NaN e infinito passariam por qualquer comparação de sobreposição sem nunca acertar
+            if (!Float.isFinite(x) || !Float.isFinite(y) || !Float.isFinite(width) || !Float.isFinite(height)) {
+                throw new IOException("Região " + i + " do líquido " + id + " com coordenadas inválidas");
+            }
+
+            if (width <= 0 || height <= 0) {
+                throw new IOException(
+                    "Região " + i + " do líquido " + id + " com tamanho inválido: " + width + "x" + height
+                );
+            }
+
+            regions.add(new LiquidRegion(x, y, width, height));
+        }
+
+        return new RoomLiquidRecord(
+            new LiquidData(
+                new String(name, StandardCharsets.UTF_8),
+                id,
+                density,
+                drag
+            ),
+            regions
+        );
+    }
+}
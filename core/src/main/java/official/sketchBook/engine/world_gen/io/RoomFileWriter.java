@@ -0,0 +1,238 @@
+package official.sketchBook.engine.world_gen.io;
+
+import official.sketchBook.engine.game_object_related.base_game_object.BaseRoomGameObject;
+import official.sketchBook.engine.liquid_related.model.LiquidData;
+import official.sketchBook.engine.liquid_related.model.RoomLiquid;
+import official.sketchBook.engine.liquid_related.util.LiquidRegion;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper.TileRect;
+import official.sketchBook.engine.world_gen.PlayableRoomManager;
+import official.sketchBook.engine.world_gen.model.PlayableRoom;
+import official.sketchBook.engine.world_gen.model.RoomLiquidRecord;
+import official.sketchBook.engine.world_gen.model.RoomSpawnRecord;
+import official.sketchBook.engine.world_gen.model.TileModel;
+import official.sketchBook.game.util_related.enumerators.TileBodyType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static official.sketchBook.engine.world_gen.io.RoomFileFormat.*;
+import static official.sketchBook.engine.world_gen.model.PremergedRoomRects.CHUNK_INDEX_INTS;
+import static official.sketchBook.engine.world_gen.model.PremergedRoomRects.RECT_INTS;
+
+/// Exporta uma sala em memória para o formato binário lido pelo RoomFileReader
+public class RoomFileWriter {
+
+    /**
+     * Escreve a sala, os líquidos registrados nela e os pontos de criação informados.
+     * Os retângulos de colisão são fundidos aqui, chunk por chunk, para que a leitura não precise percorrer a grid
+     *
+     * @param room      sala com a grid inicializada
+     * @param spawns    pontos de criação de objetos, pode ser vazia
+     * @param chunkSize lado dos chunks usados na fusão, em tiles
+     * @param path      arquivo de destino, sobrescrito se existir
+     */
+    public static void write(
+        PlayableRoom room,
+        List<RoomSpawnRecord> spawns,
+        int chunkSize,
+        Path path
+    ) throws IOException {
+        write(room, collectRoomLiquids(room), spawns, chunkSize, path);
+    }
+
+    public static void write(
+        PlayableRoom room,
+        List<RoomLiquidRecord> liquids,
+        List<RoomSpawnRecord> spawns,
+        int chunkSize,
+        Path path
+    ) throws IOException {
+        if (room.grid == null && room.mappedGrid == null) {
+            throw new IllegalArgumentException("A sala precisa ter a grid inicializada para ser exportada");
+        }
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Tamanho do chunk deve ser maior que 0");
+        }
+
+        int chunksX = (room.gridWidth + chunkSize - 1) / chunkSize;
+        int chunksY = (room.gridHeight + chunkSize - 1) / chunkSize;
+
+        //Fusão por chunk, os retângulos de um chunk ficam contíguos e o índice aponta para eles
+        TileBodyType[][] bodyTypes = RoomBodyFactoryHelper.convertToBodyTypeMap(
+            PlayableRoomManager.prepareBodyIdGrid(room)
+        );
+
+        List<TileRect> rects = new ArrayList<>();
+        int[] chunkIndex = new int[chunksX * chunksY * CHUNK_INDEX_INTS];
+
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                int first = rects.size();
+
+                RoomBodyFactoryHelper.mergeTileRects(
+                    bodyTypes,
+                    cx * chunkSize,
+                    cy * chunkSize,
+                    Math.min(room.gridWidth, (cx + 1) * chunkSize),
+                    Math.min(room.gridHeight, (cy + 1) * chunkSize),
+                    rects
+                );
+
+                int indexPos = (cy * chunksX + cx) * CHUNK_INDEX_INTS;
+                chunkIndex[indexPos] = first;
+                chunkIndex[indexPos + 1] = rects.size() - first;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(
+            computeSize(room, chunkIndex.length, rects.size(), liquids, spawns)
+        ).order(BYTE_ORDER);
+
+        //Cabeçalho
+        buffer.putInt(MAGIC);
+        buffer.putInt(CURRENT_VERSION);
+        buffer.putInt(room.getRoomId());
+        buffer.putFloat(room.getRoomXPos());
+        buffer.putFloat(room.getRoomYPos());
+        buffer.putInt(room.gridWidth);
+        buffer.putInt(room.gridHeight);
+        buffer.putInt(chunkSize);
+        buffer.putInt(room.tileModelIdMap.size());
+        buffer.putInt(rects.size());
+        buffer.putInt(spawns.size());
+        buffer.putInt(liquids.size());
+
+        for (Map.Entry<Integer, TileModel> entry : room.tileModelIdMap.entrySet()) {
+            TileModel model = entry.getValue();
+            buffer.putInt(model.getId());
+            buffer.putInt(model.getBodyId() != null ? model.getBodyId() : TileBodyType.EMPTY.getId());
+        }
+
+        for (int y = 0; y < room.gridHeight; y++) {
+            for (int x = 0; x < room.gridWidth; x++) {
+                buffer.putInt(room.getTileId(x, y));
+            }
+        }
+
+        for (int value : chunkIndex) {
+            buffer.putInt(value);
+        }
+
+        for (int i = 0; i < rects.size(); i++) {
+            TileRect rect = rects.get(i);
+            buffer.putInt(rect.type.getId());
+            buffer.putInt(rect.x);
+            buffer.putInt(rect.y);
+            buffer.putInt(rect.width);
+            buffer.putInt(rect.height);
+        }
+
+        for (int i = 0; i < spawns.size(); i++) {
+            RoomSpawnRecord spawn = spawns.get(i);
+            buffer.putInt(spawn.type);
+            buffer.putFloat(spawn.x);
+            buffer.putFloat(spawn.y);
+            buffer.putInt(spawn.param);
+        }
+
+        for (int i = 0; i < liquids.size(); i++) {
+            writeLiquid(buffer, liquids.get(i));
+        }
+
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static void writeLiquid(ByteBuffer buffer, RoomLiquidRecord liquid) {
+        LiquidData data = liquid.data;
+        byte[] name = data.name.getBytes(StandardCharsets.UTF_8);
+
+        buffer.putInt(data.id);
+        buffer.putFloat(data.density);
+        buffer.putFloat(data.drag);
+        buffer.putInt(name.length);
+        buffer.put(name);
+
+        buffer.putInt(liquid.regions.size());
+        for (int i = 0; i < liquid.regions.size(); i++) {
+            LiquidRegion region = liquid.regions.get(i);
+            buffer.putFloat(region.getX());
+            buffer.putFloat(region.getY());
+            buffer.putFloat(region.getWidth());
+            buffer.putFloat(region.getHeight());
+        }
+    }
+
+    private static int computeSize(
+        PlayableRoom room,
+        int chunkIndexInts,
+        int rectCount,
+        List<RoomLiquidRecord> liquids,
+        List<RoomSpawnRecord> spawns
+    ) {
+        long size = HEADER_BYTES
+            + (long) room.tileModelIdMap.size() * TILE_MODEL_BYTES
+            + (long) room.gridWidth * room.gridHeight * Integer.BYTES
+            + (long) chunkIndexInts * Integer.BYTES
+            + (long) rectCount * RECT_INTS * Integer.BYTES
+            + (long) spawns.size() * SPAWN_BYTES;
+
+        for (int i = 0; i < liquids.size(); i++) {
+            RoomLiquidRecord liquid = liquids.get(i);
+            int nameBytes = liquid.data.name.getBytes(StandardCharsets.UTF_8).length;
+
+            if (nameBytes > MAX_LIQUID_NAME_BYTES) {
+                throw new IllegalArgumentException("Nome do líquido " + liquid.data.id + " passa de " + MAX_LIQUID_NAME_BYTES + " bytes");
+            }
+
+            size += LIQUID_HEADER_BYTES
+                + nameBytes
+                + (long) liquid.regions.size() * LIQUID_REGION_BYTES;
+        }
+
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Sala grande demais para um único arquivo");
+        }
+
+        return (int) size;
+    }
+
+    /// Líquidos registrados como objetos da sala
+    private static List<RoomLiquidRecord> collectRoomLiquids(PlayableRoom room) {
+        List<RoomLiquidRecord> liquids = new ArrayList<>();
+
+        for (int i = 0; i < room.roomGameObjectList.size(); i++) {
+            BaseRoomGameObject object = room.roomGameObjectList.get(i);
+            if (!(object instanceof RoomLiquid)) continue;
+
+            RoomLiquid liquid = (RoomLiquid) object;
+            liquids.add(
+                new RoomLiquidRecord(
+                    liquid.getLiquidData(),
+                    liquid.regionList
+                )
+            );
+        }
+
+        return liquids;
+    }
+}
@@ -3,12 +3,17 @@ package official.sketchBook.engine.world_gen.model;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.World;
 import official.sketchBook.engine.game_object_related.base_game_object.BaseRoomGameObject;
+import official.sketchBook.engine.liquid_related.util.LiquidRegionIndex;
+import official.sketchBook.engine.world_gen.RoomChunkStreamer;
 
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static official.sketchBook.game.util_related.constants.PhysicsConstants.LIQUID_REGION_INDEX_CELL_SIZE_PX;
+
 public class PlayableRoom {
 
     /// Id da sala
@@ -25,6 +30,12 @@ public class PlayableRoom {
     /// Grade contendo os id das tile
     public int[][] grid;
 
+    /// Grade mapeada direto do arquivo da sala (linha por linha), usada no lugar de grid em salas carregadas
+    public IntBuffer mappedGrid;
+
+    /// Retângulos de colisão já fundidos por chunk vindos do arquivo da sala, null quando precisam ser montados
+    public PremergedRoomRects premergedRects;
+
     /// Dimensões da grid
     public int
         gridWidth,
@@ -45,10 +56,16 @@ public class PlayableRoom {
     /// são na verdade os corpos das tiles e outros elementos nativos exclusivos da room
     public List<Body> nativeBodies;
 
+    /// Carregamento das bodies das tiles por chunks, null quando a sala cria todas de uma vez em nativeBodies
+    public RoomChunkStreamer chunkStreamer;
+
     /// Lista de referência a objetos presentes na sala, são apenas referencias,
     /// e não são gerenciados aqui dentro
     public List<BaseRoomGameObject> roomGameObjectList;
 
+    /// Regiões de líquido da sala, usado quando elas não viram sensores (PhysicsConstants.LIQUID_REGION_INDEX)
+    public final LiquidRegionIndex liquidRegionIndex;
+
     /// Flag que dita se podemos ou acessar o world
     private final boolean physicsWorldAccessible;
 
@@ -69,6 +86,7 @@ public class PlayableRoom {
 
         this.tileModelIdMap = new HashMap<>();               //Inicializamos o hashMap
         roomGameObjectList = new ArrayList<>();
+        liquidRegionIndex = new LiquidRegionIndex(LIQUID_REGION_INDEX_CELL_SIZE_PX);
     }
 
     public void addNewRoomGameObject(BaseRoomGameObject roomObject) {
@@ -89,6 +107,11 @@ public class PlayableRoom {
     }
 
     private void disposeNativeBodies() {
+        if (chunkStreamer != null) {
+            chunkStreamer.dispose();
+            chunkStreamer = null;
+        }
+
         if (!physicsWorldAccessible || nativeBodies == null) return;
         for (int i = nativeBodies.size() - 1; i >= 0; i--) {
             physicsWorld.destroyBody(nativeBodies.get(i));
@@ -99,11 +122,22 @@ public class PlayableRoom {
     private void disposeLists() {
         tileModelIdMap.clear();
         roomGameObjectList.clear();
+        liquidRegionIndex.clear();
 
         if (nativeBodies != null) {
             nativeBodies.clear();
         }
 
+        //O arquivo mapeado é liberado pelo GC junto com os buffers
+        mappedGrid = null;
+        premergedRects = null;
+
+    }
+
+    /// Id da tile na coordenada da grid, independente de a grade estar em memória ou mapeada
+    public int getTileId(int x, int y) {
+        if (mappedGrid != null) return mappedGrid.get(y * gridWidth + x);
+        return grid[y][x];
     }
 
     public boolean isPhysicsWorldAccessible() {
@@ -0,0 +1,97 @@
+package official.sketchBook.engine.world_gen.model;
+
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper.TileRect;
+import official.sketchBook.game.util_related.enumerators.TileBodyType;
+
+import java.nio.IntBuffer;
+import java.util.List;
+
+/**
+ * Retângulos de colisão de uma sala, fundidos chunk por chunk na exportação e
+ * lidos direto do arquivo mapeado. Nenhum retângulo vira objeto até ser pedido.
+ * <p>
+ * Apenas leituras absolutas nos buffers, pode ser lido pela thread de construção
+ * dos chunks enquanto a thread de simulação lê a grid.
+ */
+public class PremergedRoomRects {
+
+    /// Inteiros de cada retângulo no buffer: tipo de body, x, y, largura e altura
+    public static final int RECT_INTS = 5;
+    /// Inteiros de cada chunk no índice: primeiro retângulo e quantidade
+    public static final int CHUNK_INDEX_INTS = 2;
+
+    private final int
+        chunkSize,
+        chunksX,
+        chunksY,
+        rectCount;
+
+    /// Primeiro retângulo e quantidade de retângulos de cada chunk, linha por linha
+    private final IntBuffer chunkIndex;
+    private final IntBuffer rects;
+
+    public PremergedRoomRects(
+        int chunkSize,
+        int chunksX,
+        int chunksY,
+        IntBuffer chunkIndex,
+        IntBuffer rects
+    ) {
+        if (chunkIndex.limit() != chunksX * chunksY * CHUNK_INDEX_INTS || rects.limit() % RECT_INTS != 0) {
+            throw new IllegalArgumentException("Buffers de retângulos incompatíveis com a quantidade de chunks");
+        }
+
+        this.chunkSize = chunkSize;
+        this.chunksX = chunksX;
+        this.chunksY = chunksY;
+        this.rectCount = rects.limit() / RECT_INTS;
+        this.chunkIndex = chunkIndex;
+        this.rects = rects;
+    }
+
+    /// Adiciona os retângulos do chunk em out, em coordenadas da grid
+    public void collectChunk(int chunkX, int chunkY, List<TileRect> out) {
+        int indexPos = (chunkY * chunksX + chunkX) * CHUNK_INDEX_INTS;
+        int first = chunkIndex.get(indexPos);
+        int count = chunkIndex.get(indexPos + 1);
+
+        collectRange(first, count, out);
+    }
+
+    /// Adiciona todos os retângulos da sala em out
+    public void collectAll(List<TileRect> out) {
+        collectRange(0, rectCount, out);
+    }
+
+    private void collectRange(int first, int count, List<TileRect> out) {
+        for (int i = first; i < first + count; i++) {
+            int pos = i * RECT_INTS;
+
+            out.add(
+                new TileRect(
+                    TileBodyType.fromId(rects.get(pos)),
+                    rects.get(pos + 1),
+                    rects.get(pos + 2),
+                    rects.get(pos + 3),
+                    rects.get(pos + 4)
+                )
+            );
+        }
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getChunksX() {
+        return chunksX;
+    }
+
+    public int getChunksY() {
+        return chunksY;
+    }
+
+    public int getRectCount() {
+        return rectCount;
+    }
+}
@@ -0,0 +1,66 @@
+package official.sketchBook.engine.world_gen.model;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import official.sketchBook.engine.util_related.helper.world_gen.RoomBodyFactoryHelper.TileRect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/// Trecho quadrado da grid de uma sala, carregado e descarregado como uma unidade pelo RoomChunkStreamer
+public class RoomChunk {
+
+    public enum State {
+        /// Sem bodies e sem pedido em andamento
+        UNLOADED,
+        /// Retângulos sendo montados na thread de construção
+        BUILDING,
+        /// Retângulos prontos, bodies sendo criadas aos poucos na thread de simulação
+        READY,
+        /// Todas as bodies criadas
+        LOADED
+    }
+
+    /// Coordenada do chunk na grade de chunks
+    public final int
+        chunkX,
+        chunkY;
+
+    /// Limites do chunk na grid da sala, em tiles (fim exclusivo)
+    public final int
+        startX,
+        startY,
+        endX,
+        endY;
+
+    public State state = State.UNLOADED;
+
+    /// Incrementada a cada pedido ou descarga, montagens de gerações antigas são descartadas
+    public int generation = 0;
+
+    /// Retângulos aguardando body e próximo a ser criado, só existem no estado READY
+    public List<TileRect> pendingRects;
+    public int nextRect = 0;
+
+    /// Bodies criadas para o chunk
+    public final List<Body> bodies = new ArrayList<>();
+
+    public RoomChunk(
+        int chunkX,
+        int chunkY,
+        int startX,
+        int startY,
+        int endX,
+        int endY
+    ) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.startX = startX;
+        this.startY = startY;
+        this.endX = endX;
+        this.endY = endY;
+    }
+
+    public boolean isActive() {
+        return state != State.UNLOADED;
+    }
+}
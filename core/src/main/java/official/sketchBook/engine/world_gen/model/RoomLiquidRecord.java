@@ -0,0 +1,21 @@
+package official.sketchBook.engine.world_gen.model;
+
+import official.sketchBook.engine.liquid_related.model.LiquidData;
+import official.sketchBook.engine.liquid_related.util.LiquidRegion;
+
+import java.util.List;
+
+/// Líquido salvo junto com a sala, vira um RoomLiquid quando o manager de objetos estiver disponível
+public class RoomLiquidRecord {
+
+    public final LiquidData data;
+    public final List<LiquidRegion> regions;
+
+    public RoomLiquidRecord(
+        LiquidData data,
+        List<LiquidRegion> regions
+    ) {
+        this.data = data;
+        this.regions = regions;
+    }
+}
@@ -0,0 +1,28 @@
+package official.sketchBook.engine.world_gen.model;
+
+/// Ponto de criação de um objeto salvo junto com a sala, o significado do tipo e do parâmetro fica com o jogo
+public class RoomSpawnRecord {
+
+    /// Tipo do objeto a ser criado
+    public final int type;
+
+    /// Posição em pixels
+    public final float
+        x,
+        y;
+
+    /// Valor livre repassado para quem cria o objeto
+    public final int param;
+
+    public RoomSpawnRecord(
+        int type,
+        float x,
+        float y,
+        int param
+    ) {
+        this.type = type;
+        this.x = x;
+        this.y = y;
+        this.param = param;
+    }
+}
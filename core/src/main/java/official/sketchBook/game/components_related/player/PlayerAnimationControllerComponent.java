@@ -1,19 +1,32 @@
 package official.sketchBook.game.components_related.player;
 
 import official.sketchBook.engine.animation_rendering_related.ObjectAnimationPlayer;
-import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.ParallelComponent;
 import official.sketchBook.engine.components_related.system_utils.UpdateRateLimiter;
 import official.sketchBook.game.gameObject_related.Player;
 
 import static official.sketchBook.game.util_related.constants.GameConfigConstants.ANIMATION_UPDATE_RATE;
 import static official.sketchBook.game.util_related.values.AnimationKeys.Entities.*;
 
-public class PlayerAnimationControllerComponent implements Component {
+public class PlayerAnimationControllerComponent implements ParallelComponent {
 
     private Player player;
     private ObjectAnimationPlayer currentAniPlayer;
     private final UpdateRateLimiter rateLimiter;
 
+    /// Velocidade vertical do corpo capturada no postUpdate, a fase paralela não lê o Box2D
+    private float cachedVelY = 0f;
+
+    /// Valor que indica que a propriedade não deve ser alterada no merge
+    private static final int KEEP = -1;
+
+    /// Decisão calculada na fase paralela e aplicada no merge
+    private String pendingAnimationKey;
+    private int
+        pendingLooping = KEEP,
+        pendingAutoUpdate = KEEP,
+        pendingAniTick = KEEP;
+
     private boolean disposed = false;
 
     public PlayerAnimationControllerComponent(Player player) {
@@ -26,7 +39,8 @@ public class PlayerAnimationControllerComponent implements Component {
 
 
     @Override
-    public void update(float delta) {
+    public void parallelUpdate(float delta) {
+        clearDecision();
 
         if(!rateLimiter.shouldUpdate(delta)) return;
 
@@ -42,31 +56,50 @@ public class PlayerAnimationControllerComponent implements Component {
 
     }
 
+    @Override
+    public void mergeParallelResult() {
+        if (pendingAnimationKey == null || currentAniPlayer == null) return;
+
+        currentAniPlayer.playAnimation(pendingAnimationKey);
+
+        if (pendingLooping != KEEP) currentAniPlayer.setAnimationLooping(pendingLooping == 1);
+        if (pendingAutoUpdate != KEEP) currentAniPlayer.setAutoUpdateAni(pendingAutoUpdate == 1);
+        if (pendingAniTick != KEEP) currentAniPlayer.setAniTick(pendingAniTick);
+
+        clearDecision();
+    }
+
+    /// Registra a animação a ser aplicada no merge
+    private void decide(String animationKey, int looping, int autoUpdate, int aniTick) {
+        pendingAnimationKey = animationKey;
+        pendingLooping = looping;
+        pendingAutoUpdate = autoUpdate;
+        pendingAniTick = aniTick;
+    }
+
+    private void clearDecision() {
+        pendingAnimationKey = null;
+        pendingLooping = KEEP;
+        pendingAutoUpdate = KEEP;
+        pendingAniTick = KEEP;
+    }
+
     private boolean handleJumpAnimation(ObjectAnimationPlayer ani) {
-        float vy = player.getBody().getLinearVelocity().y;
+        float vy = cachedVelY;
 
         // Só entramos aqui enquanto estivermos no ar
         if (!player.isOnGround()) {
             // 1) Subida plena: vy acima do threshold de stall
             if (vy > 0.15f) {
-                ani.playAnimation(jump);
-                ani.setAnimationLooping(false);
-                ani.setAutoUpdateAni(false);
-                ani.setAniTick(0);
+                decide(jump, 0, 0, 0);
 
                 // 2) Stall (pico do salto): vy próximo de zero, dentro do intervalo [-t, +t]
             } else if (Math.abs(vy) <= player.getJumpC().fallSpeedAfterJCancel) {
-                ani.playAnimation(jump);
-                ani.setAnimationLooping(false);
-                ani.setAutoUpdateAni(false);
-                ani.setAniTick(1);
+                decide(jump, 0, 0, 1);
 
                 // 3) Queda: vy negativo além do stall threshold
             } else {
-                ani.playAnimation(fall);
-                ani.setAnimationLooping(false);
-                ani.setAutoUpdateAni(false);
-                ani.setAniTick(0);
+                decide(fall, 0, 0, 0);
             }
 
             return true;
@@ -74,9 +107,7 @@ public class PlayerAnimationControllerComponent implements Component {
 
         // Quando tocar o chão, entramos no afterFall
         if (player.getJumpC().hasLanded() && !player.getMoveC().dataComponent.xAxis.isMoving()) {
-            ani.playAnimation(afterFall);
-            ani.setAnimationLooping(false);
-            ani.setAutoUpdateAni(true);
+            decide(afterFall, 0, 1, KEEP);
             return true;
         }
 
@@ -95,10 +126,8 @@ public class PlayerAnimationControllerComponent implements Component {
         }
 
         // queda livre normal (loop)
-        if (player.getBody().getLinearVelocity().y < 0) {
-            ani.playAnimation(fall);
-            ani.setAnimationLooping(true);
-            ani.setAutoUpdateAni(true);
+        if (cachedVelY < 0) {
+            decide(fall, 1, 1, KEEP);
         }
 
         return true;
@@ -107,8 +136,7 @@ public class PlayerAnimationControllerComponent implements Component {
     private boolean handleRunAnimation(ObjectAnimationPlayer animationPlayer) {
         if (!player.isOnGround() || !player.getMoveC().dataComponent.xAxis.isMoving() || isPlayingAfterFall(animationPlayer)) return false;
 
-        animationPlayer.setAutoUpdateAni(true);
-        animationPlayer.playAnimation(run);
+        decide(run, KEEP, 1, KEEP);
 
         return true;
     }
@@ -116,8 +144,7 @@ public class PlayerAnimationControllerComponent implements Component {
     private void handleIdleAnimation(ObjectAnimationPlayer animationPlayer) {
         if (isPlayingAfterFall(animationPlayer)) return;
 
-        animationPlayer.setAutoUpdateAni(true);
-        animationPlayer.playAnimation(idle);
+        decide(idle, KEEP, 1, KEEP);
     }
 
     public boolean isPlayingAfterFall(ObjectAnimationPlayer ani) {
@@ -125,9 +152,11 @@ public class PlayerAnimationControllerComponent implements Component {
             && !ani.isAnimationFinished();
     }
 
+    /// Roda na thread do Box2D, depois do step, guardando o que a fase paralela precisa do corpo
     @Override
     public void postUpdate() {
-
+        if (player == null) return;
+        cachedVelY = player.getBody().getLinearVelocity().y;
     }
 
     @Override
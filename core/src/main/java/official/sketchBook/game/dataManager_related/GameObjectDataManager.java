@@ -8,6 +8,9 @@ import official.sketchBook.game.components_related.vehicle.VehicleControllerComp
 import official.sketchBook.game.components_related.vehicle.VehicleDoor;
 import official.sketchBook.game.components_related.vehicle.VehicleEngineComponent;
 import official.sketchBook.engine.data_manager_related.PhysicalGameObjectDataManager;
+import official.sketchBook.engine.data_manager_related.util.UpdateLodPolicy;
+import official.sketchBook.engine.game_object_related.animated_renderable_game_object.AnimatedRenderableGameObject;
+import official.sketchBook.engine.game_object_related.animated_renderable_game_object.AnimatedRenderableRoomGameObject;
 import official.sketchBook.engine.game_object_related.vehicle_related.Submarine;
 import official.sketchBook.engine.game_object_related.vehicle_related.SubmarineNode;
 import official.sketchBook.engine.game_object_related.vehicle_related.SubmarinePart;
@@ -18,7 +21,6 @@ import official.sketchBook.engine.util_related.contact_listener.ContactUtils;
 import official.sketchBook.engine.util_related.contact_listener.listeners.*;
 import official.sketchBook.engine.util_related.helper.body.FixtureData;
 import official.sketchBook.engine.util_related.pools.GlobalProjectilePool;
-import official.sketchBook.engine.util_related.pools.RayCastPool;
 import official.sketchBook.engine.world_gen.PlayableRoomManager;
 import official.sketchBook.engine.world_gen.model.PlayableRoom;
 import official.sketchBook.game.gameObject_related.Player;
@@ -28,6 +30,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static official.sketchBook.engine.util_related.enumerators.CollisionLayers.*;
+import static official.sketchBook.game.util_related.constants.GameConfigConstants.*;
 import static official.sketchBook.game.util_related.constants.RenderingConstants.TILES_VIEW_HEIGHT;
 import static official.sketchBook.game.util_related.constants.RenderingConstants.TILES_VIEW_WIDTH;
 
@@ -62,7 +65,6 @@ public class GameObjectDataManager extends PhysicalGameObjectDataManager {
 
     private void initPools() {
         globalProjectilePool = new GlobalProjectilePool();
-        RayCastPool.getInstance(physicsWorld);
         this.initPoolFactories();
     }
 
@@ -77,6 +79,21 @@ public class GameObjectDataManager extends PhysicalGameObjectDataManager {
 
         initPools();
 
+        //Componentes de lógica pura em paralelo, quando configurado
+        if (PARALLEL_COMPONENT_UPDATE) {
+            enableParallelUpdate(
+                PARALLEL_UPDATE_THREADS,
+                PARALLEL_UPDATE_BATCH_SIZE
+            );
+        }
+
+        //Objetos animados fora da tela atualizam menos ou dormem, quando configurado
+        if (UPDATE_LOD_ENABLED) {
+            UpdateLodPolicy lodPolicy = UpdateLodPolicy.fromConfig();
+            setUpdateLodPolicy(AnimatedRenderableGameObject.class, lodPolicy);
+            setUpdateLodPolicy(AnimatedRenderableRoomGameObject.class, lodPolicy);
+        }
+
         //Inicializa o manager de salas
         roomManager = new PlayableRoomManager();
 
@@ -476,6 +493,21 @@ public class GameObjectDataManager extends PhysicalGameObjectDataManager {
         globalProjectilePool.updatePoolProjectiles(delta);
     }
 
+    @Override
+    protected void beforeWorldStep(float delta) {
+        //Projéteis pedidos por outras threads entram no mundo junto com o step
+        globalProjectilePool.processSpawnRequests();
+
+        //Chunks da sala ao redor da câmera, as bodies novas entram no mesmo step
+        roomManager.updateRoomStreaming(
+            currentRoom,
+            cachedCamX - cachedCamWidth * 0.5f,
+            cachedCamY - cachedCamHeight * 0.5f,
+            cachedCamX + cachedCamWidth * 0.5f,
+            cachedCamY + cachedCamHeight * 0.5f
+        );
+    }
+
     @Override
     protected void postUpdateGameObjects() {
         super.postUpdateGameObjects();
@@ -504,6 +536,13 @@ public class GameObjectDataManager extends PhysicalGameObjectDataManager {
         cachedCamY = gameCamera.getCamera().position.y;
         cachedCamWidth = gameCamera.getCamera().viewportWidth * gameCamera.getCamera().zoom;
         cachedCamHeight = gameCamera.getCamera().viewportHeight * gameCamera.getCamera().zoom;
+
+        setUpdateLodView(
+            cachedCamX - cachedCamWidth * 0.5f,
+            cachedCamY - cachedCamHeight * 0.5f,
+            cachedCamX + cachedCamWidth * 0.5f,
+            cachedCamY + cachedCamHeight * 0.5f
+        );
     }
 
     private int[][] initBaseTileMap() {
@@ -2,7 +2,7 @@ package official.sketchBook.game.gameObject_related;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -26,7 +26,7 @@ import official.sketchBook.engine.util_related.enumerators.ObjectType;
 import official.sketchBook.engine.util_related.enumerators.RoomObjectScope;
 import official.sketchBook.engine.util_related.helper.GameObjectTag;
 import official.sketchBook.engine.util_related.helper.body.BodyCreatorHelper;
-import official.sketchBook.engine.util_related.pools.RayCastPool;
+import official.sketchBook.engine.util_related.texture.SpriteSheetAtlas;
 import official.sketchBook.engine.world_gen.model.PlayableRoom;
 import official.sketchBook.game.components_related.player.PlayerAnimationControllerComponent;
 import official.sketchBook.game.components_related.player.PlayerControllerComponent;
@@ -51,7 +51,7 @@ public class Player extends AnimatedRenderableRoomGameObject
     private boolean inScreen = true;
 
     public static boolean sheetDisposed = false;
-    public static Texture playerSheet;
+    public static TextureRegion playerSheet;
 
     /// Controlador estatico do player
     private static PlayerControllerComponent controllerC;
@@ -59,8 +59,8 @@ public class Player extends AnimatedRenderableRoomGameObject
     private MovementComponent moveC;
     /// Componente de aplicação de movimento ao corpo físico
     private MovableObjectPhysicsComponent physicsC;
-    /// Componente de detecção de colisão com rayCast
-    private RayCastGroundDetectionComponent groundDetection;
+    /// Componente de detecção de chão, pela grid da sala ou por rayCast
+    private GroundSensingComponent groundDetection;
     /// Componente de pulo
     private JumpComponent jumpC;
 
@@ -157,7 +157,7 @@ public class Player extends AnimatedRenderableRoomGameObject
         this.managerC.add(
             new PlayerAnimationControllerComponent(this),
             true,
-            false
+            true
         );
     }
 
@@ -182,9 +182,9 @@ public class Player extends AnimatedRenderableRoomGameObject
     }
 
     private void initGroundDetectionComponent() {
-        this.groundDetection = new RayCastGroundDetectionComponent(
+        this.groundDetection = new GroundSensingComponent(
             this,
-            RayCastPool.getInstance(),
+            getPhysicalManager().getGroundSensingService(),
             ObjectType.ENVIRONMENT,
             ObjectType.VEHICLE
         );
@@ -283,7 +283,7 @@ public class Player extends AnimatedRenderableRoomGameObject
 
     private void initRenderingComponent() {
         if (playerSheet == null) {
-            playerSheet = new Texture(GameAssetsPaths.EntitiesAssetsPaths.PLAYER_SHEET_PATH);
+            playerSheet = SpriteSheetAtlas.getRegion(GameAssetsPaths.EntitiesAssetsPaths.PLAYER_SHEET_PATH);
         }
 
         ObjectAnimationPlayer aniPlayer = new ObjectAnimationPlayer();
@@ -450,7 +450,7 @@ public class Player extends AnimatedRenderableRoomGameObject
         return groundDetection.isOnGround();
     }
 
-    public RayCastGroundDetectionComponent getGroundDetectionC() {
+    public GroundSensingComponent getGroundDetectionC() {
         return groundDetection;
     }
 
@@ -503,7 +503,7 @@ public class Player extends AnimatedRenderableRoomGameObject
 
     private static void disposeSheet() {
         if (sheetDisposed) return;
-        playerSheet.dispose();
+        //A textura pertence ao atlas compartilhado, que é liberado pelo SpriteSheetAtlas
 
         playerSheet = null;
 
@@ -9,16 +9,19 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 import official.sketchBook.engine.AppMain;
 import official.sketchBook.engine.camera_related.OrthographicCameraManager;
+import official.sketchBook.engine.components_related.system_utils.MultiThreadRenderSystem;
+import official.sketchBook.engine.components_related.system_utils.MultiThreadUpdateSystem;
 import official.sketchBook.engine.components_related.system_utils.SingleThreadRenderSystem;
 import official.sketchBook.engine.components_related.system_utils.SingleThreadUpdateSystem;
 import official.sketchBook.engine.game_object_related.projectile_related.util.Emitter;
 import official.sketchBook.engine.screen_related.BaseScreen;
-import official.sketchBook.engine.util_related.pools.RayCastPool;
+import official.sketchBook.engine.components_related.ray_cast.RayCastService;
 import official.sketchBook.game.dataManager_related.GameObjectDataManager;
 import official.sketchBook.game.gameObject_related.Player;
 import official.sketchBook.game.projectile_related.model.Bullet;
 
 import static official.sketchBook.game.util_related.constants.DebugConstants.*;
+import static official.sketchBook.game.util_related.constants.GameConfigConstants.MULTI_THREADED_PIPELINE;
 import static official.sketchBook.game.util_related.constants.PhysicsConstants.*;
 import static official.sketchBook.game.util_related.constants.RenderingConstants.*;
 import static official.sketchBook.game.util_related.constants.WorldConstants.PlayerConstants.HEIGHT;
@@ -80,19 +83,7 @@ public class PlayScreen extends BaseScreen {
         gameCameraManager.setZoom(ZOOM);
 
         //Cria os sistemas de render e update
-        this.renderSystem = new SingleThreadRenderSystem(
-            this,
-            worldManager,
-            this.app.gameBatch,
-            this.gameCameraManager.getCamera(),
-            this.app.uiBatch,
-            this.uiCameraManager.getCamera()
-        );
-
-        this.updateSystem = new SingleThreadUpdateSystem(
-            worldManager,
-            this
-        );
+        initRenderAndUpdateSystems();
 
         //Cria o jogador principal e Informa ao manager qual é o jogador principal
         worldManager.mainPlayer = new Player(
@@ -114,6 +105,43 @@ public class PlayScreen extends BaseScreen {
         testEmitter.configure(Bullet.class);
     }
 
+    /// Escolhe entre a pipeline de thread única e a pipeline com simulação em thread própria
+    private void initRenderAndUpdateSystems() {
+        if (MULTI_THREADED_PIPELINE) {
+            MultiThreadUpdateSystem pipelinedUpdateSystem = new MultiThreadUpdateSystem(
+                worldManager,
+                this
+            );
+
+            this.renderSystem = new MultiThreadRenderSystem(
+                this,
+                worldManager,
+                this.app.gameBatch,
+                this.gameCameraManager.getCamera(),
+                this.app.uiBatch,
+                this.uiCameraManager.getCamera(),
+                pipelinedUpdateSystem
+            );
+
+            this.updateSystem = pipelinedUpdateSystem;
+            return;
+        }
+
+        this.renderSystem = new SingleThreadRenderSystem(
+            this,
+            worldManager,
+            this.app.gameBatch,
+            this.gameCameraManager.getCamera(),
+            this.app.uiBatch,
+            this.uiCameraManager.getCamera()
+        );
+
+        this.updateSystem = new SingleThreadUpdateSystem(
+            worldManager,
+            this
+        );
+    }
+
     @Override
     public void updateScreen(float delta) {
         super.updateScreen(delta);
@@ -197,14 +225,14 @@ public class PlayScreen extends BaseScreen {
             );
         }
 
-        RayCastPool rcPool = RayCastPool.getInstance();
-        if(show_ray_cast && rcPool != null){
+        RayCastService rayCastService = worldManager.getRayCastService();
+        if(show_ray_cast && rayCastService != null){
 
-            rcPool.renderDebug(
+            rayCastService.renderDebug(
                 gameCameraManager.getCamera().combined.scl(PPM)
             );
 
-            rcPool.freeAllActive();
+            rayCastService.clearDebug();
         }
     }
 
@@ -1,5 +1,7 @@
 package official.sketchBook.game.util_related.constants;
 
+import static official.sketchBook.game.util_related.constants.WorldConstants.TILE_SIZE_PX;
+
 public class GameConfigConstants {
     public static float
         FPS_TARGET,
@@ -10,15 +12,65 @@ public class GameConfigConstants {
         PASSENGER_POSITION_MASS_CALC_RATE
     ;
 
+    /// Define se o loop de update usa passo fixo (accumulator) ou o delta bruto do LibGDX
+    public static boolean FIXED_TIMESTEP_ENABLED;
+
+    /// Tamanho do passo fixo de simulação em segundos, derivado de FPS_TARGET
+    public static float FIXED_TIMESTEP;
+
+    /// Limite de delta aceito por frame, evita a "espiral da morte" após travadas longas
+    public static float MAX_FRAME_TIME;
+
+    /// Quantidade máxima de passos fixos executados em um único frame
+    public static int MAX_SUBSTEPS;
+
+    /// Define se a simulação roda em uma thread própria, em pipeline com a renderização
+    public static boolean MULTI_THREADED_PIPELINE;
+
+    /// Define se os componentes de lógica pura (ParallelComponent) são atualizados em paralelo
+    public static boolean PARALLEL_COMPONENT_UPDATE;
+
+    /// Threads e tamanho de lote da fase de update paralelo
+    public static int
+        PARALLEL_UPDATE_THREADS,
+        PARALLEL_UPDATE_BATCH_SIZE;
+
+    /// Define se objetos fora da tela atualizam em taxa reduzida ou dormem (LOD de simulação)
+    public static boolean UPDATE_LOD_ENABLED;
+
+    /// Valores da política de LOD padrão
+    public static float
+        UPDATE_LOD_NEAR_MARGIN_PX,      //Distância da tela em que ainda atualizamos em taxa reduzida
+        UPDATE_LOD_REDUCED_RATE,        //Atualizações por segundo perto da tela
+        UPDATE_LOD_SLEEP_CHECK_RATE,    //PostUpdates por segundo de objetos dormindo
+        UPDATE_LOD_MAX_CATCH_UP;        //Maior delta entregue ao acordar
+
     static {
         UPDATE_TIME_SCALE = 1f;
 
+        FIXED_TIMESTEP_ENABLED = true;
+        MAX_FRAME_TIME = 0.25f;
+        MAX_SUBSTEPS = 5;
+
+        MULTI_THREADED_PIPELINE = false;
+
+        PARALLEL_COMPONENT_UPDATE = false;
+        PARALLEL_UPDATE_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        PARALLEL_UPDATE_BATCH_SIZE = 32;
+
+        UPDATE_LOD_ENABLED = false;
+        UPDATE_LOD_NEAR_MARGIN_PX = TILE_SIZE_PX * 32;
+        UPDATE_LOD_SLEEP_CHECK_RATE = 2f;
+        UPDATE_LOD_MAX_CATCH_UP = 0.25f;
+
         UPDATE_TARGET_FPS(60);
     }
 
     public static void UPDATE_TARGET_FPS(float newFPS) {
         FPS_TARGET = newFPS;
+        FIXED_TIMESTEP = 1f / FPS_TARGET;
         ANIMATION_UPDATE_RATE = FPS_TARGET / 2;
         PASSENGER_POSITION_MASS_CALC_RATE = FPS_TARGET / 2;
+        UPDATE_LOD_REDUCED_RATE = FPS_TARGET / 4;
     }
 }
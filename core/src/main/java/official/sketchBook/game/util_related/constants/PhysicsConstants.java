@@ -10,6 +10,40 @@ public class PhysicsConstants {
     /// Iterações de posição para o box2d
     public static int POSITION_ITERATIONS;
 
+    /// Grava begin, end e postSolve durante o step e entrega os eventos em lote depois dele
+    public static boolean DEFERRED_CONTACT_EVENTS = false;
+    /// Capacidade inicial do buffer de eventos adiados, dobra caso um step gere mais eventos
+    public static final int DEFERRED_CONTACT_BUFFER_CAPACITY = 1024;
+
+    /// Capacidade inicial de raios e acertos por tick do RayCastService, dobra quando um tick passa disso
+    public static final int
+        RAYCAST_INITIAL_RAYS = 64,
+        RAYCAST_INITIAL_HITS = 128;
+
+    /// Detecção de chão responde pela grid da sala antes de lançar raios (GroundSensingService)
+    public static boolean GROUND_GRID_SENSING = true;
+
+    /// Passageiros de um SubmarineNode são carregados pelo piso kinematic do corpo interno, sem setTransform por tick
+    public static boolean PASSENGER_KINEMATIC_CARRY = false;
+
+    /// Erro de posição do corpo interno para o casco, em metros, a partir do qual ele volta a ser teleportado
+    public static final float INTERNAL_BODY_SNAP_DISTANCE = 0.5f;
+
+    /// Conta as chamadas ao Box2D feitas e evitadas pelo BodyStateShadow a cada tick (BodyJniCounter)
+    public static boolean BODY_JNI_COUNTER = false;
+
+    /// Regiões de líquido ficam num índice espacial da sala, consultado pelos componentes, em vez de virarem sensores
+    public static boolean LIQUID_REGION_INDEX = false;
+    /// Tamanho da célula do índice de regiões de líquido, em pixels
+    public static final float LIQUID_REGION_INDEX_CELL_SIZE_PX = 256;
+
+    /// Resolve o empuxo de todos os corpos submersos em lote, antes do step, em vez de um por um no update
+    public static boolean BATCHED_BUOYANCY = true;
+    /// Threads do cálculo de empuxo em lote, 1 para calcular só na thread de simulação
+    public static int BUOYANCY_SOLVER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    /// Corpos por tarefa do cálculo em lote, com menos corpos que isso tudo roda em uma thread só
+    public static final int BUOYANCY_SOLVER_BATCH_SIZE = 64;
+
     static {
         VELOCITY_ITERATIONS = 8;
         POSITION_ITERATIONS = 3;
@@ -22,6 +22,15 @@ public class RenderingConstants {
         INITIAL_CAPACITY = 8,       //Balde de objetos
         DEFAULT_BUCKET_SIZE = 32;   //Quantidade por balde
 
+    ///Constantes do atlas de sprite sheets empacotado em tempo de carregamento
+    public static final int
+        ATLAS_PAGE_SIZE = 2048,     //Largura e altura de cada página
+        ATLAS_PAGE_PADDING = 2;     //Espaço entre sheets, evita vazamento de pixels vizinhos
+
+    ///Constantes do grid espacial usado no culling de renderização
+    public static final float CULLING_CELL_SIZE_PX = TILE_SIZE_PX * 16;     //Tamanho de cada célula
+    public static final int CULLING_MAX_CELLS_PER_OBJECT = 256;             //Acima disso o objeto é testado todo frame
+
     static {
 
         updateZoom(1);
@@ -14,6 +14,51 @@ public class WorldConstants {
 
         public static final float POOL_CLEAN_INTERVAL_S = 8f;
         public static final float POOL_REMOVE_INTERVAL_S = 8f;
+
+        /// Pedidos de spawn vindos de outras threads que podem aguardar ao mesmo tempo
+        public static final int SPAWN_QUEUE_CAPACITY = 4096;
+        /// Pedidos de spawn ativados por passo, o resto fica para os próximos passos
+        public static final int MAX_SPAWN_REQUESTS_PER_STEP = 512;
+    }
+
+    public static class RoomStreamingConstants {
+        /// Divide a sala em chunks carregados ao redor da câmera em vez de criar todas as bodies na inicialização
+        public static boolean ROOM_STREAMING = false;
+        /// Lado de cada chunk, em tiles
+        public static final int ROOM_CHUNK_SIZE_TILES = 32;
+
+        /// Chunks além da área da câmera que carregamos antes de aparecerem
+        public static final int ROOM_CHUNK_LOAD_MARGIN = 1;
+        /// Chunks além da área da câmera mantidos antes de descarregar, maior que a margem de carga para não oscilar
+        public static final int ROOM_CHUNK_UNLOAD_MARGIN = 2;
+
+        /// Tempo máximo por passo gasto criando bodies de chunks prontos, em milissegundos
+        public static final float ROOM_CHUNK_APPLY_BUDGET_MS = 2f;
+    }
+
+    public static class LiquidSurfaceConstants {
+        /// Distância entre as colunas da superfície e limite de colunas por região
+        public static final float SURFACE_COLUMN_SPACING_PX = TILE_SIZE_PX;
+        public static final int
+            SURFACE_MIN_COLUMNS = 2,
+            SURFACE_MAX_COLUMNS = 256;
+
+        /// Molas das colunas: retorno ao repouso, acoplamento com as vizinhas e amortecimento
+        public static final float
+            SURFACE_TENSION = 40f,
+            SURFACE_SPREAD = 900f,
+            SURFACE_DAMPING = 3f;
+
+        /// Maior deslocamento de uma coluna em relação ao repouso, em pixels
+        public static final float SURFACE_MAX_AMPLITUDE_PX = TILE_SIZE_PX * 2;
+
+        /// Abaixo disso (pixels e pixels/s) todas as colunas voltam ao repouso e a região para de simular
+        public static final float SURFACE_SETTLE_EPSILON = 0.05f;
+
+        /// Parcela da velocidade vertical do objeto (já em px/s) passada para a coluna a cada passo
+        public static final float SURFACE_DISTURB_SCALE = 0.05f;
+        /// Velocidade vertical mínima (m/s) para um objeto perturbar a superfície
+        public static final float SURFACE_DISTURB_MIN_SPEED = 0.25f;
     }
 
     public static class ProjectileConstants {
@@ -55,6 +55,8 @@ public enum TileBodyType {
         true
     );
 
+    private static final TileBodyType[] VALUES = values();
+
     /// Id com o qual podemos identificar a tile
     private final int id;
     /// Se o bloco é sólido, ou seja se pode interagir com outros blocos sólidos
@@ -129,7 +131,8 @@ public enum TileBodyType {
     }
 
     public static TileBodyType fromId(int id) {
-        for (TileBodyType type : values()) {
+        //values() clona o array a cada chamada, e isso roda por tile na detecção de chão
+        for (TileBodyType type : VALUES) {
             if (type.id == id) return type;
         }
         return EMPTY;
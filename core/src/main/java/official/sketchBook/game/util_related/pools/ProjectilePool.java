@@ -15,7 +15,6 @@ import static official.sketchBook.game.util_related.constants.WorldConstants.Pro
 public class ProjectilePool<T extends BaseProjectile> extends CustomPool<T> implements com.badlogic.gdx.utils.Disposable {
 
     protected RenderableObjectManager renderTree;
-    protected Array<T> activeProjectiles;
     protected Class<T> projectileType;
 
     private boolean disposed;
@@ -26,7 +25,6 @@ public class ProjectilePool<T extends BaseProjectile> extends CustomPool<T> impl
     ) {
         super(16, MAX_PROJECTILE_PER_POOL);
         this.projectileType = projectileType;
-        this.activeProjectiles = new Array<>(false, 64);
         this.renderTree = renderTree;
     }
 
@@ -38,8 +36,8 @@ public class ProjectilePool<T extends BaseProjectile> extends CustomPool<T> impl
     /// faz com que todos os projéteis ativos sejam desativados
     public void releaseAllProjectiles() {
         //Percorre a lista de projéteis ativos de cima pra baixo
-        for (int i = activeProjectiles.size - 1; i >= 0; i--) {
-            free(activeProjectiles.get(i));
+        for (int i = activeObjects.size - 1; i >= 0; i--) {
+            free(activeObjects.get(i));
         }
     }
 
@@ -70,7 +68,6 @@ public class ProjectilePool<T extends BaseProjectile> extends CustomPool<T> impl
     @SuppressWarnings("unchecked")
     public void free(BaseProjectile projectile) {
         super.free((T) projectile);
-        activeProjectiles.removeValue((T) projectile, true);
         //Caso possamos renderizar o projétil removemos ele
         tryRemoveFromRender(
             renderTree,
@@ -85,14 +82,14 @@ public class ProjectilePool<T extends BaseProjectile> extends CustomPool<T> impl
     }
 
     public void updateActiveProjectiles(float delta) {
-        for(int i = 0; i < activeProjectiles.size; i++){
-            activeProjectiles.get(i).update(delta);
+        for(int i = 0; i < activeObjects.size; i++){
+            activeObjects.get(i).update(delta);
         }
     }
 
     public void postUpdateActiveProjectiles() {
-        for(int i = 0; i < activeProjectiles.size; i++){
-            activeProjectiles.get(i).postUpdate();
+        for(int i = 0; i < activeObjects.size; i++){
+            activeObjects.get(i).postUpdate();
         }
     }
 
@@ -124,14 +121,14 @@ public class ProjectilePool<T extends BaseProjectile> extends CustomPool<T> impl
 
     protected void clearLists() {
         freeObjects.clear();
-        activeProjectiles.clear();
+        activeObjects.clear();
     }
 
+    /// O projétil já entra na lista de ativos pelo obtain, aqui só garantimos isso e registramos no render
     @SuppressWarnings("unchecked")
     public void addToActive(BaseProjectile proj) {
         if(proj.isReset()) return;
-        this.activeProjectiles.add((T) proj);
-        this.freeObjects.removeValue((T) proj, true);
+        moveToActive((T) proj);
         tryAddToRender(
             renderTree,
             proj
@@ -139,11 +136,11 @@ public class ProjectilePool<T extends BaseProjectile> extends CustomPool<T> impl
     }
 
     public boolean canSpawnNewProjectile() {
-        return activeProjectiles.size < max;
+        return activeObjects.size < max;
     }
 
     public Array<T> getActiveProjectiles() {
-        return activeProjectiles;
+        return activeObjects;
     }
 
     public Class<T> getProjectileType() {